@@ -0,0 +1,47 @@
+package com.automation.framework.benchmarks;
+
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.CommandLineOptionException;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.io.File;
+
+/**
+ * Entry point of benchmarks.jar.
+ * Accepts the usual JMH command line and, unless overridden with -rf/-rff,
+ * writes machine-readable results to target/jmh-results.json.
+ * 
+ * <pre>
+ * java -jar benchmarks/target/benchmarks.jar                  # all benchmarks
+ * java -jar benchmarks/target/benchmarks.jar ConfigManager    # regex filter
+ * </pre>
+ * 
+ * @author Baskar
+ * @version 1.0.0
+ */
+public final class BenchmarkRunner {
+    private static final String DEFAULT_RESULT_FILE = "target/jmh-results.json";
+
+    private BenchmarkRunner() {
+        // Entry point only
+    }
+
+    public static void main(String[] args) throws RunnerException, CommandLineOptionException {
+        CommandLineOptions commandLine = new CommandLineOptions(args);
+        OptionsBuilder builder = new OptionsBuilder();
+        builder.parent(commandLine);
+        if (!commandLine.getResult().hasValue()) {
+            new File(DEFAULT_RESULT_FILE).getParentFile().mkdirs();
+            builder.result(DEFAULT_RESULT_FILE);
+        }
+        if (!commandLine.getResultFormat().hasValue()) {
+            builder.resultFormat(ResultFormatType.JSON);
+        }
+        Options options = builder.build();
+        new Runner(options).run();
+    }
+}
@@ -0,0 +1,71 @@
+package com.automation.framework.benchmarks;
+
+import com.automation.framework.core.ConfigManager;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * ConfigManager lookups, called on every wait, retry and screenshot decision.
+ * 
+ * @author Baskar
+ * @version 1.0.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ConfigManagerBenchmark {
+
+    @Setup
+    public void setUp() {
+        BenchmarkConfig.init();
+        System.setProperty("bench.systemProperty", "from-system");
+    }
+
+    @Benchmark
+    public String getSystemProperty() {
+        return ConfigManager.get("bench.systemProperty");
+    }
+
+    @Benchmark
+    public String getTopLevelYaml() {
+        return ConfigManager.get("app");
+    }
+
+    @Benchmark
+    public String getFrameworkOptionsYaml() {
+        return ConfigManager.get("retry.maxCount");
+    }
+
+    @Benchmark
+    public String getMissingWithDefault() {
+        return ConfigManager.get("bench.missing", "default");
+    }
+
+    @Benchmark
+    public int getInt() {
+        return ConfigManager.getInt("explicitWait", 30);
+    }
+
+    @Benchmark
+    public boolean getBoolean() {
+        return ConfigManager.getBoolean("screenshot.on.step", false);
+    }
+
+    @Benchmark
+    public String getPlatform() {
+        return ConfigManager.getPlatform();
+    }
+}
@@ -0,0 +1,69 @@
+package com.automation.framework.benchmarks;
+
+import com.automation.framework.reports.ExtentReportManager;
+import com.aventstack.extentreports.ExtentTest;
+import com.aventstack.extentreports.Status;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Extent step logging, alone and under thread contention.
+ * Each JMH thread owns its own test node, as each scenario thread does in a suite run.
+ * Every invocation logs into a fresh node that is removed from the report afterwards,
+ * so neither the node's log list nor the report grows over the run.
+ * 
+ * @author Baskar
+ * @version 1.0.0
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ExtentLogBenchmark {
+
+    private ExtentTest test;
+    private int step;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        BenchmarkConfig.init();
+        ExtentReportManager.initReports();
+    }
+
+    @Setup(Level.Invocation)
+    public void newTest() {
+        test = ExtentReportManager.createTest("bench-" + Thread.currentThread().getName());
+    }
+
+    @TearDown(Level.Invocation)
+    public void removeTest() {
+        test.getExtent().removeTest(test);
+    }
+
+    @Benchmark
+    @Threads(1)
+    public void logStepSingleThread() {
+        ExtentReportManager.logStep(Status.INFO, "Step " + step++);
+    }
+
+    @Benchmark
+    @Threads(8)
+    public void logStepContended() {
+        ExtentReportManager.logStep(Status.INFO, "Step " + step++);
+    }
+}
@@ -0,0 +1,69 @@
+package com.automation.framework.benchmarks;
+
+import com.automation.framework.reports.ExtentReportManager;
+import com.aventstack.extentreports.ExtentTest;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Base64 screenshot attachment to the Extent report.
+ * Every invocation attaches to a fresh test node that is removed from the report afterwards,
+ * so encoded screenshots do not pile up in memory over the run.
+ * 
+ * @author Baskar
+ * @version 1.0.0
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@Threads(1)
+public class ExtentScreenshotBenchmark {
+
+    // Typical compressed device screenshot sizes
+    @Param({"65536", "262144"})
+    public int screenshotBytes;
+
+    private byte[] screenshot;
+    private ExtentTest test;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        BenchmarkConfig.init();
+        ExtentReportManager.initReports();
+        screenshot = new byte[screenshotBytes];
+        new Random(42).nextBytes(screenshot);
+    }
+
+    @Setup(Level.Invocation)
+    public void newTest() {
+        test = ExtentReportManager.createTest("bench-" + Thread.currentThread().getName());
+    }
+
+    @TearDown(Level.Invocation)
+    public void removeTest() {
+        test.getExtent().removeTest(test);
+    }
+
+    @Benchmark
+    public void attachScreenshot() {
+        ExtentReportManager.attachScreenshot(screenshot, "Step Screenshot");
+    }
+}
@@ -0,0 +1,43 @@
+package com.automation.framework.benchmarks;
+
+import com.automation.framework.pages.locators.WdioLocators;
+import io.appium.java_client.AppiumBy;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openqa.selenium.By;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Locator construction done on every LoginScreen verification and BasePage interaction.
+ * 
+ * @author Baskar
+ * @version 1.0.0
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class LocatorBenchmark {
+
+    @Benchmark
+    public String textContainsXpath() {
+        return WdioLocators.xpathTextContainsIgnoreCase(WdioLocators.SUCCESS_MESSAGE);
+    }
+
+    @Benchmark
+    public By textContainsLocator() {
+        return AppiumBy.xpath(WdioLocators.xpathTextContainsIgnoreCase(WdioLocators.SUCCESS_MESSAGE));
+    }
+
+    @Benchmark
+    public By accessibilityIdLocator() {
+        return AppiumBy.accessibilityId(WdioLocators.LOGIN_EMAIL_INPUT);
+    }
+}
@@ -0,0 +1,58 @@
+package com.automation.framework.benchmarks;
+
+import com.automation.framework.pages.BasePage;
+import com.automation.framework.pages.PageObjectManager;
+import com.automation.framework.pages.screens.BStackSampleScreen;
+import com.automation.framework.pages.screens.HomeScreen;
+import com.automation.framework.pages.screens.LoginScreen;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Page object lookups made by every step definition: the class-keyed registry,
+ * with one screen and across several screens, and the legacy getter facade over it.
+ * 
+ * @author Baskar
+ * @version 1.1.0
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@Threads(4)
+public class PageObjectManagerBenchmark {
+
+    private static final List<Class<? extends BasePage>> SCREENS =
+            List.of(LoginScreen.class, HomeScreen.class, BStackSampleScreen.class);
+
+    private int next;
+
+    @Benchmark
+    public LoginScreen getByClass() {
+        return PageObjectManager.get(LoginScreen.class);
+    }
+
+    @Benchmark
+    public BasePage getByClassMixed() {
+        // Steps alternate between screens; keeps the lookup from being specialised to one class
+        return PageObjectManager.get(SCREENS.get(next++ % SCREENS.size()));
+    }
+
+    @Benchmark
+    public LoginScreen getLoginScreenFacade() {
+        return PageObjectManager.getInstance().getLoginScreen();
+    }
+}
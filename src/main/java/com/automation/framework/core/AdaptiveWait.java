@@ -0,0 +1,139 @@
+package com.automation.framework.core;
+
+import com.automation.framework.metrics.TimeAccounting;
+import com.automation.framework.profiling.WaitEvent;
+import org.openqa.selenium.NotFoundException;
+import org.openqa.selenium.StaleElementReferenceException;
+import org.openqa.selenium.TimeoutException;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebDriverException;
+import org.openqa.selenium.support.ui.ExpectedCondition;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Wait engine with fast initial polling, exponential backoff and learned start time.
+ * Replaces WebDriverWait's fixed 500 ms polling: the first probe happens at the
+ * expected appearance time for the key (see {@link LatencyProfile}), then polling
+ * starts at 50 ms and backs off x2 up to 1 s. Timeouts are capped to the
+ * remaining scenario budget.
+ * 
+ * Element-not-found and stale element errors count as "not yet".
+ * Each wait is emitted as a JFR {@link WaitEvent}.
+ * 
+ * @author Baskar
+ * @version 1.1.0
+ */
+public final class AdaptiveWait {
+    private static final Logger logger = LoggerFactory.getLogger(AdaptiveWait.class);
+    private static final long MIN_INTERVAL_MS = 50;
+    private static final long MAX_INTERVAL_MS = 1000;
+
+    private AdaptiveWait() {
+        // Utility class
+    }
+
+    /**
+     * Wait until the condition holds.
+     * 
+     * @param driver    Driver to evaluate the condition against
+     * @param key       Learning key (screen + locator), or null to skip learning
+     * @param condition Condition to evaluate (non-null / true means satisfied)
+     * @param timeout   Maximum time to wait
+     * @return The value produced by the condition
+     * @throws TimeoutException if the condition did not hold in time
+     */
+    public static <T> T until(WebDriver driver, String key, ExpectedCondition<T> condition, Duration timeout) {
+        Duration capped = ScenarioContext.cap(timeout);
+        T value = poll(driver, key, condition, capped);
+        if (value == null) {
+            throw new TimeoutException(String.format(
+                    "Expected condition failed: waiting for %s (tried for %d ms)", condition, capped.toMillis()));
+        }
+        return value;
+    }
+
+    /**
+     * Poll until the condition holds or the timeout passes.
+     * 
+     * @param driver    Driver to evaluate the condition against
+     * @param key       Learning key (screen + locator), or null to skip learning
+     * @param condition Condition to evaluate (non-null / true means satisfied)
+     * @param timeout   Maximum time to poll
+     * @return The value produced by the condition, or null on timeout
+     */
+    public static <T> T poll(WebDriver driver, String key, ExpectedCondition<T> condition, Duration timeout) {
+        // Capped first: an exhausted budget throws before anything needs ending
+        Duration capped = ScenarioContext.cap(timeout);
+        WaitEvent event = new WaitEvent();
+        event.begin();
+        long startNanos = TimeAccounting.begin();
+        long deadlineNanos = startNanos + capped.toNanos();
+        long intervalMs = MIN_INTERVAL_MS;
+        int probes = 0;
+        String outcome = "error";
+
+        try {
+            // Skip probes that historically never succeed this early
+            sleep(Math.min(LatencyProfile.initialDelayMillis(key), remainingMillis(deadlineNanos)));
+            // Latency is learned from here: counting the delay would keep every sample above it
+            long firstProbeNanos = System.nanoTime();
+
+            while (true) {
+                probes++;
+                try {
+                    T value = condition.apply(driver);
+                    if (value != null && !Boolean.FALSE.equals(value)) {
+                        long now = System.nanoTime();
+                        long elapsedMs = TimeUnit.NANOSECONDS.toMillis(now - startNanos);
+                        LatencyProfile.record(key, TimeUnit.NANOSECONDS.toMillis(now - firstProbeNanos), probes == 1);
+                        logger.debug("Wait for {} satisfied after {} ms ({} probes)", condition, elapsedMs, probes);
+                        outcome = "satisfied";
+                        return value;
+                    }
+                } catch (NotFoundException | StaleElementReferenceException ignored) {
+                    // Not there yet, keep polling
+                }
+
+                long remainingMs = remainingMillis(deadlineNanos);
+                if (remainingMs <= 0) {
+                    logger.debug("Wait for {} timed out after {} probes", condition, probes);
+                    outcome = "timeout";
+                    return null;
+                }
+                sleep(Math.min(intervalMs, remainingMs));
+                intervalMs = Math.min(intervalMs * 2, MAX_INTERVAL_MS);
+            }
+        } finally {
+            TimeAccounting.end(TimeAccounting.Category.WAIT, key != null ? key : String.valueOf(condition), startNanos);
+            event.end();
+            if (event.shouldCommit()) {
+                event.key = key;
+                event.condition = String.valueOf(condition);
+                event.timeout = capped.toMillis();
+                event.probes = probes;
+                event.outcome = outcome;
+                event.commit();
+            }
+        }
+    }
+
+    private static long remainingMillis(long deadlineNanos) {
+        return Math.max(0, TimeUnit.NANOSECONDS.toMillis(deadlineNanos - System.nanoTime()));
+    }
+
+    private static void sleep(long millis) {
+        if (millis <= 0) {
+            return;
+        }
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new WebDriverException("Interrupted while waiting", e);
+        }
+    }
+}
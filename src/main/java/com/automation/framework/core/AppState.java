@@ -0,0 +1,103 @@
+package com.automation.framework.core;
+
+import io.appium.java_client.AppiumDriver;
+import io.appium.java_client.ios.IOSDriver;
+import org.openqa.selenium.Capabilities;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.Map;
+
+import static com.automation.framework.core.FrameworkConstants.*;
+
+/**
+ * App-level state resets on an existing session, cheaper than a new session.
+ * The app under test is identified by {@code app.id}, else by the session's
+ * {@code appPackage} / {@code bundleId} capability, else by the WDIO demo app defaults.
+ *
+ * @author Baskar
+ * @version 1.1.0
+ */
+public final class AppState {
+    private static final Logger logger = LoggerFactory.getLogger(AppState.class);
+
+    private AppState() {
+        // Utility class
+    }
+
+    /**
+     * Terminate and relaunch the app: in-memory state and navigation are reset,
+     * stored data (login, preferences) is kept.
+     *
+     * @param driver Session to reset
+     */
+    public static void restart(AppiumDriver driver) {
+        Map<String, Object> app = appArgument(driver);
+        driver.executeScript("mobile: terminateApp", app);
+        driver.executeScript("mobile: activateApp", app);
+        logger.debug("Restarted app {}", app);
+    }
+
+    /**
+     * Clear the app's data and relaunch it: stored login, preferences and caches are gone.
+     *
+     * @param driver Session to reset
+     */
+    public static void clearData(AppiumDriver driver) {
+        Map<String, Object> app = appArgument(driver);
+        driver.executeScript("mobile: terminateApp", app);
+        driver.executeScript("mobile: clearApp", app);
+        driver.executeScript("mobile: activateApp", app);
+        logger.debug("Cleared data of app {}", app);
+    }
+
+    /**
+     * Uninstall and reinstall the app from the session's {@code app} capability, then launch it.
+     *
+     * @param driver Session to reset
+     * @throws IllegalStateException if the session has no app path to reinstall from
+     */
+    public static void reinstall(AppiumDriver driver) {
+        Capabilities caps = driver.getCapabilities();
+        Object appPath = caps.getCapability("appium:app");
+        if (appPath == null) {
+            appPath = caps.getCapability("app");
+        }
+        if (appPath == null) {
+            throw new IllegalStateException("Session has no 'app' capability to reinstall from");
+        }
+        Map<String, Object> app = appArgument(driver);
+        driver.executeScript("mobile: removeApp", app);
+        driver.executeScript("mobile: installApp", Map.of("appPath", appPath.toString()));
+        driver.executeScript("mobile: activateApp", app);
+        logger.debug("Reinstalled app {} from {}", app, appPath);
+    }
+
+    /**
+     * Identifier of the app under test for the session's platform.
+     */
+    public static String appId(AppiumDriver driver) {
+        String configured = ConfigManager.get(CONFIG_KEY_APP_ID);
+        if (configured != null && !configured.isEmpty()) {
+            return configured;
+        }
+        boolean ios = driver instanceof IOSDriver;
+        Capabilities caps = driver.getCapabilities();
+        String capability = ios ? "bundleId" : "appPackage";
+        Object fromSession = caps.getCapability("appium:" + capability);
+        if (fromSession == null) {
+            fromSession = caps.getCapability(capability);
+        }
+        if (fromSession != null) {
+            return fromSession.toString();
+        }
+        return ios ? DEFAULT_IOS_APP_ID : DEFAULT_ANDROID_APP_ID;
+    }
+
+    /**
+     * Argument map for the {@code mobile:} app management commands.
+     */
+    static Map<String, Object> appArgument(AppiumDriver driver) {
+        return Map.of(driver instanceof IOSDriver ? "bundleId" : "appId", appId(driver));
+    }
+}
@@ -0,0 +1,95 @@
+package com.automation.framework.core;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static com.automation.framework.core.FrameworkConstants.*;
+
+/**
+ * Background executor for scenario teardown work (session quit, report attachments),
+ * so a scenario thread can start its next scenario without waiting for it.
+ * The queue is bounded ({@code teardown.queueSize}, default 64); when it is full the
+ * submitting thread runs the task itself, which throttles scenarios instead of piling
+ * up work. {@link #drain()} blocks until everything submitted has finished.
+ * Set {@code teardown.async=false} to run teardown inline.
+ *
+ * @author Baskar
+ * @version 1.0.0
+ */
+public final class AsyncTeardown {
+    private static final Logger logger = LoggerFactory.getLogger(AsyncTeardown.class);
+    private static final Set<CompletableFuture<Void>> pending = ConcurrentHashMap.newKeySet();
+    private static volatile ThreadPoolExecutor executor;
+
+    private AsyncTeardown() {
+        // Utility class
+    }
+
+    /**
+     * Run a teardown task in the background.
+     *
+     * @param description What the task does (for logs)
+     * @param task        Work that no longer needs the scenario thread
+     */
+    public static void submit(String description, Runnable task) {
+        Runnable guarded = () -> {
+            try {
+                task.run();
+            } catch (Exception e) {
+                logger.warn("Teardown task '{}' failed: {}", description, e.getMessage());
+            }
+        };
+        if (!ConfigManager.getBoolean(CONFIG_KEY_TEARDOWN_ASYNC, DEFAULT_TEARDOWN_ASYNC)) {
+            guarded.run();
+            return;
+        }
+        CompletableFuture<Void> future = CompletableFuture.runAsync(guarded, executor());
+        pending.add(future);
+        future.whenComplete((result, error) -> pending.remove(future));
+    }
+
+    /**
+     * Block until every submitted teardown task has finished.
+     */
+    public static void drain() {
+        List<CompletableFuture<Void>> waiting = List.copyOf(pending);
+        if (waiting.isEmpty()) {
+            return;
+        }
+        logger.info("Waiting for {} pending teardown task(s)", waiting.size());
+        CompletableFuture.allOf(waiting.toArray(CompletableFuture<?>[]::new)).join();
+        // Tasks submitted while waiting (e.g. by other finishing threads)
+        drain();
+    }
+
+    private static ThreadPoolExecutor executor() {
+        ThreadPoolExecutor current = executor;
+        if (current == null) {
+            synchronized (AsyncTeardown.class) {
+                current = executor;
+                if (current == null) {
+                    int threads = Math.max(1, ConfigManager.getInt(CONFIG_KEY_TEARDOWN_THREADS, DEFAULT_TEARDOWN_THREADS));
+                    int queueSize = Math.max(1, ConfigManager.getInt(CONFIG_KEY_TEARDOWN_QUEUE_SIZE, DEFAULT_TEARDOWN_QUEUE_SIZE));
+                    AtomicInteger count = new AtomicInteger();
+                    current = new ThreadPoolExecutor(threads, threads, 30, TimeUnit.SECONDS,
+                            new ArrayBlockingQueue<>(queueSize),
+                            runnable -> Thread.ofPlatform().daemon().name("teardown-" + count.incrementAndGet())
+                                    .unstarted(runnable),
+                            new ThreadPoolExecutor.CallerRunsPolicy());
+                    current.allowCoreThreadTimeOut(true);
+                    executor = current;
+                }
+            }
+        }
+        return current;
+    }
+}
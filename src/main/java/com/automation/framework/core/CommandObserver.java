@@ -0,0 +1,46 @@
+package com.automation.framework.core;
+
+import org.openqa.selenium.remote.Command;
+import org.openqa.selenium.remote.Response;
+
+/**
+ * Hook into every WebDriver command sent by framework drivers.
+ * Register JVM-wide with {@link ObservedCommandExecutor#register(CommandObserver)}
+ * or per driver when constructing an {@link ObservedCommandExecutor}.
+ * 
+ * Callbacks run on the scenario thread, inline with the command; keep them cheap
+ * and never throw.
+ * 
+ * @author Baskar
+ * @version 1.0.0
+ */
+public interface CommandObserver {
+
+    /**
+     * Called before a command is sent.
+     * 
+     * @param command Command about to be executed
+     */
+    default void beforeCommand(Command command) {
+    }
+
+    /**
+     * Called after a command returned a response (success or W3C error).
+     * 
+     * @param command       Executed command
+     * @param response      Response; error responses carry the exception as value
+     * @param durationNanos Round-trip time
+     */
+    default void afterCommand(Command command, Response response, long durationNanos) {
+    }
+
+    /**
+     * Called when a command failed without a response (transport error, dead session).
+     * 
+     * @param command       Executed command
+     * @param error         Thrown exception
+     * @param durationNanos Time until the failure
+     */
+    default void onCommandFailure(Command command, RuntimeException error, long durationNanos) {
+    }
+}
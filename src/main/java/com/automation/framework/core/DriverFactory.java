@@ -1,5 +1,9 @@
 package com.automation.framework.core;
 
+import com.automation.framework.metrics.FrameworkMetrics;
+import com.automation.framework.replay.CommandRecorder;
+import com.automation.framework.replay.ReplayCommandExecutor;
+import com.automation.framework.stub.StubAppiumServer;
 import io.appium.java_client.AppiumDriver;
 import io.appium.java_client.android.AndroidDriver;
 import io.appium.java_client.android.options.UiAutomator2Options;
@@ -10,7 +14,9 @@ import org.slf4j.LoggerFactory;
 
 import java.net.MalformedURLException;
 import java.net.URI;
+import java.net.URL;
 import java.time.Duration;
+import java.util.List;
 
 import static com.automation.framework.core.FrameworkConstants.*;
 
@@ -22,9 +28,14 @@ import static com.automation.framework.core.FrameworkConstants.*;
  * - Uses BrowserStack SDK-managed capabilities from YAML files
  * - Automatic device allocation via BrowserStack platform list
  * - Thread-safe driver management via DriverManager
+ * - Hub override via {@code hub.url}, or the in-process stub server via {@code driver.stub=true}
+ * - Every command goes through {@link ObservedCommandExecutor}; {@code driver.mode=record|replay}
+ *   records a scenario's traffic or replays it with no network
+ * - Session creation goes through {@link SessionAdmissionController} (parallel limit) and
+ *   {@link HubCircuitBreaker}, which pauses it while the hub is failing
  * 
  * @author Baskar
- * @version 5.0.0 - BrowserStack-only, removed local execution support
+ * @version 5.1.0
  */
 public class DriverFactory {
     private static final Logger logger = LoggerFactory.getLogger(DriverFactory.class);
@@ -49,16 +60,94 @@ public class DriverFactory {
         Platform platform = platformStr.equals("IOS") ? Platform.IOS : Platform.ANDROID;
         logger.info("Creating driver for platform: {}", platform);
 
+        // Waits in line for a session slot, then while the hub is known to be failing;
+        // the slot is held until DriverManager quits the session
+        SessionAdmissionController.acquire();
+        try {
+            HubCircuitBreaker.acquire();
+        } catch (RuntimeException e) {
+            // Gave up waiting for the hub (or the scenario budget ran out); no session was
+            // attempted, so the breaker and the admission limit learn nothing from it
+            SessionAdmissionController.release();
+            logger.error("Failed to create driver for platform: {}", platform, e);
+            throw new RuntimeException("Driver creation failed", e);
+        }
+        long start = System.nanoTime();
+        boolean handedOver = false;
         try {
             AppiumDriver driver = (platform == Platform.IOS)
                 ? createIOSDriver()
                 : createAndroidDriver();
+            long duration = System.nanoTime() - start;
+            FrameworkMetrics.sessionCreated(duration);
+            HubCircuitBreaker.recordSuccess();
+            SessionAdmissionController.onCreated(duration);
             DriverManager.setDriver(driver);
+            handedOver = true;
             return driver;
         } catch (Exception e) {
+            FrameworkMetrics.sessionCreateFailed(System.nanoTime() - start);
+            HubCircuitBreaker.recordFailure(e);
+            SessionAdmissionController.onFailed(e);
             logger.error("Failed to create driver for platform: {}", platform, e);
             throw new RuntimeException("Driver creation failed", e);
+        } catch (Error e) {
+            // E.g. a driver or SDK class failing to load; unrecorded, a half-open probe would never end
+            FrameworkMetrics.sessionCreateFailed(System.nanoTime() - start);
+            HubCircuitBreaker.recordFailure(e);
+            logger.error("Failed to create driver for platform: {}", platform, e);
+            throw e;
+        } finally {
+            // Until DriverManager owns the session, the slot is still this thread's to return
+            if (!handedOver) {
+                SessionAdmissionController.release();
+            }
+        }
+    }
+    
+    /**
+     * Build the command executor for a new session according to {@code driver.mode}.
+     * live (default): remote endpoint; record: remote endpoint + per-scenario recorder;
+     * replay: recorded responses of the current scenario, no network.
+     * 
+     * @return Executor for the driver constructor
+     * @throws MalformedURLException if the hub URL is invalid
+     */
+    private static ObservedCommandExecutor createExecutor() throws MalformedURLException {
+        String mode = ConfigManager.get(CONFIG_KEY_DRIVER_MODE, DRIVER_MODE_LIVE).toLowerCase();
+        ScenarioContext scenario = ScenarioContext.current();
+        String scenarioName = scenario != null ? scenario.getName() : null;
+        switch (mode) {
+            case DRIVER_MODE_REPLAY:
+                logger.info("Replaying recorded driver traffic for '{}'", scenarioName);
+                return new ReplayCommandExecutor(scenarioName, List.of());
+            case DRIVER_MODE_RECORD:
+                logger.info("Recording driver traffic for '{}'", scenarioName);
+                return new ObservedCommandExecutor(getHubUrl(), List.of(new CommandRecorder(scenarioName)));
+            default:
+                return new ObservedCommandExecutor(getHubUrl(), List.of());
+        }
+    }
+
+    /**
+     * Resolve the remote endpoint for new sessions.
+     * Priority: stub server (driver.stub) > hub.url > BrowserStack hub.
+     * 
+     * @return Remote server URL
+     * @throws MalformedURLException if the configured URL is invalid
+     */
+    private static URL getHubUrl() throws MalformedURLException {
+        if (ConfigManager.getBoolean(CONFIG_KEY_STUB_ENABLED, false)) {
+            URL stubUrl = StubAppiumServer.shared().getUrl();
+            logger.info("Connecting to stub Appium server: {}", stubUrl);
+            return stubUrl;
+        }
+        String hubUrl = ConfigManager.get(CONFIG_KEY_HUB_URL);
+        if (hubUrl != null && !hubUrl.isEmpty()) {
+            logger.info("Connecting to configured hub: {}", hubUrl.replaceAll(":[^:/]*@", ":***@"));
+            return URI.create(hubUrl).toURL();
         }
+        return URI.create(getBrowserStackHubUrl()).toURL();
     }
     
     /**
@@ -68,7 +157,25 @@ public class DriverFactory {
      * @throws IllegalStateException if credentials are not set
      */
     private static String getBrowserStackHubUrl() {
-        // Prefer env vars; fall back to YAML (userName/accessKey) via ConfigManager
+        String[] credentials = getBrowserStackCredentials();
+        if (credentials == null) {
+            throw new IllegalStateException(
+                String.format("BrowserStack credentials not found. Provide %s/%s env vars or userName/accessKey in YAML.",
+                    BROWSERSTACK_USERNAME_ENV, BROWSERSTACK_ACCESS_KEY_ENV));
+        }
+
+        String hubUrl = "https://" + credentials[0] + ":" + credentials[1] + "@" + BROWSERSTACK_HUB_URL.replace("https://", "");
+        logger.info("Connecting to BrowserStack hub: {}", hubUrl.replaceAll(":.*@", ":***@"));
+        return hubUrl;
+    }
+    
+    /**
+     * BrowserStack user name and access key.
+     * Prefers env vars; falls back to YAML (userName/accessKey) via ConfigManager.
+     * 
+     * @return {username, accessKey}, or null if either is missing
+     */
+    static String[] getBrowserStackCredentials() {
         String username = System.getenv(BROWSERSTACK_USERNAME_ENV);
         String accessKey = System.getenv(BROWSERSTACK_ACCESS_KEY_ENV);
 
@@ -78,16 +185,18 @@ public class DriverFactory {
         if (accessKey == null || accessKey.isEmpty()) {
             accessKey = ConfigManager.get("accessKey");
         }
-
         if (username == null || accessKey == null || username.isEmpty() || accessKey.isEmpty()) {
-            throw new IllegalStateException(
-                String.format("BrowserStack credentials not found. Provide %s/%s env vars or userName/accessKey in YAML.",
-                    BROWSERSTACK_USERNAME_ENV, BROWSERSTACK_ACCESS_KEY_ENV));
+            return null;
         }
+        return new String[]{username, accessKey};
+    }
 
-        String hubUrl = "https://" + username + ":" + accessKey + "@" + BROWSERSTACK_HUB_URL.replace("https://", "");
-        logger.info("Connecting to BrowserStack hub: {}", hubUrl.replaceAll(":.*@", ":***@"));
-        return hubUrl;
+    /**
+     * Whether new sessions go to the BrowserStack hub (no stub, no hub override).
+     */
+    static boolean usesBrowserStackHub() {
+        String hubUrl = ConfigManager.get(CONFIG_KEY_HUB_URL);
+        return !ConfigManager.getBoolean(CONFIG_KEY_STUB_ENABLED, false) && (hubUrl == null || hubUrl.isEmpty());
     }
     
     /**
@@ -111,7 +220,7 @@ public class DriverFactory {
 
         logger.info("Creating Android driver for BrowserStack cloud");
         
-        AppiumDriver driver = new AndroidDriver(URI.create(getBrowserStackHubUrl()).toURL(), options);
+        AppiumDriver driver = new AndroidDriver(createExecutor(), options);
         configureImplicitWait(driver);
         return driver;
     }
@@ -127,7 +236,7 @@ public class DriverFactory {
 
         logger.info("Creating iOS driver for BrowserStack cloud");
         
-        AppiumDriver driver = new IOSDriver(URI.create(getBrowserStackHubUrl()).toURL(), options);
+        AppiumDriver driver = new IOSDriver(createExecutor(), options);
         configureImplicitWait(driver);
         return driver;
     }
@@ -1,19 +1,34 @@
 package com.automation.framework.core;
 
+import com.automation.framework.metrics.FrameworkMetrics;
 import io.appium.java_client.AppiumDriver;
+import org.openqa.selenium.Dimension;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
 /**
  * Thread-safe driver manager using ThreadLocal.
  * Manages driver lifecycle for parallel test execution.
+ * Sessions may outlive a scenario (see {@link ResetPolicy}); every open session is
+ * tracked so the ones still idle on worker threads are quit at the end of the run.
  * 
  * @author Baskar
- * @version 2.0.0
+ * @version 2.3.0
  */
 public class DriverManager {
     private static final Logger logger = LoggerFactory.getLogger(DriverManager.class);
     private static final ThreadLocal<AppiumDriver> driverThreadLocal = new ThreadLocal<>();
+    // Viewport per session; fetched once and invalidated on rotation or quit
+    private static final Map<AppiumDriver, Dimension> viewports = new ConcurrentHashMap<>();
+    // Sessions not yet quit, across all threads
+    private static final Set<AppiumDriver> openSessions = ConcurrentHashMap.newKeySet();
+    // Sessions kept between scenarios that no scenario is using right now
+    private static final Set<AppiumDriver> idleSessions = ConcurrentHashMap.newKeySet();
     
     private DriverManager() {
         // Private constructor to prevent instantiation
@@ -39,6 +54,7 @@ public class DriverManager {
         if (driver != null) {
             logger.debug("Setting driver for thread: {}", Thread.currentThread().getName());
             driverThreadLocal.set(driver);
+            openSessions.add(driver);
         }
     }
     
@@ -48,22 +64,120 @@ public class DriverManager {
     public static void quitDriver() {
         AppiumDriver driver = driverThreadLocal.get();
         if (driver != null) {
-            try {
-                logger.debug("Quitting driver for thread: {}", Thread.currentThread().getName());
-                driver.quit();
-            } catch (Exception e) {
-                logger.error("Error quitting driver", e);
-            } finally {
-                driverThreadLocal.remove();
+            logger.debug("Quitting driver for thread: {}", Thread.currentThread().getName());
+            driverThreadLocal.remove();
+            quit(driver);
+        }
+    }
+    
+    /**
+     * Keep the current thread's session for its next scenario. Until that scenario
+     * claims it ({@link #claimKept()}), the session may be evicted to free its slot.
+     */
+    public static void keepIdle() {
+        AppiumDriver driver = driverThreadLocal.get();
+        if (driver != null) {
+            idleSessions.add(driver);
+        }
+    }
+    
+    /**
+     * Take back the session kept by {@link #keepIdle()} on the current thread.
+     * @return false if there is none, or it was evicted or died meanwhile
+     */
+    public static boolean claimKept() {
+        AppiumDriver driver = driverThreadLocal.get();
+        return driver != null && idleSessions.remove(driver) && hasDriver();
+    }
+    
+    /**
+     * Quit one idle kept session (in the background) to free its slot.
+     * @return true if a session was evicted
+     */
+    public static boolean evictIdle() {
+        for (AppiumDriver driver : idleSessions) {
+            if (idleSessions.remove(driver)) {
+                logger.debug("Evicting idle session to free its slot");
+                AsyncTeardown.submit("evict idle session", () -> quit(driver));
+                return true;
             }
         }
+        return false;
+    }
+    
+    /**
+     * Detach the current thread's session and quit it in the background
+     * ({@link AsyncTeardown}), so the thread can start its next scenario at once.
+     */
+    public static void releaseDriver() {
+        AppiumDriver driver = driverThreadLocal.get();
+        if (driver != null) {
+            driverThreadLocal.remove();
+            AsyncTeardown.submit("quit session", () -> quit(driver));
+        }
     }
     
     /**
-     * Check if driver exists for current thread.
-     * @return true if driver is set
+     * Quit every session still open on any thread (end of run).
+     */
+    public static void quitAll() {
+        List<AppiumDriver> sessions = List.copyOf(openSessions);
+        if (!sessions.isEmpty()) {
+            logger.info("Quitting {} idle session(s)", sessions.size());
+        }
+        sessions.forEach(DriverManager::quit);
+        driverThreadLocal.remove();
+    }
+    
+    private static void quit(AppiumDriver driver) {
+        idleSessions.remove(driver);
+        if (!openSessions.remove(driver)) {
+            return;
+        }
+        try {
+            driver.quit();
+        } catch (Exception e) {
+            logger.error("Error quitting driver", e);
+        } finally {
+            FrameworkMetrics.sessionClosed();
+            SessionAdmissionController.release();
+            viewports.remove(driver);
+        }
+    }
+    
+    /**
+     * Get the viewport size of the current thread's session.
+     * Fetched from the device once per session and cached until invalidated.
+     * @return Window size
+     */
+    public static Dimension getViewport() {
+        AppiumDriver driver = getDriver();
+        return viewports.computeIfAbsent(driver, d -> d.manage().window().getSize());
+    }
+    
+    /**
+     * Drop the cached viewport of the current thread's session (e.g. after rotation).
+     */
+    public static void invalidateViewport() {
+        AppiumDriver driver = driverThreadLocal.get();
+        if (driver != null) {
+            viewports.remove(driver);
+        }
+    }
+    
+    /**
+     * Check if a usable session exists for current thread.
+     * @return true if driver is set, not quit and not dead
      */
     public static boolean hasDriver() {
-        return driverThreadLocal.get() != null;
+        AppiumDriver driver = driverThreadLocal.get();
+        return driver != null && openSessions.contains(driver) && !isDead(driver);
+    }
+    
+    /**
+     * Whether the session is known to be gone (see {@link ObservedCommandExecutor}).
+     */
+    public static boolean isDead(AppiumDriver driver) {
+        return driver.getCommandExecutor() instanceof ObservedCommandExecutor executor && executor.isSessionDead();
     }
 }
@@ -15,10 +15,117 @@ public final class FrameworkConstants {
     public static final String BROWSERSTACK_ACCESS_KEY_ENV = "BROWSERSTACK_ACCESS_KEY";
     
     // Default Timeouts (seconds)
-    public static final int DEFAULT_IMPLICIT_WAIT = 30;
+    // Implicit wait stays off by default: it would block every adaptive-wait probe server-side
+    public static final int DEFAULT_IMPLICIT_WAIT = 0;
+    public static final int DEFAULT_SCENARIO_BUDGET = 900;
 
     // Config Keys (only those still used by framework)
     public static final String CONFIG_KEY_IMPLICIT_WAIT = "implicitWait";
+    public static final String CONFIG_KEY_SCENARIO_BUDGET = "scenario.budgetSeconds";
+    public static final String CONFIG_KEY_WAIT_PROFILE = "wait.profile";
+    public static final String CONFIG_KEY_LOCATOR_HISTORY = "locator.history";
+    public static final String CONFIG_KEY_HUB_URL = "hub.url";
+
+    // App under test (for app resets on a reused session)
+    public static final String CONFIG_KEY_APP_ID = "app.id";
+    public static final String DEFAULT_ANDROID_APP_ID = "com.wdiodemoapp";
+    public static final String DEFAULT_IOS_APP_ID = "org.reactjs.native.example.wdiodemoapp";
+
+    // Isolation between scenarios (see ResetPolicy)
+    public static final String CONFIG_KEY_RESET_LEVEL = "reset.level";
+    public static final String DEFAULT_RESET_LEVEL = "restartApp";
+    public static final String RESET_TAG_PREFIX = "@reset:";
+
+    // Session admission (see SessionAdmissionController)
+    public static final String CONFIG_KEY_ADMISSION_LIMIT = "sessions.maxConcurrent";
+    public static final String CONFIG_KEY_ADMISSION_DISCOVER = "sessions.discoverLimit";
+    public static final boolean DEFAULT_ADMISSION_DISCOVER = true;
+    public static final String CONFIG_KEY_ADMISSION_QUEUE_THRESHOLD = "sessions.queueThresholdSeconds";
+    public static final int DEFAULT_ADMISSION_QUEUE_THRESHOLD = 30;
+    public static final String CONFIG_KEY_ADMISSION_MAX_WAIT = "sessions.maxWaitSeconds";
+    public static final int DEFAULT_ADMISSION_MAX_WAIT = 1800;
+
+    // Circuit breaker around session creation (see HubCircuitBreaker)
+    public static final String CONFIG_KEY_BREAKER_FAILURES = "hub.breaker.failures";
+    public static final int DEFAULT_BREAKER_FAILURES = 3;
+    public static final String CONFIG_KEY_BREAKER_COOLDOWN = "hub.breaker.cooldownSeconds";
+    public static final int DEFAULT_BREAKER_COOLDOWN = 15;
+    public static final String CONFIG_KEY_BREAKER_MAX_COOLDOWN = "hub.breaker.maxCooldownSeconds";
+    public static final int DEFAULT_BREAKER_MAX_COOLDOWN = 240;
+    public static final String CONFIG_KEY_BREAKER_MAX_WAIT = "hub.breaker.maxWaitSeconds";
+    public static final int DEFAULT_BREAKER_MAX_WAIT = 600;
+
+    // Background teardown (see AsyncTeardown)
+    public static final String CONFIG_KEY_TEARDOWN_ASYNC = "teardown.async";
+    public static final boolean DEFAULT_TEARDOWN_ASYNC = true;
+    public static final String CONFIG_KEY_TEARDOWN_THREADS = "teardown.threads";
+    public static final int DEFAULT_TEARDOWN_THREADS = 4;
+    public static final String CONFIG_KEY_TEARDOWN_QUEUE_SIZE = "teardown.queueSize";
+    public static final int DEFAULT_TEARDOWN_QUEUE_SIZE = 64;
+
+    // Deep-link navigation
+    public static final String CONFIG_KEY_DEEP_LINKS = "navigation.deepLinks";
+    public static final boolean DEFAULT_DEEP_LINKS = true;
+    public static final String CONFIG_KEY_DEEP_LINK_SCHEME = "deepLink.scheme";
+    public static final String DEFAULT_DEEP_LINK_SCHEME = "wdio";
+    public static final String CONFIG_KEY_DEEP_LINK_CONFIRM = "deepLink.confirmSeconds";
+    public static final int DEFAULT_DEEP_LINK_CONFIRM = 3;
+
+    // Stub Appium server (offline benchmarking)
+    public static final String CONFIG_KEY_STUB_ENABLED = "driver.stub";
+    public static final String CONFIG_KEY_STUB_PORT = "stub.port";
+    public static final String CONFIG_KEY_STUB_LATENCY = "stub.latencyMs";
+    public static final String CONFIG_KEY_STUB_JITTER = "stub.jitterMs";
+    public static final String CONFIG_KEY_STUB_FAILURE_RATE = "stub.failureRate";
+
+    // Driver traffic record/replay
+    public static final String CONFIG_KEY_DRIVER_MODE = "driver.mode";
+    public static final String CONFIG_KEY_RECORDINGS_DIR = "driver.recordingsDir";
+    public static final String DRIVER_MODE_LIVE = "live";
+    public static final String DRIVER_MODE_RECORD = "record";
+    public static final String DRIVER_MODE_REPLAY = "replay";
+    public static final String DEFAULT_RECORDINGS_DIR = "target/recordings";
+
+    // Live metrics endpoint
+    public static final String CONFIG_KEY_METRICS_ENABLED = "metrics.enabled";
+    public static final String CONFIG_KEY_METRICS_PORT = "metrics.port";
+    public static final int DEFAULT_METRICS_PORT = 9464;
+
+    // Java Flight Recorder
+    public static final String CONFIG_KEY_JFR_ENABLED = "jfr.enabled";
+    public static final String CONFIG_KEY_JFR_SETTINGS = "jfr.settings";
+    public static final String CONFIG_KEY_JFR_FILE = "jfr.file";
+    public static final String DEFAULT_JFR_SETTINGS = "profile";
+    public static final String DEFAULT_JFR_FILE = "target/jfr/framework.jfr";
+
+    // Synthetic load mode
+    public static final String CONFIG_KEY_LOAD_ENABLED = "load.enabled";
+    public static final String CONFIG_KEY_LOAD_SCENARIOS = "load.scenarios";
+    public static final int DEFAULT_LOAD_SCENARIOS = 1000;
+    public static final String LOAD_OUTPUT_DIR = "target/load";
+
+    // Streaming data sources
+    public static final String CONFIG_KEY_DATA_QUEUE_SIZE = "data.queueSize";
+    public static final int DEFAULT_DATA_QUEUE_SIZE = 256;
+
+    // Result cache: skip scenarios that passed under the same fingerprint
+    public static final String CONFIG_KEY_APP = "app";
+    public static final String CONFIG_KEY_RESULT_CACHE_FILE = "resultCache.file";
+    public static final String CONFIG_KEY_RESULT_CACHE_FORCE = "resultCache.force";
+    public static final String CONFIG_KEY_RESULT_CACHE_PACKAGES = "resultCache.packages";
+    public static final String DEFAULT_RESULT_CACHE_PACKAGES = "stepdefinitions,com.automation.framework.pages";
+
+    // Change-impact selection: run only scenarios a change can affect
+    public static final String CONFIG_KEY_IMPACT_CHANGES = "impact.changes";
+    public static final String CONFIG_KEY_IMPACT_PACKAGES = "impact.packages";
+    public static final String DEFAULT_IMPACT_PACKAGES = "stepdefinitions,com.automation.framework.pages";
+    public static final String CONFIG_KEY_IMPACT_SOURCE_ROOTS = "impact.sourceRoots";
+    public static final String DEFAULT_IMPACT_SOURCE_ROOTS = "src/main/java,src/test/java";
+
+    // Scenario tags
+    public static final String BUDGET_TAG_PREFIX = "@budget=";
+    public static final String DATA_TAG_PREFIX = "@data:";
+    public static final String SHARED_SESSION_TAG = "@SharedSession";
     
     private FrameworkConstants() {
         throw new UnsupportedOperationException("Utility class - cannot be instantiated");
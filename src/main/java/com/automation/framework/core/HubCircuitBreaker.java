@@ -0,0 +1,120 @@
+package com.automation.framework.core;
+
+import org.openqa.selenium.SessionNotCreatedException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.Duration;
+
+import static com.automation.framework.core.FrameworkConstants.*;
+
+/**
+ * Circuit breaker around session creation, shared by all threads.
+ * After {@code hub.breaker.failures} consecutive failed creations (default 3) the circuit
+ * opens: threads about to create a session wait instead of hitting the hub. When the
+ * cool-down ({@code hub.breaker.cooldownSeconds}, default 15) is over, one thread probes
+ * the hub; success closes the circuit, failure reopens it with the cool-down doubled up
+ * to {@code hub.breaker.maxCooldownSeconds} (default 240). A thread gives up with
+ * {@link SessionNotCreatedException} after {@code hub.breaker.maxWaitSeconds}
+ * (default 600) or when its scenario budget runs out.
+ *
+ * @author Baskar
+ * @version 1.0.0
+ */
+public final class HubCircuitBreaker {
+    private static final Logger logger = LoggerFactory.getLogger(HubCircuitBreaker.class);
+    private static final Object lock = new Object();
+
+    private enum State {
+        CLOSED, OPEN, HALF_OPEN
+    }
+
+    private static State state = State.CLOSED;
+    private static int consecutiveFailures;
+    private static long cooldownMs;
+    private static long openUntilNanos;
+
+    private HubCircuitBreaker() {
+        // Utility class
+    }
+
+    /**
+     * Wait until this thread may try to create a session.
+     *
+     * @throws SessionNotCreatedException if the hub stayed unhealthy for the whole wait
+     */
+    public static void acquire() {
+        synchronized (lock) {
+            if (state == State.CLOSED) {
+                return;
+            }
+            long maxWaitSeconds = ConfigManager.getInt(CONFIG_KEY_BREAKER_MAX_WAIT, DEFAULT_BREAKER_MAX_WAIT);
+            long deadline = System.nanoTime() + ScenarioContext.cap(Duration.ofSeconds(maxWaitSeconds)).toNanos();
+            while (state != State.CLOSED) {
+                long now = System.nanoTime();
+                if (state == State.OPEN && now >= openUntilNanos) {
+                    // This thread is the probe; the others keep waiting for its outcome
+                    state = State.HALF_OPEN;
+                    logger.info("Hub circuit half-open: probing with one session");
+                    return;
+                }
+                long waitUntil = state == State.OPEN ? Math.min(openUntilNanos, deadline) : deadline;
+                if (now >= deadline) {
+                    throw new SessionNotCreatedException("Hub circuit open after " + consecutiveFailures
+                            + " failed session creations; gave up waiting after " + maxWaitSeconds + "s");
+                }
+                try {
+                    long waitMs = Math.max(1, (waitUntil - now) / 1_000_000);
+                    lock.wait(waitMs);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw new SessionNotCreatedException("Interrupted while the hub circuit was open");
+                }
+            }
+        }
+    }
+
+    /**
+     * A session was created.
+     */
+    public static void recordSuccess() {
+        synchronized (lock) {
+            if (state != State.CLOSED) {
+                logger.info("Hub circuit closed: session creation recovered");
+            }
+            state = State.CLOSED;
+            consecutiveFailures = 0;
+            cooldownMs = 0;
+            lock.notifyAll();
+        }
+    }
+
+    /**
+     * A session could not be created.
+     */
+    public static void recordFailure(Throwable error) {
+        synchronized (lock) {
+            consecutiveFailures++;
+            int threshold = ConfigManager.getInt(CONFIG_KEY_BREAKER_FAILURES, DEFAULT_BREAKER_FAILURES);
+            if (state == State.HALF_OPEN || (state == State.CLOSED && consecutiveFailures >= threshold)) {
+                long baseMs = ConfigManager.getInt(CONFIG_KEY_BREAKER_COOLDOWN, DEFAULT_BREAKER_COOLDOWN) * 1000L;
+                long maxMs = ConfigManager.getInt(CONFIG_KEY_BREAKER_MAX_COOLDOWN, DEFAULT_BREAKER_MAX_COOLDOWN) * 1000L;
+                cooldownMs = cooldownMs == 0 ? baseMs : Math.min(cooldownMs * 2, maxMs);
+                openUntilNanos = System.nanoTime() + cooldownMs * 1_000_000;
+                state = State.OPEN;
+                logger.warn("Hub circuit open after {} failed session creations ({}); pausing for {}s",
+                        consecutiveFailures, error.getMessage(), cooldownMs / 1000);
+            }
+            lock.notifyAll();
+        }
+    }
+
+    /**
+     * Whether session creation is currently paused.
+     */
+    public static boolean isOpen() {
+        synchronized (lock) {
+            return state != State.CLOSED;
+        }
+    }
+}
@@ -0,0 +1,112 @@
+package com.automation.framework.core;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static com.automation.framework.core.FrameworkConstants.*;
+
+/**
+ * Learned appearance latency per wait key (screen + locator).
+ * Keeps an exponentially weighted mean and deviation of how long each wait took to
+ * succeed, so {@link AdaptiveWait} can start polling near the expected time.
+ * 
+ * Learning is in-memory for the run. When {@code wait.profile} points to a file,
+ * the profile is loaded from it on first use and saved back by {@link #save()}.
+ * 
+ * @author Baskar
+ * @version 1.2.0
+ */
+public final class LatencyProfile {
+    private static final Map<String, Stats> profile = new ConcurrentHashMap<>();
+    private static final int MIN_SAMPLES = 3;
+    private static final LearningStore<Map<String, Map<String, Number>>> store = new LearningStore<>(
+            CONFIG_KEY_WAIT_PROFILE, "wait latency profile", new TypeReference<>() { }, LatencyProfile::restore);
+
+    private LatencyProfile() {
+        // Utility class
+    }
+
+    /**
+     * Suggested delay before the first probe for a key.
+     * Returns 0 until enough samples exist, or when the key's last wait succeeded on its
+     * first probe (the element may now be there sooner than learned); otherwise mean
+     * minus two deviations.
+     * 
+     * @param key Wait key
+     * @return Initial delay in milliseconds
+     */
+    public static long initialDelayMillis(String key) {
+        store.ensureLoaded();
+        Stats stats = key != null ? profile.get(key) : null;
+        if (stats == null) {
+            return 0;
+        }
+        synchronized (stats) {
+            if (stats.samples < MIN_SAMPLES || stats.lastImmediate) {
+                return 0;
+            }
+            return Math.max(0, (long) (stats.meanMs - 2 * stats.devMs));
+        }
+    }
+
+    /**
+     * Record how long a wait took to succeed.
+     * 
+     * @param key       Wait key
+     * @param latencyMs Time from the first probe to success
+     * @param immediate Whether the first probe already succeeded
+     */
+    public static void record(String key, long latencyMs, boolean immediate) {
+        if (key == null) {
+            return;
+        }
+        store.ensureLoaded();
+        Stats stats = profile.computeIfAbsent(key, k -> new Stats());
+        synchronized (stats) {
+            if (stats.samples == 0) {
+                stats.meanMs = latencyMs;
+                stats.devMs = 0;
+            } else {
+                double error = latencyMs - stats.meanMs;
+                stats.meanMs = LearningStore.ewma(stats.meanMs, latencyMs);
+                stats.devMs = LearningStore.ewma(stats.devMs, Math.abs(error));
+            }
+            stats.samples++;
+            stats.lastImmediate = immediate;
+        }
+    }
+
+    /**
+     * Persist the profile to {@code wait.profile}, if configured.
+     */
+    public static void save() {
+        Map<String, Map<String, Number>> snapshot = new TreeMap<>();
+        profile.forEach((key, stats) -> {
+            synchronized (stats) {
+                snapshot.put(key, Map.of("samples", stats.samples, "meanMs", stats.meanMs, "devMs", stats.devMs));
+            }
+        });
+        store.save(snapshot);
+    }
+
+    private static void restore(Map<String, Map<String, Number>> data) {
+        data.forEach((key, values) -> {
+            Stats stats = new Stats();
+            stats.samples = values.getOrDefault("samples", 0).longValue();
+            stats.meanMs = values.getOrDefault("meanMs", 0).doubleValue();
+            stats.devMs = values.getOrDefault("devMs", 0).doubleValue();
+            profile.put(key, stats);
+        });
+    }
+
+    private static final class Stats {
+        long samples;
+        double meanMs;
+        double devMs;
+        // In-memory only: a new run starts from the learned delay
+        boolean lastImmediate;
+    }
+}
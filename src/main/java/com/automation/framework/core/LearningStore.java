@@ -0,0 +1,101 @@
+package com.automation.framework.core;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.Map;
+import java.util.function.Consumer;
+
+/**
+ * Shared plumbing of the run-to-run learners ({@link LatencyProfile}, {@link LocatorRanking}):
+ * the exponentially weighted update they keep their statistics with, and the optional
+ * JSON file named by a config key that the statistics are loaded from on first use and
+ * saved back to at the end of the run.
+ *
+ * @author Baskar
+ * @version 1.0.0
+ */
+final class LearningStore<T extends Map<String, ?>> {
+    private static final Logger logger = LoggerFactory.getLogger(LearningStore.class);
+    // Weight of the newest sample
+    private static final double ALPHA = 0.2;
+
+    private final String configKey;
+    private final String description;
+    private final TypeReference<T> type;
+    private final Consumer<T> restore;
+    private volatile boolean loaded = false;
+
+    /**
+     * @param configKey   Config key holding the file path (unset: in-memory only)
+     * @param description What is stored, for log messages
+     * @param type        JSON shape of the file
+     * @param restore     Takes the file contents into the learner's in-memory state
+     */
+    LearningStore(String configKey, String description, TypeReference<T> type, Consumer<T> restore) {
+        this.configKey = configKey;
+        this.description = description;
+        this.type = type;
+        this.restore = restore;
+    }
+
+    /**
+     * Exponentially weighted moving average after one more sample.
+     */
+    static double ewma(double average, double sample) {
+        return average + ALPHA * (sample - average);
+    }
+
+    /**
+     * Load the file once, if configured and present.
+     */
+    void ensureLoaded() {
+        if (!loaded) {
+            load();
+        }
+    }
+
+    /**
+     * Write a snapshot of the learner's state to the file, if configured.
+     * An empty snapshot leaves an existing file untouched.
+     */
+    synchronized void save(T snapshot) {
+        String path = ConfigManager.get(configKey);
+        if (path == null || path.isEmpty() || snapshot.isEmpty()) {
+            return;
+        }
+        try {
+            File file = new File(path);
+            if (file.getParentFile() != null) {
+                file.getParentFile().mkdirs();
+            }
+            new ObjectMapper().writerWithDefaultPrettyPrinter().writeValue(file, snapshot);
+            logger.info("Saved {} ({} entries) to {}", description, snapshot.size(), file.getAbsolutePath());
+        } catch (IOException e) {
+            logger.warn("Could not save {}: {}", description, e.getMessage());
+        }
+    }
+
+    private synchronized void load() {
+        if (loaded) {
+            return;
+        }
+        String path = ConfigManager.get(configKey);
+        try {
+            if (path != null && !path.isEmpty() && new File(path).exists()) {
+                T data = new ObjectMapper().readValue(new File(path), type);
+                restore.accept(data);
+                logger.info("Loaded {} ({} entries) from {}", description, data.size(), path);
+            }
+        } catch (IOException e) {
+            logger.warn("Could not load {} {}: {}", description, path, e.getMessage());
+        } finally {
+            // Only now: other threads must not learn from or rank by a half-loaded state
+            loaded = true;
+        }
+    }
+}
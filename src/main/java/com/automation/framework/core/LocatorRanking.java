@@ -0,0 +1,131 @@
+package com.automation.framework.core;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static com.automation.framework.core.FrameworkConstants.*;
+
+/**
+ * Learned order of fallback locator candidates per logical element and platform.
+ * Each candidate keeps an exponentially weighted success rate and attempt duration
+ * (time until it worked or gave up). Candidates are tried by expected cost per success
+ * (mean duration / success rate), which is the order that minimises the expected time
+ * to the first working candidate. Candidates that have worked come first, untried ones
+ * next in declared order, and ones that have only ever failed last.
+ *
+ * Learning is in-memory for the run. When {@code locator.history} points to a file,
+ * the history is loaded from it on first use and saved back by {@link #save()}.
+ *
+ * @author Baskar
+ * @version 1.1.0
+ */
+public final class LocatorRanking {
+    private static final Map<String, Map<String, Stats>> history = new ConcurrentHashMap<>();
+    private static final double MIN_SUCCESS_RATE = 0.01;
+    private static final LearningStore<Map<String, Map<String, Map<String, Number>>>> store = new LearningStore<>(
+            CONFIG_KEY_LOCATOR_HISTORY, "locator history", new TypeReference<>() { }, LocatorRanking::restore);
+
+    private LocatorRanking() {
+        // Utility class
+    }
+
+    /**
+     * Order candidates for a chain, best expected first. Candidates are keyed by
+     * {@code String.valueOf(candidate)}.
+     *
+     * @param chain      Chain key (platform + screen + element)
+     * @param candidates Candidates in declared order
+     * @return New list in the order to try them
+     */
+    public static <C> List<C> rank(String chain, List<C> candidates) {
+        store.ensureLoaded();
+        Map<String, Stats> known = history.get(chain);
+        List<C> ordered = new ArrayList<>(candidates);
+        if (known == null || candidates.size() < 2) {
+            return ordered;
+        }
+        // List.sort is stable, so ties keep the declared order
+        ordered.sort(Comparator
+                .comparingInt((C candidate) -> tier(known.get(String.valueOf(candidate))))
+                .thenComparingDouble(candidate -> expectedCost(known.get(String.valueOf(candidate)))));
+        return ordered;
+    }
+
+    /**
+     * Record one attempt of a candidate.
+     *
+     * @param chain      Chain key
+     * @param candidate  Candidate tried
+     * @param success    Whether it worked
+     * @param durationMs Time until it worked or gave up
+     */
+    public static void record(String chain, Object candidate, boolean success, long durationMs) {
+        store.ensureLoaded();
+        Stats stats = history.computeIfAbsent(chain, k -> new ConcurrentHashMap<>())
+                .computeIfAbsent(String.valueOf(candidate), k -> new Stats());
+        synchronized (stats) {
+            if (stats.attempts == 0) {
+                stats.successRate = success ? 1 : 0;
+                stats.meanMs = durationMs;
+            } else {
+                stats.successRate = LearningStore.ewma(stats.successRate, success ? 1 : 0);
+                stats.meanMs = LearningStore.ewma(stats.meanMs, durationMs);
+            }
+            stats.attempts++;
+        }
+    }
+
+    private static int tier(Stats stats) {
+        if (stats == null) {
+            return 1;
+        }
+        synchronized (stats) {
+            return stats.attempts == 0 ? 1 : stats.successRate > 0 ? 0 : 2;
+        }
+    }
+
+    private static double expectedCost(Stats stats) {
+        if (stats == null) {
+            return 0;
+        }
+        synchronized (stats) {
+            return stats.meanMs / Math.max(MIN_SUCCESS_RATE, stats.successRate);
+        }
+    }
+
+    /**
+     * Persist the history to {@code locator.history}, if configured.
+     */
+    public static void save() {
+        Map<String, Map<String, Map<String, Number>>> snapshot = new TreeMap<>();
+        history.forEach((chain, candidates) -> candidates.forEach((candidate, stats) -> {
+            synchronized (stats) {
+                snapshot.computeIfAbsent(chain, k -> new TreeMap<>()).put(candidate, Map.of(
+                        "attempts", stats.attempts, "successRate", stats.successRate, "meanMs", stats.meanMs));
+            }
+        }));
+        store.save(snapshot);
+    }
+
+    private static void restore(Map<String, Map<String, Map<String, Number>>> data) {
+        data.forEach((chain, candidates) -> candidates.forEach((candidate, values) -> {
+            Stats stats = new Stats();
+            stats.attempts = values.getOrDefault("attempts", 0).longValue();
+            stats.successRate = values.getOrDefault("successRate", 0).doubleValue();
+            stats.meanMs = values.getOrDefault("meanMs", 0).doubleValue();
+            history.computeIfAbsent(chain, k -> new ConcurrentHashMap<>()).put(candidate, stats);
+        }));
+    }
+
+    private static final class Stats {
+        long attempts;
+        double successRate;
+        double meanMs;
+    }
+}
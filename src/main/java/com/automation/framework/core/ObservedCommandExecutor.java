@@ -0,0 +1,171 @@
+package com.automation.framework.core;
+
+import io.appium.java_client.MobileCommand;
+import com.automation.framework.metrics.FrameworkMetrics;
+import io.appium.java_client.remote.AppiumCommandExecutor;
+import org.openqa.selenium.NoSuchSessionException;
+import org.openqa.selenium.remote.Command;
+import org.openqa.selenium.remote.DriverCommand;
+import org.openqa.selenium.remote.Response;
+import org.openqa.selenium.remote.UnreachableBrowserException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.net.ConnectException;
+import java.net.URL;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * Appium command executor that notifies {@link CommandObserver}s around every command.
+ * Drivers built by {@link DriverFactory} always use it, so recording, metrics and
+ * failure detection attach here instead of wrapping driver calls in page objects.
+ * Once the server reports the session gone (or stops answering), the session is
+ * marked dead and every later command fails at once instead of waiting out
+ * timeouts against it; quitting a dead session is a no-op.
+ * 
+ * @author Baskar
+ * @version 1.1.0
+ */
+public class ObservedCommandExecutor extends AppiumCommandExecutor {
+    private static final Logger logger = LoggerFactory.getLogger(ObservedCommandExecutor.class);
+    private static final List<CommandObserver> globalObservers = new CopyOnWriteArrayList<>();
+
+    private final List<CommandObserver> observers = new ArrayList<>();
+    private volatile String deadReason;
+
+    /**
+     * @param remoteServer Appium/W3C endpoint
+     * @param observers    Observers for this driver only (in addition to global ones)
+     */
+    public ObservedCommandExecutor(URL remoteServer, List<CommandObserver> observers) {
+        super(MobileCommand.commandRepository, remoteServer);
+        this.observers.addAll(observers);
+    }
+
+    /**
+     * Register an observer for commands of all drivers created afterwards and those already running.
+     * 
+     * @param observer Observer to add (ignored if already registered)
+     */
+    public static void register(CommandObserver observer) {
+        if (!globalObservers.contains(observer)) {
+            globalObservers.add(observer);
+        }
+    }
+
+    /**
+     * Remove a previously registered global observer.
+     */
+    public static void unregister(CommandObserver observer) {
+        globalObservers.remove(observer);
+    }
+
+    /**
+     * Whether the session behind this executor is known to be gone.
+     */
+    public boolean isSessionDead() {
+        return deadReason != null;
+    }
+
+    @Override
+    public Response execute(Command command) {
+        if (deadReason != null) {
+            if (DriverCommand.QUIT.equals(command.getName())) {
+                Response nothingToQuit = new Response(command.getSessionId());
+                nothingToQuit.setState("success");
+                nothingToQuit.setValue(null);
+                return nothingToQuit;
+            }
+            throw new NoSuchSessionException("Session is dead (" + deadReason + "); '"
+                    + command.getName() + "' was not sent");
+        }
+        notifyBefore(command);
+        long start = System.nanoTime();
+        Response response;
+        try {
+            response = dispatch(command);
+        } catch (RuntimeException e) {
+            checkAlive(command, e);
+            notifyFailure(command, e, System.nanoTime() - start);
+            throw e;
+        }
+        if (response.getValue() instanceof RuntimeException error) {
+            checkAlive(command, error);
+        }
+        notifyAfter(command, response, System.nanoTime() - start);
+        return response;
+    }
+
+    private void checkAlive(Command command, RuntimeException error) {
+        if (deadReason != null || DriverCommand.QUIT.equals(command.getName()) || !isSessionFailure(error)) {
+            return;
+        }
+        deadReason = error.getClass().getSimpleName() + " on " + command.getName();
+        FrameworkMetrics.sessionDied();
+        logger.warn("Session {} is dead ({}); remaining commands fail immediately", command.getSessionId(), deadReason);
+    }
+
+    /**
+     * Whether an error means the session cannot be used any more (gone on the server,
+     * or the server stopped answering). Retrying against such a session only waits out
+     * timeouts, so callers that retry should rethrow these at once.
+     *
+     * @param error Error from a driver call (its causes are checked too)
+     */
+    public static boolean isSessionFailure(Throwable error) {
+        for (Throwable t = error; t != null; t = t.getCause()) {
+            if (t instanceof NoSuchSessionException || t instanceof UnreachableBrowserException
+                    || t instanceof ConnectException) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Send the command. Subclasses may serve responses without a server.
+     * 
+     * @param command Command to execute
+     * @return Server response
+     */
+    protected Response dispatch(Command command) {
+        return super.execute(command);
+    }
+
+    private void notifyBefore(Command command) {
+        for (CommandObserver observer : globalObservers) {
+            safely(() -> observer.beforeCommand(command));
+        }
+        for (CommandObserver observer : observers) {
+            safely(() -> observer.beforeCommand(command));
+        }
+    }
+
+    private void notifyAfter(Command command, Response response, long durationNanos) {
+        for (CommandObserver observer : globalObservers) {
+            safely(() -> observer.afterCommand(command, response, durationNanos));
+        }
+        for (CommandObserver observer : observers) {
+            safely(() -> observer.afterCommand(command, response, durationNanos));
+        }
+    }
+
+    private void notifyFailure(Command command, RuntimeException error, long durationNanos) {
+        for (CommandObserver observer : globalObservers) {
+            safely(() -> observer.onCommandFailure(command, error, durationNanos));
+        }
+        for (CommandObserver observer : observers) {
+            safely(() -> observer.onCommandFailure(command, error, durationNanos));
+        }
+    }
+
+    private static void safely(Runnable callback) {
+        try {
+            callback.run();
+        } catch (RuntimeException e) {
+            logger.warn("Command observer failed: {}", e.getMessage());
+        }
+    }
+}
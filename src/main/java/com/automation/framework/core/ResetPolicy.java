@@ -0,0 +1,186 @@
+package com.automation.framework.core;
+
+import io.appium.java_client.AppiumDriver;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+import static com.automation.framework.core.FrameworkConstants.*;
+
+/**
+ * Chooses and applies the cheapest sufficient isolation between scenarios.
+ * A scenario gets the configured level ({@code reset.level}, default {@code restartApp}),
+ * or the level named by its {@code @reset:<level>} tag. A new session is forced when the
+ * thread has no open session or its previous scenario failed, and any cheaper reset that
+ * fails escalates to a new session. Inside a {@code @SharedSession} lease the level is
+ * capped at an app restart. Time spent per level is recorded for the run report.
+ *
+ * @author Baskar
+ * @version 1.0.0
+ */
+public final class ResetPolicy {
+    private static final Logger logger = LoggerFactory.getLogger(ResetPolicy.class);
+    private static final ThreadLocal<Boolean> previousFailed = new ThreadLocal<>();
+    private static final Map<Level, Timing> timings = new EnumMap<>(Level.class);
+
+    static {
+        for (Level level : Level.values()) {
+            timings.put(level, new Timing());
+        }
+    }
+
+    /**
+     * Isolation levels, cheapest first.
+     */
+    public enum Level {
+        NONE("none"),
+        NAVIGATE_HOME("navigateHome"),
+        RESTART_APP("restartApp"),
+        CLEAR_DATA("clearData"),
+        REINSTALL("reinstall"),
+        NEW_SESSION("newSession");
+
+        private final String key;
+
+        Level(String key) {
+            this.key = key;
+        }
+
+        public String getKey() {
+            return key;
+        }
+
+        /**
+         * Parse a level key (case-insensitive), e.g. {@code clearData}.
+         */
+        public static Level of(String key) {
+            for (Level level : values()) {
+                if (level.key.equalsIgnoreCase(key.trim())) {
+                    return level;
+                }
+            }
+            throw new IllegalArgumentException("Unknown reset level '" + key + "'; expected one of "
+                    + List.of(values()).stream().map(Level::getKey).toList());
+        }
+    }
+
+    private static final class Timing {
+        final LongAdder count = new LongAdder();
+        final LongAdder nanos = new LongAdder();
+    }
+
+    private ResetPolicy() {
+        // Utility class
+    }
+
+    /**
+     * Level for the next scenario on the current thread.
+     *
+     * @param tags Scenario tags
+     */
+    public static Level choose(Collection<String> tags) {
+        if (!DriverManager.claimKept() || Boolean.TRUE.equals(previousFailed.get())) {
+            return Level.NEW_SESSION;
+        }
+        Level level = Level.of(ConfigManager.get(CONFIG_KEY_RESET_LEVEL, DEFAULT_RESET_LEVEL));
+        for (String tag : tags) {
+            if (tag.startsWith(RESET_TAG_PREFIX)) {
+                level = Level.of(tag.substring(RESET_TAG_PREFIX.length()));
+            }
+        }
+        if (SessionLease.isHeld() && level.compareTo(Level.RESTART_APP) > 0) {
+            level = Level.RESTART_APP;
+        }
+        return level;
+    }
+
+    /**
+     * Apply a level to the current thread's session, escalating to a new session if
+     * the reset fails.
+     *
+     * @param level        Level from {@link #choose(Collection)}
+     * @param navigateHome Brings the app back to its home screen (for {@link Level#NAVIGATE_HOME})
+     * @return The session to run the scenario on
+     */
+    public static AppiumDriver apply(Level level, Runnable navigateHome) {
+        if (level != Level.NEW_SESSION) {
+            long start = System.nanoTime();
+            try {
+                AppiumDriver driver = DriverManager.getDriver();
+                switch (level) {
+                    case NAVIGATE_HOME -> navigateHome.run();
+                    case RESTART_APP -> AppState.restart(driver);
+                    case CLEAR_DATA -> AppState.clearData(driver);
+                    case REINSTALL -> AppState.reinstall(driver);
+                    default -> {
+                        // NONE: continue where the previous scenario left off
+                    }
+                }
+                record(level, start);
+                return driver;
+            } catch (RuntimeException e) {
+                logger.warn("Reset '{}' failed, starting a new session: {}", level.getKey(), e.getMessage());
+                DriverManager.releaseDriver();
+            }
+        }
+        long start = System.nanoTime();
+        DriverManager.releaseDriver();
+        AppiumDriver driver = DriverFactory.createDriver();
+        record(Level.NEW_SESSION, start);
+        return driver;
+    }
+
+    /**
+     * Record the outcome of the scenario just run on the current thread.
+     */
+    public static void finished(boolean failed) {
+        previousFailed.set(failed);
+    }
+
+    /**
+     * Whether a session that ran a passing scenario should be kept for the next one.
+     * Not while other threads are queued for a session slot.
+     */
+    public static boolean keepsSession() {
+        if (SessionLease.isHeld()) {
+            return true;
+        }
+        if (SessionAdmissionController.getWaiting() > 0) {
+            return false;
+        }
+        return Level.of(ConfigManager.get(CONFIG_KEY_RESET_LEVEL, DEFAULT_RESET_LEVEL)) != Level.NEW_SESSION;
+    }
+
+    /**
+     * Count and time per level over the run (header row first).
+     */
+    public static String[][] runTable() {
+        List<String[]> rows = new ArrayList<>();
+        rows.add(new String[]{"Reset level", "Count", "Mean ms", "Total seconds"});
+        timings.forEach((level, timing) -> {
+            long count = timing.count.sum();
+            if (count > 0) {
+                long nanos = timing.nanos.sum();
+                rows.add(new String[]{level.getKey(), String.valueOf(count),
+                        String.format(Locale.ROOT, "%.0f", nanos / 1e6 / count),
+                        String.format(Locale.ROOT, "%.1f", nanos / 1e9)});
+            }
+        });
+        return rows.toArray(new String[0][]);
+    }
+
+    private static void record(Level level, long startNanos) {
+        long nanos = System.nanoTime() - startNanos;
+        Timing timing = timings.get(level);
+        timing.count.increment();
+        timing.nanos.add(nanos);
+        logger.debug("Reset '{}' took {} ms", level.getKey(), nanos / 1_000_000);
+    }
+}
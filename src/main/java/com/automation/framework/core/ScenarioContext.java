@@ -0,0 +1,161 @@
+package com.automation.framework.core;
+
+import org.openqa.selenium.TimeoutException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.Set;
+
+import static com.automation.framework.core.FrameworkConstants.*;
+
+/**
+ * Per-thread context of the running scenario.
+ * Holds the scenario identity and its time budget; every wait, find and retry
+ * loop draws from the remaining budget so a stuck scenario fails fast instead of
+ * holding a device session for many minutes.
+ * 
+ * Budget resolution: tag {@code @budget=<seconds>} > config {@code scenario.budgetSeconds} > default.
+ * A budget of 0 disables the limit.
+ * 
+ * @author Baskar
+ * @version 1.0.0
+ */
+public final class ScenarioContext {
+    private static final Logger logger = LoggerFactory.getLogger(ScenarioContext.class);
+    private static final ThreadLocal<ScenarioContext> current = new ThreadLocal<>();
+
+    private final String name;
+    private final Set<String> tags;
+    private final Duration budget;
+    private final long startNanos;
+    private final long deadlineNanos;
+
+    private ScenarioContext(String name, Set<String> tags, Duration budget) {
+        this.name = name;
+        this.tags = tags;
+        this.budget = budget;
+        this.startNanos = System.nanoTime();
+        this.deadlineNanos = budget.isZero() ? Long.MAX_VALUE : startNanos + budget.toNanos();
+    }
+
+    /**
+     * Start a scenario on the current thread.
+     * 
+     * @param name Scenario name
+     * @param tags Scenario tags (e.g. from Cucumber's getSourceTagNames())
+     * @return The new context
+     */
+    public static ScenarioContext start(String name, Collection<String> tags) {
+        Set<String> tagSet = Collections.unmodifiableSet(new LinkedHashSet<>(tags));
+        ScenarioContext context = new ScenarioContext(name, tagSet, resolveBudget(tagSet));
+        current.set(context);
+        logger.debug("Scenario '{}' started with budget {}", name,
+                context.budget.isZero() ? "unlimited" : context.budget.toSeconds() + "s");
+        return context;
+    }
+
+    /**
+     * Get the context of the scenario running on this thread.
+     * 
+     * @return ScenarioContext or null outside a scenario
+     */
+    public static ScenarioContext current() {
+        return current.get();
+    }
+
+    /**
+     * End the scenario on the current thread.
+     */
+    public static void end() {
+        current.remove();
+    }
+
+    /**
+     * Cap a timeout to the remaining scenario budget.
+     * 
+     * @param timeout Requested timeout
+     * @return The smaller of the timeout and the remaining budget
+     * @throws TimeoutException if the budget is already exhausted
+     */
+    public static Duration cap(Duration timeout) {
+        ScenarioContext context = current.get();
+        if (context == null) {
+            return timeout;
+        }
+        Duration remaining = context.remaining();
+        if (remaining.isZero()) {
+            throw context.budgetExceeded();
+        }
+        return timeout.compareTo(remaining) <= 0 ? timeout : remaining;
+    }
+
+    /**
+     * Fail fast if the scenario budget is exhausted.
+     * Call before any remote lookup that is not covered by an explicit wait.
+     * 
+     * @throws TimeoutException if the budget is already exhausted
+     */
+    public static void checkBudget() {
+        ScenarioContext context = current.get();
+        if (context != null && context.remaining().isZero()) {
+            throw context.budgetExceeded();
+        }
+    }
+
+    /**
+     * Remaining time of this scenario's budget.
+     * 
+     * @return Remaining budget (never negative); very large when unlimited
+     */
+    public Duration remaining() {
+        if (deadlineNanos == Long.MAX_VALUE) {
+            return Duration.ofNanos(Long.MAX_VALUE);
+        }
+        return Duration.ofNanos(Math.max(0, deadlineNanos - System.nanoTime()));
+    }
+
+    /**
+     * Time since the scenario started.
+     */
+    public Duration elapsed() {
+        return Duration.ofNanos(System.nanoTime() - startNanos);
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public Set<String> getTags() {
+        return tags;
+    }
+
+    public boolean hasTag(String tag) {
+        return tags.contains(tag);
+    }
+
+    public Duration getBudget() {
+        return budget;
+    }
+
+    private TimeoutException budgetExceeded() {
+        return new TimeoutException(String.format("Scenario '%s' exceeded its time budget of %d s",
+                name, budget.toSeconds()));
+    }
+
+    private static Duration resolveBudget(Set<String> tags) {
+        for (String tag : tags) {
+            if (tag.startsWith(BUDGET_TAG_PREFIX)) {
+                try {
+                    return Duration.ofSeconds(Long.parseLong(tag.substring(BUDGET_TAG_PREFIX.length())));
+                } catch (NumberFormatException e) {
+                    logger.warn("Invalid budget tag {}, falling back to config", tag);
+                }
+            }
+        }
+        return Duration.ofSeconds(ConfigManager.getInt(CONFIG_KEY_SCENARIO_BUDGET, DEFAULT_SCENARIO_BUDGET));
+    }
+}
@@ -0,0 +1,258 @@
+package com.automation.framework.core;
+
+import com.automation.framework.metrics.FrameworkMetrics;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openqa.selenium.SessionNotCreatedException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Base64;
+import java.util.Locale;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static com.automation.framework.core.FrameworkConstants.*;
+
+/**
+ * Admits new sessions up to the plan's parallel limit and queues the rest locally.
+ * The limit is {@code sessions.maxConcurrent}; if that is not set and sessions go to
+ * BrowserStack, it is read from the plan API ({@code parallel_sessions_max_allowed}),
+ * otherwise sessions are unlimited. Permits are granted first come, first served, and
+ * held until the session quits, so sessions kept between scenarios count too; a
+ * request that has to wait evicts one idle kept session, and no session is kept
+ * while requests are waiting.
+ *
+ * <p>The limit adapts to the hub: a session creation that took longer than
+ * {@code sessions.queueThresholdSeconds} (default 30) was queued remotely, and a
+ * creation rejected for the parallel/queue limit means the plan is full; either lowers
+ * the limit by one (an unlimited controller starts limiting at the sessions open now).
+ * After as many fast creations in a row as the current limit, it grows back by one,
+ * up to the configured or discovered maximum.
+ *
+ * @author Baskar
+ * @version 1.0.0
+ */
+public final class SessionAdmissionController {
+    private static final Logger logger = LoggerFactory.getLogger(SessionAdmissionController.class);
+    private static final String PLAN_URL = "https://api-cloud.browserstack.com/app-automate/plan.json";
+    private static final int UNLIMITED = Integer.MAX_VALUE / 2;
+    private static final String[] QUOTA_ERRORS = {"parallel", "queue", "concurrency", "all_parallels_in_use"};
+
+    private static final Permits permits = new Permits();
+    private static final AtomicInteger inUse = new AtomicInteger();
+    private static final AtomicInteger waiting = new AtomicInteger();
+    private static final ThreadLocal<Long> lastWaitNanos = new ThreadLocal<>();
+    private static int maxLimit;
+    private static int limit;
+    private static int fastCreations;
+    private static boolean initialized;
+
+    /**
+     * Fair semaphore whose size can shrink while permits are out.
+     */
+    private static final class Permits extends Semaphore {
+        private static final long serialVersionUID = 1L;
+
+        Permits() {
+            super(0, true);
+        }
+
+        void resize(int from, int to) {
+            if (to > from) {
+                release(to - from);
+            } else if (to < from) {
+                reducePermits(from - to);
+            }
+        }
+    }
+
+    private SessionAdmissionController() {
+        // Utility class
+    }
+
+    /**
+     * Take a session permit, waiting in line while the limit is reached.
+     *
+     * @throws SessionNotCreatedException if no permit was granted within
+     *                                    {@code sessions.maxWaitSeconds} or the scenario budget
+     */
+    public static void acquire() {
+        initialize();
+        long start = System.nanoTime();
+        if (!tryAcquireNow()) {
+            // A session kept idle for reuse gives its slot to a waiting request
+            DriverManager.evictIdle();
+            int ahead = waiting.incrementAndGet() - 1;
+            logger.info("Session limit {} reached; queued locally with {} ahead", currentLimit(), ahead);
+            Duration maxWait = ScenarioContext.cap(Duration.ofSeconds(
+                    ConfigManager.getInt(CONFIG_KEY_ADMISSION_MAX_WAIT, DEFAULT_ADMISSION_MAX_WAIT)));
+            try {
+                if (!permits.tryAcquire(maxWait.toMillis(), TimeUnit.MILLISECONDS)) {
+                    throw new SessionNotCreatedException("No session slot free within " + maxWait.toSeconds()
+                            + "s (limit " + currentLimit() + ")");
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new SessionNotCreatedException("Interrupted while queued for a session slot");
+            } finally {
+                waiting.decrementAndGet();
+            }
+        }
+        inUse.incrementAndGet();
+        long waited = System.nanoTime() - start;
+        lastWaitNanos.set(waited);
+        FrameworkMetrics.admissionWaited(waited);
+    }
+
+    /**
+     * Take a free permit unless others are already queued for one. Unlike the untimed
+     * {@code tryAcquire()}, the timed form honours the semaphore's fairness.
+     */
+    private static boolean tryAcquireNow() {
+        try {
+            return permits.tryAcquire(0, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new SessionNotCreatedException("Interrupted while queued for a session slot");
+        }
+    }
+
+    /**
+     * Return a permit (session quit, or its creation failed).
+     */
+    public static void release() {
+        inUse.decrementAndGet();
+        permits.release();
+    }
+
+    /**
+     * A session was created; slow creations mean the hub queued it.
+     */
+    public static void onCreated(long durationNanos) {
+        long thresholdSeconds = ConfigManager.getInt(CONFIG_KEY_ADMISSION_QUEUE_THRESHOLD,
+                DEFAULT_ADMISSION_QUEUE_THRESHOLD);
+        if (durationNanos > TimeUnit.SECONDS.toNanos(thresholdSeconds)) {
+            shrink("session creation took " + TimeUnit.NANOSECONDS.toSeconds(durationNanos) + "s");
+            return;
+        }
+        synchronized (SessionAdmissionController.class) {
+            if (limit < maxLimit && ++fastCreations >= limit) {
+                setLimit(limit + 1);
+                fastCreations = 0;
+                logger.info("Session creation healthy; session limit raised to {}", limit);
+            }
+        }
+    }
+
+    /**
+     * A session could not be created; quota errors lower the limit.
+     */
+    public static void onFailed(Exception error) {
+        for (Throwable t = error; t != null; t = t.getCause()) {
+            String message = String.valueOf(t.getMessage()).toLowerCase(Locale.ROOT);
+            for (String marker : QUOTA_ERRORS) {
+                if (message.contains(marker)) {
+                    shrink("hub rejected the session: " + marker);
+                    return;
+                }
+            }
+        }
+    }
+
+    /**
+     * Time the current thread waited for its last permit, then forget it.
+     *
+     * @return The wait, or zero if no permit was taken since the last call
+     */
+    public static Duration takeLastWait() {
+        Long nanos = lastWaitNanos.get();
+        lastWaitNanos.remove();
+        return nanos == null ? Duration.ZERO : Duration.ofNanos(nanos);
+    }
+
+    public static int getWaiting() {
+        return waiting.get();
+    }
+
+    /**
+     * Current limit, or 0 if unlimited.
+     */
+    public static synchronized int currentLimit() {
+        return limit >= UNLIMITED ? 0 : limit;
+    }
+
+    private static synchronized void shrink(String reason) {
+        if (limit >= UNLIMITED) {
+            // Sessions open now (this one included) are what the hub can take at most
+            maxLimit = Math.max(1, inUse.get());
+        }
+        int target = Math.max(1, Math.min(limit, maxLimit) - 1);
+        fastCreations = 0;
+        if (target < limit) {
+            setLimit(target);
+            logger.warn("Hub is queueing ({}); session limit lowered to {}", reason, limit);
+        }
+    }
+
+    private static void setLimit(int newLimit) {
+        permits.resize(limit, newLimit);
+        limit = newLimit;
+    }
+
+    private static synchronized void initialize() {
+        if (initialized) {
+            return;
+        }
+        initialized = true;
+        int configured = ConfigManager.getInt(CONFIG_KEY_ADMISSION_LIMIT, 0);
+        int discovered = configured > 0 ? 0 : discoverLimit();
+        maxLimit = configured > 0 ? configured : discovered > 0 ? discovered : UNLIMITED;
+        setLimit(maxLimit);
+        logger.info("Session admission limit: {}", maxLimit >= UNLIMITED ? "unlimited"
+                : maxLimit + (configured > 0 ? " (configured)" : " (BrowserStack plan)"));
+    }
+
+    /**
+     * Parallel session limit of the BrowserStack plan, or 0 if unknown.
+     */
+    private static int discoverLimit() {
+        if (!DriverFactory.usesBrowserStackHub()
+                || !ConfigManager.getBoolean(CONFIG_KEY_ADMISSION_DISCOVER, DEFAULT_ADMISSION_DISCOVER)) {
+            return 0;
+        }
+        String[] credentials = DriverFactory.getBrowserStackCredentials();
+        if (credentials == null) {
+            return 0;
+        }
+        try {
+            String auth = Base64.getEncoder().encodeToString(
+                    (credentials[0] + ":" + credentials[1]).getBytes(StandardCharsets.UTF_8));
+            HttpRequest request = HttpRequest.newBuilder(URI.create(PLAN_URL))
+                    .header("Authorization", "Basic " + auth)
+                    .timeout(Duration.ofSeconds(10))
+                    .build();
+            HttpResponse<String> response = HttpClient.newHttpClient()
+                    .send(request, HttpResponse.BodyHandlers.ofString());
+            if (response.statusCode() != 200) {
+                logger.warn("Could not read BrowserStack plan (HTTP {}); sessions unlimited", response.statusCode());
+                return 0;
+            }
+            JsonNode plan = new ObjectMapper().readTree(response.body());
+            return plan.path("parallel_sessions_max_allowed").asInt(0);
+        } catch (Exception e) {
+            if (e instanceof InterruptedException) {
+                Thread.currentThread().interrupt();
+            }
+            logger.warn("Could not read BrowserStack plan ({}); sessions unlimited", e.getMessage());
+            return 0;
+        }
+    }
+}
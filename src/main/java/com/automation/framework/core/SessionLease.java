@@ -0,0 +1,41 @@
+package com.automation.framework.core;
+
+/**
+ * Keeps the current thread's driver session alive across consecutive scenarios.
+ * While a lease is held, {@link ResetPolicy} keeps the session after passing
+ * scenarios and resets at most by restarting the app; a failed scenario still quits
+ * the session so the next one starts clean. Ending the lease quits whatever session
+ * is left.
+ *
+ * @author Baskar
+ * @version 1.0.0
+ */
+public final class SessionLease {
+    private static final ThreadLocal<Boolean> held = new ThreadLocal<>();
+
+    private SessionLease() {
+        // Utility class
+    }
+
+    /**
+     * Start holding sessions on the current thread.
+     */
+    public static void begin() {
+        held.set(Boolean.TRUE);
+    }
+
+    /**
+     * Whether a lease is held on the current thread.
+     */
+    public static boolean isHeld() {
+        return held.get() != null;
+    }
+
+    /**
+     * Release the lease and quit (in the background) the session it kept.
+     */
+    public static void end() {
+        held.remove();
+        DriverManager.releaseDriver();
+    }
+}
@@ -0,0 +1,89 @@
+package com.automation.framework.data;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * Streaming RFC 4180 CSV reader: comma separated, optional double-quoted fields
+ * with {@code ""} escapes and embedded commas or line breaks. A leading UTF-8 BOM
+ * and blank lines are skipped.
+ *
+ * @author Baskar
+ * @version 1.0.0
+ */
+final class CsvRowParser implements RowParser {
+
+    @Override
+    public void parse(Path file, String sheet, Consumer<List<String>> rows) throws IOException {
+        try (Reader reader = new BufferedReader(Files.newBufferedReader(file, StandardCharsets.UTF_8), 64 * 1024)) {
+            List<String> row = new ArrayList<>();
+            StringBuilder field = new StringBuilder();
+            boolean quoted = false;
+            boolean fieldStarted = false;
+            boolean first = true;
+            int c;
+            while ((c = reader.read()) != -1) {
+                if (first) {
+                    first = false;
+                    if (c == '\uFEFF') {
+                        continue;
+                    }
+                }
+                if (quoted) {
+                    if (c == '"') {
+                        reader.mark(1);
+                        int next = reader.read();
+                        if (next == '"') {
+                            field.append('"');
+                        } else {
+                            quoted = false;
+                            if (next != -1) {
+                                reader.reset();
+                            }
+                        }
+                    } else {
+                        field.append((char) c);
+                    }
+                } else if (c == '"' && !fieldStarted) {
+                    quoted = true;
+                    fieldStarted = true;
+                } else if (c == ',') {
+                    row.add(field.toString());
+                    field.setLength(0);
+                    fieldStarted = false;
+                } else if (c == '\n' || c == '\r') {
+                    if (c == '\r') {
+                        reader.mark(1);
+                        if (reader.read() != '\n') {
+                            reader.reset();
+                        }
+                    }
+                    emit(row, field, fieldStarted, rows);
+                    row = new ArrayList<>();
+                    fieldStarted = false;
+                } else {
+                    field.append((char) c);
+                    fieldStarted = true;
+                }
+            }
+            emit(row, field, fieldStarted, rows);
+        }
+    }
+
+    private static void emit(List<String> row, StringBuilder field, boolean fieldStarted,
+                             Consumer<List<String>> rows) {
+        if (row.isEmpty() && !fieldStarted && field.length() == 0) {
+            return; // blank line
+        }
+        row.add(field.toString());
+        field.setLength(0);
+        rows.accept(row);
+    }
+}
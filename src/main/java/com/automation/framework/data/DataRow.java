@@ -0,0 +1,103 @@
+package com.automation.framework.data;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * One row of an external data source, keyed by the source's header row.
+ * The row driving the scenario on the current thread is available through
+ * {@link #current()}; step definitions expand {@code ${column}} placeholders in
+ * their arguments with {@link #resolve(String)}.
+ *
+ * @author Baskar
+ * @version 1.0.0
+ */
+public final class DataRow {
+    private static final Pattern PLACEHOLDER = Pattern.compile("\\$\\{([^}]+)}");
+    private static final ThreadLocal<DataRow> current = new ThreadLocal<>();
+
+    private final String source;
+    private final long index;
+    private final Map<String, String> values;
+
+    DataRow(String source, long index, Map<String, String> values) {
+        this.source = source;
+        this.index = index;
+        this.values = Collections.unmodifiableMap(values);
+    }
+
+    /**
+     * Source file (and sheet) the row came from.
+     */
+    public String getSource() {
+        return source;
+    }
+
+    /**
+     * 1-based position of the row below the header.
+     */
+    public long getIndex() {
+        return index;
+    }
+
+    /**
+     * Value of a column, or null if the source has no such column.
+     */
+    public String get(String column) {
+        return values.get(column);
+    }
+
+    public Map<String, String> asMap() {
+        return values;
+    }
+
+    /**
+     * Replace {@code ${column}} placeholders with this row's values.
+     * Unknown columns are left as they are so typos show up in the step text.
+     */
+    public String substitute(String text) {
+        if (text == null || text.indexOf("${") < 0) {
+            return text;
+        }
+        Matcher matcher = PLACEHOLDER.matcher(text);
+        StringBuilder result = new StringBuilder();
+        while (matcher.find()) {
+            String value = values.get(matcher.group(1));
+            matcher.appendReplacement(result, Matcher.quoteReplacement(value != null ? value : matcher.group()));
+        }
+        matcher.appendTail(result);
+        return result.toString();
+    }
+
+    @Override
+    public String toString() {
+        return source + " row " + index;
+    }
+
+    // ==================== Current scenario row ====================
+
+    /**
+     * Row driving the scenario on the current thread, or null for plain scenarios.
+     */
+    public static DataRow current() {
+        return current.get();
+    }
+
+    public static void setCurrent(DataRow row) {
+        if (row == null) {
+            current.remove();
+        } else {
+            current.set(row);
+        }
+    }
+
+    /**
+     * Expand placeholders against the current thread's row; text is returned unchanged without one.
+     */
+    public static String resolve(String text) {
+        DataRow row = current.get();
+        return row != null ? row.substitute(text) : text;
+    }
+}
@@ -0,0 +1,40 @@
+package com.automation.framework.data;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Locale;
+import java.util.function.Consumer;
+
+/**
+ * Push-style reader of a tabular file: calls the consumer once per row, in order,
+ * without holding more than the current row in memory. The first row is the header.
+ *
+ * @author Baskar
+ * @version 1.0.0
+ */
+interface RowParser {
+
+    /**
+     * Read every row of the file.
+     *
+     * @param file  File to read
+     * @param sheet Sheet name for workbooks (null for the first sheet); ignored for CSV
+     * @param rows  Receives each row's cell values; may throw to stop reading
+     */
+    void parse(Path file, String sheet, Consumer<List<String>> rows) throws IOException;
+
+    /**
+     * Parser for a file, chosen by extension.
+     */
+    static RowParser forFile(Path file) {
+        String name = file.getFileName().toString().toLowerCase(Locale.ROOT);
+        if (name.endsWith(".xlsx") || name.endsWith(".xlsm")) {
+            return new XlsxRowParser();
+        }
+        if (name.endsWith(".csv") || name.endsWith(".txt")) {
+            return new CsvRowParser();
+        }
+        throw new IllegalArgumentException("Unsupported data source (use .csv or .xlsx): " + file);
+    }
+}
@@ -0,0 +1,149 @@
+package com.automation.framework.data;
+
+import com.automation.framework.core.ConfigManager;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CancellationException;
+
+import static com.automation.framework.core.FrameworkConstants.*;
+
+/**
+ * Lazily streamed rows of a CSV or .xlsx file.
+ * A reader thread parses the file and hands rows over through a bounded queue
+ * ({@code data.queueSize}, default 256), so it stays at most that many rows ahead of
+ * the consumer: opening a 100k-row source is instant and memory stays flat.
+ * The first row is the header; each following row becomes a {@link DataRow}.
+ *
+ * @author Baskar
+ * @version 1.0.0
+ */
+public final class RowStream implements Iterator<DataRow>, AutoCloseable {
+    private static final Logger logger = LoggerFactory.getLogger(RowStream.class);
+    private static final Object END = new Object();
+
+    private final String source;
+    private final BlockingQueue<Object> queue;
+    private final Thread reader;
+    private Object next;
+    private volatile boolean closed;
+
+    private RowStream(String source, Path file, String sheet, int capacity) {
+        this.source = source;
+        this.queue = new ArrayBlockingQueue<>(capacity);
+        RowParser parser = RowParser.forFile(file);
+        this.reader = Thread.ofPlatform().daemon().name("data-reader-" + file.getFileName())
+                .unstarted(() -> read(parser, file, sheet));
+    }
+
+    /**
+     * Open a data source and start reading it in the background.
+     *
+     * @param spec File path, optionally followed by {@code #SheetName} for workbooks
+     * @return Stream of the rows below the header
+     */
+    public static RowStream open(String spec) {
+        int hash = spec.lastIndexOf('#');
+        Path file = Paths.get(hash > 0 ? spec.substring(0, hash) : spec);
+        String sheet = hash > 0 ? spec.substring(hash + 1) : null;
+        if (!Files.isRegularFile(file)) {
+            throw new IllegalArgumentException("Data source not found: " + file.toAbsolutePath());
+        }
+        int capacity = Math.max(1, ConfigManager.getInt(CONFIG_KEY_DATA_QUEUE_SIZE, DEFAULT_DATA_QUEUE_SIZE));
+        RowStream stream = new RowStream(spec, file, sheet, capacity);
+        stream.reader.start();
+        return stream;
+    }
+
+    private void read(RowParser parser, Path file, String sheet) {
+        long[] count = {0};
+        String[][] header = {null};
+        try {
+            parser.parse(file, sheet, cells -> {
+                if (header[0] == null) {
+                    header[0] = cells.stream().map(String::trim).toArray(String[]::new);
+                    return;
+                }
+                put(new DataRow(source, ++count[0], toMap(header[0], cells)));
+            });
+            put(END);
+            logger.debug("Read {} rows from {}", count[0], source);
+        } catch (CancellationException e) {
+            logger.debug("Stopped reading {} after {} rows", source, count[0]);
+        } catch (Exception e) {
+            if (!closed) {
+                queue.clear();
+                queue.offer(e);
+            }
+        }
+    }
+
+    private static Map<String, String> toMap(String[] header, List<String> cells) {
+        Map<String, String> values = new LinkedHashMap<>();
+        for (int i = 0; i < header.length; i++) {
+            values.put(header[i], i < cells.size() ? cells.get(i) : "");
+        }
+        return values;
+    }
+
+    private void put(Object item) {
+        try {
+            queue.put(item);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new CancellationException("Data source closed");
+        }
+    }
+
+    @Override
+    public boolean hasNext() {
+        if (next == null && !closed) {
+            try {
+                next = queue.take();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException("Interrupted while reading " + source, e);
+            }
+            if (next instanceof Exception failure) {
+                next = END;
+                throw new IllegalStateException("Failed to read data source " + source + ": "
+                        + failure.getMessage(), failure);
+            }
+        }
+        return next != null && next != END;
+    }
+
+    @Override
+    public DataRow next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException("No more rows in " + source);
+        }
+        DataRow row = (DataRow) next;
+        next = null;
+        return row;
+    }
+
+    /**
+     * Stop the reader thread and drop buffered rows.
+     */
+    @Override
+    public void close() {
+        closed = true;
+        reader.interrupt();
+        queue.clear();
+    }
+
+    public String getSource() {
+        return source;
+    }
+}
@@ -0,0 +1,93 @@
+package com.automation.framework.data;
+
+import org.apache.poi.openxml4j.exceptions.OpenXML4JException;
+import org.apache.poi.openxml4j.opc.OPCPackage;
+import org.apache.poi.openxml4j.opc.PackageAccess;
+import org.apache.poi.ss.usermodel.DataFormatter;
+import org.apache.poi.ss.util.CellReference;
+import org.apache.poi.util.XMLHelper;
+import org.apache.poi.xssf.eventusermodel.ReadOnlySharedStringsTable;
+import org.apache.poi.xssf.eventusermodel.XSSFReader;
+import org.apache.poi.xssf.eventusermodel.XSSFSheetXMLHandler;
+import org.apache.poi.xssf.model.StylesTable;
+import org.apache.poi.xssf.usermodel.XSSFComment;
+import org.xml.sax.InputSource;
+import org.xml.sax.SAXException;
+import org.xml.sax.XMLReader;
+
+import javax.xml.parsers.ParserConfigurationException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * Streaming .xlsx reader on the POI event model: the sheet XML is SAX-parsed and each
+ * row is handed on as soon as it ends, so the worksheet is never built in memory.
+ * Cells are formatted as displayed in Excel; missing cells become empty strings.
+ * Only the shared-strings table is held in memory, as POI requires.
+ *
+ * @author Baskar
+ * @version 1.0.0
+ */
+final class XlsxRowParser implements RowParser {
+
+    @Override
+    public void parse(Path file, String sheet, Consumer<List<String>> rows) throws IOException {
+        try (OPCPackage pkg = OPCPackage.open(file.toFile(), PackageAccess.READ)) {
+            XSSFReader reader = new XSSFReader(pkg);
+            ReadOnlySharedStringsTable strings = new ReadOnlySharedStringsTable(pkg, false);
+            StylesTable styles = reader.getStylesTable();
+            XSSFReader.SheetIterator sheets = (XSSFReader.SheetIterator) reader.getSheetsData();
+            while (sheets.hasNext()) {
+                try (InputStream data = sheets.next()) {
+                    if (sheet == null || sheet.equals(sheets.getSheetName())) {
+                        XMLReader parser = XMLHelper.newXMLReader();
+                        parser.setContentHandler(new XSSFSheetXMLHandler(styles, strings,
+                                new RowCollector(rows), new DataFormatter(), false));
+                        parser.parse(new InputSource(data));
+                        return;
+                    }
+                }
+            }
+            throw new IllegalArgumentException("Sheet '" + sheet + "' not found in " + file);
+        } catch (OpenXML4JException | SAXException | ParserConfigurationException e) {
+            throw new IOException("Could not read workbook " + file + ": " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Assembles cell callbacks into rows, filling gaps left by blank cells.
+     */
+    private static final class RowCollector implements XSSFSheetXMLHandler.SheetContentsHandler {
+        private final Consumer<List<String>> rows;
+        private List<String> row;
+
+        RowCollector(Consumer<List<String>> rows) {
+            this.rows = rows;
+        }
+
+        @Override
+        public void startRow(int rowNum) {
+            row = new ArrayList<>();
+        }
+
+        @Override
+        public void cell(String cellReference, String formattedValue, XSSFComment comment) {
+            int column = cellReference != null ? new CellReference(cellReference).getCol() : row.size();
+            while (row.size() < column) {
+                row.add("");
+            }
+            row.add(formattedValue != null ? formattedValue : "");
+        }
+
+        @Override
+        public void endRow(int rowNum) {
+            if (!row.isEmpty()) {
+                rows.accept(row);
+            }
+        }
+    }
+}
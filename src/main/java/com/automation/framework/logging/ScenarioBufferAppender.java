@@ -0,0 +1,142 @@
+package com.automation.framework.logging;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.Appender;
+import ch.qos.logback.core.UnsynchronizedAppenderBase;
+import ch.qos.logback.core.spi.AppenderAttachable;
+import ch.qos.logback.core.spi.AppenderAttachableImpl;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArraySet;
+
+/**
+ * Logback appender keeping a per-scenario ring buffer of DEBUG/TRACE events.
+ * Events below INFO are held in memory on the scenario's thread and written to the
+ * attached appenders only if the scenario fails, so passing scenarios pay no I/O for
+ * debug detail. INFO and above are ignored here; the regular appenders handle them.
+ * 
+ * <pre>
+ * &lt;appender name="SCENARIO_BUFFER" class="com.automation.framework.logging.ScenarioBufferAppender"&gt;
+ *     &lt;capacity&gt;500&lt;/capacity&gt;
+ *     &lt;appender-ref ref="JSON_FILE"/&gt;
+ * &lt;/appender&gt;
+ * </pre>
+ * 
+ * Hooks call {@link #startScenario()} and {@link #endScenario(boolean)}; outside a
+ * scenario nothing is buffered.
+ * 
+ * @author Baskar
+ * @version 1.0.0
+ */
+public class ScenarioBufferAppender extends UnsynchronizedAppenderBase<ILoggingEvent>
+        implements AppenderAttachable<ILoggingEvent> {
+    private static final int DEFAULT_CAPACITY = 500;
+    private static final ThreadLocal<Deque<ILoggingEvent>> buffer = new ThreadLocal<>();
+    private static final Set<ScenarioBufferAppender> instances = new CopyOnWriteArraySet<>();
+
+    private final AppenderAttachableImpl<ILoggingEvent> appenders = new AppenderAttachableImpl<>();
+    private int capacity = DEFAULT_CAPACITY;
+
+    /**
+     * Start buffering debug events for the scenario on the current thread.
+     */
+    public static void startScenario() {
+        buffer.set(new ArrayDeque<>());
+    }
+
+    /**
+     * Stop buffering on the current thread; write the buffered events if the scenario failed.
+     * 
+     * @param failed Whether the scenario failed
+     */
+    public static void endScenario(boolean failed) {
+        Deque<ILoggingEvent> events = buffer.get();
+        buffer.remove();
+        if (failed && events != null && !events.isEmpty()) {
+            for (ScenarioBufferAppender appender : instances) {
+                appender.replay(events);
+            }
+        }
+    }
+
+    @Override
+    public void start() {
+        instances.add(this);
+        super.start();
+    }
+
+    @Override
+    public void stop() {
+        instances.remove(this);
+        super.stop();
+    }
+
+    @Override
+    protected void append(ILoggingEvent event) {
+        Deque<ILoggingEvent> events = buffer.get();
+        if (events == null || event.getLevel().isGreaterOrEqual(Level.INFO)) {
+            return;
+        }
+        // Snapshot message, MDC and thread name now; the event is written later
+        event.prepareForDeferredProcessing();
+        if (events.size() >= capacity) {
+            events.pollFirst();
+        }
+        events.addLast(event);
+    }
+
+    private void replay(Deque<ILoggingEvent> events) {
+        for (ILoggingEvent event : events) {
+            appenders.appendLoopOnAppenders(event);
+        }
+    }
+
+    public void setCapacity(int capacity) {
+        this.capacity = Math.max(1, capacity);
+    }
+
+    public int getCapacity() {
+        return capacity;
+    }
+
+    // ==================== AppenderAttachable ====================
+
+    @Override
+    public void addAppender(Appender<ILoggingEvent> appender) {
+        appenders.addAppender(appender);
+    }
+
+    @Override
+    public Iterator<Appender<ILoggingEvent>> iteratorForAppenders() {
+        return appenders.iteratorForAppenders();
+    }
+
+    @Override
+    public Appender<ILoggingEvent> getAppender(String name) {
+        return appenders.getAppender(name);
+    }
+
+    @Override
+    public boolean isAttached(Appender<ILoggingEvent> appender) {
+        return appenders.isAttached(appender);
+    }
+
+    @Override
+    public void detachAndStopAllAppenders() {
+        appenders.detachAndStopAllAppenders();
+    }
+
+    @Override
+    public boolean detachAppender(Appender<ILoggingEvent> appender) {
+        return appenders.detachAppender(appender);
+    }
+
+    @Override
+    public boolean detachAppender(String name) {
+        return appenders.detachAppender(name);
+    }
+}
@@ -0,0 +1,205 @@
+package com.automation.framework.metrics;
+
+import com.automation.framework.core.CommandObserver;
+import com.automation.framework.core.HubCircuitBreaker;
+import com.automation.framework.core.SessionAdmissionController;
+import org.openqa.selenium.remote.Command;
+import org.openqa.selenium.remote.DriverCommand;
+import org.openqa.selenium.remote.Response;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryMXBean;
+import java.lang.management.MemoryUsage;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Live counters of a running suite, exposed in Prometheus text format by {@link MetricsServer}.
+ * Recording is always on and costs a few atomic adds per event; only the endpoint is optional.
+ * 
+ * <p>Metrics:
+ * - framework_sessions_active / framework_session_create_seconds / framework_session_create_failures_total
+ * - framework_scenarios_queued / framework_scenarios_running / framework_scenarios_total{status}
+ * - framework_command_duration_seconds{command} (histogram)
+ * - framework_retries_total / framework_screenshot_bytes_total
+ * - framework_heap_used_bytes / framework_heap_max_bytes
+ * 
+ * @author Baskar
+ * @version 1.1.0
+ */
+public final class FrameworkMetrics {
+    private static final double[] COMMAND_BUCKETS = {0.005, 0.01, 0.025, 0.05, 0.1, 0.25, 0.5, 1, 2.5, 5, 10, 30};
+    private static final double[] SESSION_BUCKETS = {0.5, 1, 2.5, 5, 10, 20, 30, 60, 120, 300};
+    private static final MemoryMXBean memory = ManagementFactory.getMemoryMXBean();
+
+    private static final AtomicInteger activeSessions = new AtomicInteger();
+    private static final Histogram sessionCreate = new Histogram(SESSION_BUCKETS);
+    private static final LongAdder sessionFailures = new LongAdder();
+    private static final Histogram admissionWait = new Histogram(SESSION_BUCKETS);
+    private static final AtomicInteger queuedScenarios = new AtomicInteger();
+    private static final AtomicInteger runningScenarios = new AtomicInteger();
+    private static final Map<String, LongAdder> scenarioResults = new ConcurrentHashMap<>();
+    private static final Map<String, Histogram> commandDurations = new ConcurrentHashMap<>();
+    private static final LongAdder retries = new LongAdder();
+    private static final LongAdder deadSessions = new LongAdder();
+    private static final LongAdder screenshotBytes = new LongAdder();
+
+    /**
+     * Observer feeding command latency and screenshot size; registered by {@link MetricsServer#start()}.
+     */
+    public static final CommandObserver COMMAND_OBSERVER = new CommandObserver() {
+        @Override
+        public void afterCommand(Command command, Response response, long durationNanos) {
+            recordCommand(command.getName(), durationNanos);
+            if (DriverCommand.SCREENSHOT.equals(command.getName()) && response.getValue() instanceof String base64) {
+                screenshotBytes.add(base64.length() * 3L / 4);
+            }
+        }
+
+        @Override
+        public void onCommandFailure(Command command, RuntimeException error, long durationNanos) {
+            recordCommand(command.getName(), durationNanos);
+        }
+    };
+
+    private FrameworkMetrics() {
+        // Utility class
+    }
+
+    // ==================== Recording ====================
+
+    public static void sessionCreated(long durationNanos) {
+        activeSessions.incrementAndGet();
+        sessionCreate.observe(durationNanos / 1e9);
+    }
+
+    public static void sessionCreateFailed(long durationNanos) {
+        sessionFailures.increment();
+        sessionCreate.observe(durationNanos / 1e9);
+    }
+
+    public static void sessionClosed() {
+        activeSessions.updateAndGet(n -> Math.max(0, n - 1));
+    }
+
+    /**
+     * Scenarios handed to the data provider and waiting for a thread.
+     */
+    public static void scenariosQueued(int count) {
+        queuedScenarios.addAndGet(count);
+    }
+
+    public static void scenarioStarted() {
+        queuedScenarios.updateAndGet(n -> Math.max(0, n - 1));
+        runningScenarios.incrementAndGet();
+    }
+
+    /**
+     * A queued scenario was reported from the result cache instead of running.
+     */
+    public static void scenarioCached() {
+        queuedScenarios.updateAndGet(n -> Math.max(0, n - 1));
+        scenarioResults.computeIfAbsent("cached", k -> new LongAdder()).increment();
+    }
+
+    /**
+     * Time a session request waited for an admission permit.
+     */
+    public static void admissionWaited(long durationNanos) {
+        admissionWait.observe(durationNanos / 1e9);
+    }
+
+    /**
+     * A session was found dead mid-scenario.
+     */
+    public static void sessionDied() {
+        deadSessions.increment();
+    }
+
+    /**
+     * @param status Cucumber status name (PASSED, FAILED, SKIPPED, ...)
+     */
+    public static void scenarioFinished(String status) {
+        runningScenarios.updateAndGet(n -> Math.max(0, n - 1));
+        scenarioResults.computeIfAbsent(status.toLowerCase(), k -> new LongAdder()).increment();
+    }
+
+    /**
+     * A failed scenario was sent back for another attempt.
+     */
+    public static void retried() {
+        retries.increment();
+        queuedScenarios.incrementAndGet();
+    }
+
+    private static void recordCommand(String command, long durationNanos) {
+        commandDurations.computeIfAbsent(command, k -> new Histogram(COMMAND_BUCKETS)).observe(durationNanos / 1e9);
+    }
+
+    public static int getActiveSessions() {
+        return activeSessions.get();
+    }
+
+    // ==================== Exposition ====================
+
+    /**
+     * Render all metrics in Prometheus text exposition format (version 0.0.4).
+     */
+    public static String render() {
+        StringBuilder out = new StringBuilder(4096);
+        gauge(out, "framework_sessions_active", "Driver sessions currently open", activeSessions.get());
+        help(out, "framework_session_create_seconds", "Time to create a driver session", "histogram");
+        sessionCreate.render(out, "framework_session_create_seconds", "");
+        counter(out, "framework_session_create_failures_total", "Failed session creations", sessionFailures.sum());
+        counter(out, "framework_sessions_dead_total", "Sessions lost mid-scenario", deadSessions.sum());
+        gauge(out, "framework_sessions_limit", "Session admission limit (0 = unlimited)",
+                SessionAdmissionController.currentLimit());
+        gauge(out, "framework_sessions_waiting", "Session requests queued for an admission permit",
+                SessionAdmissionController.getWaiting());
+        help(out, "framework_session_admission_wait_seconds", "Time queued for an admission permit", "histogram");
+        admissionWait.render(out, "framework_session_admission_wait_seconds", "");
+        gauge(out, "framework_hub_breaker_open", "1 while session creation is paused by the hub circuit breaker",
+                HubCircuitBreaker.isOpen() ? 1 : 0);
+
+        gauge(out, "framework_scenarios_queued", "Scenarios waiting for a runner thread", queuedScenarios.get());
+        gauge(out, "framework_scenarios_running", "Scenarios currently executing", runningScenarios.get());
+        help(out, "framework_scenarios_total", "Finished scenarios by status", "counter");
+        new TreeMap<>(scenarioResults).forEach((status, count) ->
+                out.append("framework_scenarios_total{status=\"").append(status).append("\"} ")
+                        .append(count.sum()).append('\n'));
+
+        help(out, "framework_command_duration_seconds", "WebDriver command round-trip time", "histogram");
+        new TreeMap<>(commandDurations).forEach((command, histogram) ->
+                histogram.render(out, "framework_command_duration_seconds", "command=\"" + escape(command) + "\""));
+
+        counter(out, "framework_retries_total", "Scenario retries", retries.sum());
+        counter(out, "framework_screenshot_bytes_total", "Screenshot bytes received", screenshotBytes.sum());
+
+        MemoryUsage heap = memory.getHeapMemoryUsage();
+        gauge(out, "framework_heap_used_bytes", "JVM heap in use", heap.getUsed());
+        gauge(out, "framework_heap_max_bytes", "JVM heap limit", heap.getMax());
+        return out.toString();
+    }
+
+    private static void help(StringBuilder out, String name, String help, String type) {
+        out.append("# HELP ").append(name).append(' ').append(help).append('\n');
+        out.append("# TYPE ").append(name).append(' ').append(type).append('\n');
+    }
+
+    private static void gauge(StringBuilder out, String name, String help, long value) {
+        help(out, name, help, "gauge");
+        out.append(name).append(' ').append(value).append('\n');
+    }
+
+    private static void counter(StringBuilder out, String name, String help, long value) {
+        help(out, name, help, "counter");
+        out.append(name).append(' ').append(value).append('\n');
+    }
+
+    private static String escape(String label) {
+        return label.replace("\\", "\\\\").replace("\"", "\\\"").replace("\n", "\\n");
+    }
+}
@@ -0,0 +1,71 @@
+package com.automation.framework.metrics;
+
+import java.util.concurrent.atomic.DoubleAdder;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Fixed-bucket histogram rendered in Prometheus text format.
+ * Lock-free; safe to observe from any number of scenario threads.
+ * 
+ * @author Baskar
+ * @version 1.0.0
+ */
+public final class Histogram {
+    private final double[] bounds;
+    private final LongAdder[] buckets;
+    private final LongAdder count = new LongAdder();
+    private final DoubleAdder sum = new DoubleAdder();
+
+    /**
+     * @param bounds Ascending upper bounds (seconds); +Inf is implicit
+     */
+    public Histogram(double... bounds) {
+        this.bounds = bounds.clone();
+        this.buckets = new LongAdder[bounds.length];
+        for (int i = 0; i < bounds.length; i++) {
+            buckets[i] = new LongAdder();
+        }
+    }
+
+    /**
+     * Record one observation.
+     * 
+     * @param value Observed value (seconds)
+     */
+    public void observe(double value) {
+        for (int i = 0; i < bounds.length; i++) {
+            if (value <= bounds[i]) {
+                buckets[i].increment();
+                break;
+            }
+        }
+        count.increment();
+        sum.add(value);
+    }
+
+    public long getCount() {
+        return count.sum();
+    }
+
+    /**
+     * Append bucket, sum and count lines.
+     * 
+     * @param out    Target
+     * @param name   Metric name
+     * @param labels Label pairs without braces (e.g. {@code command="click"}), or empty
+     */
+    void render(StringBuilder out, String name, String labels) {
+        String prefix = labels.isEmpty() ? "" : labels + ",";
+        long cumulative = 0;
+        for (int i = 0; i < bounds.length; i++) {
+            cumulative += buckets[i].sum();
+            out.append(name).append("_bucket{").append(prefix).append("le=\"").append(bounds[i]).append("\"} ")
+                    .append(cumulative).append('\n');
+        }
+        long total = count.sum();
+        out.append(name).append("_bucket{").append(prefix).append("le=\"+Inf\"} ").append(total).append('\n');
+        String suffix = labels.isEmpty() ? "" : "{" + labels + "}";
+        out.append(name).append("_sum").append(suffix).append(' ').append(sum.sum()).append('\n');
+        out.append(name).append("_count").append(suffix).append(' ').append(total).append('\n');
+    }
+}
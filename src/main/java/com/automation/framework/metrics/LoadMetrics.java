@@ -0,0 +1,200 @@
+package com.automation.framework.metrics;
+
+import com.automation.framework.core.ConfigManager;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.File;
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadInfo;
+import java.lang.management.ThreadMXBean;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.StandardOpenOption;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+import static com.automation.framework.core.FrameworkConstants.*;
+
+/**
+ * Framework-side resource usage per scenario for load runs.
+ * Samples the scenario thread's CPU time, allocated bytes and monitor contention
+ * (blocked count/time) at scenario start and end, and aggregates the deltas into
+ * throughput and per-scenario figures for the run.
+ *
+ * Only active when {@code load.enabled} is true; otherwise every call is a no-op.
+ * Results go to {@code target/load/load-report.json} and one line per run is
+ * appended to {@code target/load/scaling.csv} so runs at different thread counts
+ * form a scaling curve.
+ *
+ * @author Baskar
+ * @version 1.0.0
+ */
+public final class LoadMetrics {
+    private static final Logger logger = LoggerFactory.getLogger(LoadMetrics.class);
+    private static final ThreadMXBean threads = ManagementFactory.getThreadMXBean();
+    private static final ThreadLocal<Snapshot> scenarioStart = new ThreadLocal<>();
+
+    private static final LongAdder scenarios = new LongAdder();
+    private static final LongAdder failures = new LongAdder();
+    private static final LongAdder cpuNanos = new LongAdder();
+    private static final LongAdder allocatedBytes = new LongAdder();
+    private static final LongAdder blockedCount = new LongAdder();
+    private static final LongAdder blockedMillis = new LongAdder();
+    private static final LongAccumulator maxBlockedMillis = new LongAccumulator(Math::max, 0);
+    private static final AtomicInteger active = new AtomicInteger();
+    private static final LongAccumulator peakActive = new LongAccumulator(Math::max, 0);
+    private static volatile long runStartNanos;
+
+    private LoadMetrics() {
+        // Utility class
+    }
+
+    /**
+     * Whether load metrics are collected in this run.
+     */
+    public static boolean isEnabled() {
+        return ConfigManager.getBoolean(CONFIG_KEY_LOAD_ENABLED, false);
+    }
+
+    /**
+     * Reset counters and start the run clock.
+     */
+    public static synchronized void startRun() {
+        if (!isEnabled()) {
+            return;
+        }
+        if (threads.isThreadContentionMonitoringSupported()) {
+            threads.setThreadContentionMonitoringEnabled(true);
+        }
+        scenarios.reset();
+        failures.reset();
+        cpuNanos.reset();
+        allocatedBytes.reset();
+        blockedCount.reset();
+        blockedMillis.reset();
+        maxBlockedMillis.reset();
+        peakActive.reset();
+        active.set(0);
+        runStartNanos = System.nanoTime();
+    }
+
+    /**
+     * Take the start snapshot for the scenario running on the current thread.
+     */
+    public static void beginScenario() {
+        if (!isEnabled()) {
+            return;
+        }
+        peakActive.accumulate(active.incrementAndGet());
+        scenarioStart.set(Snapshot.take());
+    }
+
+    /**
+     * Record the current thread's usage since {@link #beginScenario()}.
+     *
+     * @param passed Whether the scenario passed
+     */
+    public static void endScenario(boolean passed) {
+        Snapshot start = scenarioStart.get();
+        if (start == null) {
+            return;
+        }
+        scenarioStart.remove();
+        active.decrementAndGet();
+
+        Snapshot end = Snapshot.take();
+        scenarios.increment();
+        if (!passed) {
+            failures.increment();
+        }
+        cpuNanos.add(end.cpuNanos - start.cpuNanos);
+        allocatedBytes.add(end.allocatedBytes - start.allocatedBytes);
+        blockedCount.add(end.blockedCount - start.blockedCount);
+        long blocked = end.blockedMillis - start.blockedMillis;
+        blockedMillis.add(blocked);
+        maxBlockedMillis.accumulate(blocked);
+    }
+
+    /**
+     * Stop the run clock, log the summary and write the report files.
+     *
+     * @param threadCount Configured scenario thread count (for the scaling curve)
+     * @return Summary values, or an empty map if load metrics are disabled
+     */
+    public static synchronized Map<String, Object> finishRun(int threadCount) {
+        if (!isEnabled() || runStartNanos == 0) {
+            return Map.of();
+        }
+        double wallSeconds = (System.nanoTime() - runStartNanos) / 1_000_000_000.0;
+        long count = scenarios.sum();
+        long divisor = Math.max(1, count);
+
+        Map<String, Object> summary = new LinkedHashMap<>();
+        summary.put("threads", threadCount);
+        summary.put("peakConcurrentScenarios", peakActive.get());
+        summary.put("scenarios", count);
+        summary.put("failures", failures.sum());
+        summary.put("wallSeconds", round(wallSeconds));
+        summary.put("scenariosPerSecond", round(wallSeconds > 0 ? count / wallSeconds : 0));
+        summary.put("cpuMillisPerScenario", round(cpuNanos.sum() / 1_000_000.0 / divisor));
+        summary.put("allocatedKbPerScenario", round(allocatedBytes.sum() / 1024.0 / divisor));
+        summary.put("blockedCountPerScenario", round((double) blockedCount.sum() / divisor));
+        summary.put("blockedMillisPerScenario", round((double) blockedMillis.sum() / divisor));
+        summary.put("maxBlockedMillis", maxBlockedMillis.get());
+        summary.put("availableProcessors", Runtime.getRuntime().availableProcessors());
+        runStartNanos = 0;
+
+        logger.info("Load run: {}", summary);
+        writeReport(summary);
+        return summary;
+    }
+
+    private static void writeReport(Map<String, Object> summary) {
+        File dir = new File(LOAD_OUTPUT_DIR);
+        try {
+            Files.createDirectories(dir.toPath());
+            new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT)
+                    .writeValue(new File(dir, "load-report.json"), summary);
+
+            File csv = new File(dir, "scaling.csv");
+            StringBuilder lines = new StringBuilder();
+            if (!csv.exists()) {
+                lines.append(String.join(",", summary.keySet())).append(System.lineSeparator());
+            }
+            lines.append(summary.values().stream().map(String::valueOf)
+                    .reduce((a, b) -> a + "," + b).orElse("")).append(System.lineSeparator());
+            Files.writeString(csv.toPath(), lines, StandardCharsets.UTF_8,
+                    StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+            logger.info("Load report written to {}", dir.getAbsolutePath());
+        } catch (IOException e) {
+            logger.warn("Could not write load report to {}: {}", dir, e.getMessage());
+        }
+    }
+
+    private static double round(double value) {
+        return Math.round(value * 100) / 100.0;
+    }
+
+    /**
+     * Point-in-time resource counters of the current thread.
+     */
+    private record Snapshot(long cpuNanos, long allocatedBytes, long blockedCount, long blockedMillis) {
+
+        static Snapshot take() {
+            long cpu = threads.isCurrentThreadCpuTimeSupported() ? threads.getCurrentThreadCpuTime() : 0;
+            long allocated = threads instanceof com.sun.management.ThreadMXBean sunThreads
+                    ? sunThreads.getCurrentThreadAllocatedBytes() : 0;
+            ThreadInfo info = threads.getThreadInfo(Thread.currentThread().threadId());
+            long blocked = info != null ? info.getBlockedCount() : 0;
+            long blockedTime = info != null ? Math.max(0, info.getBlockedTime()) : 0;
+            return new Snapshot(cpu, Math.max(0, allocated), blocked, blockedTime);
+        }
+    }
+}
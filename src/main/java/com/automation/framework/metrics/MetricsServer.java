@@ -0,0 +1,77 @@
+package com.automation.framework.metrics;
+
+import com.automation.framework.core.ConfigManager;
+import com.automation.framework.core.ObservedCommandExecutor;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+
+import static com.automation.framework.core.FrameworkConstants.*;
+
+/**
+ * Optional embedded endpoint serving {@link FrameworkMetrics} at {@code /metrics}.
+ * Enabled with {@code metrics.enabled=true}; port from {@code metrics.port}.
+ * 
+ * @author Baskar
+ * @version 1.0.0
+ */
+public final class MetricsServer {
+    private static final Logger logger = LoggerFactory.getLogger(MetricsServer.class);
+    private static final String CONTENT_TYPE = "text/plain; version=0.0.4; charset=utf-8";
+    private static HttpServer server;
+
+    private MetricsServer() {
+        // Utility class
+    }
+
+    /**
+     * Start the endpoint if {@code metrics.enabled} is set. Safe to call more than once.
+     */
+    public static synchronized void start() {
+        if (server != null || !ConfigManager.getBoolean(CONFIG_KEY_METRICS_ENABLED, false)) {
+            return;
+        }
+        int port = ConfigManager.getInt(CONFIG_KEY_METRICS_PORT, DEFAULT_METRICS_PORT);
+        try {
+            server = HttpServer.create(new InetSocketAddress(port), 0);
+            server.createContext("/metrics", MetricsServer::handle);
+            server.start();
+            ObservedCommandExecutor.register(FrameworkMetrics.COMMAND_OBSERVER);
+            logger.info("Metrics endpoint: http://localhost:{}/metrics", server.getAddress().getPort());
+        } catch (IOException e) {
+            // Metrics must never fail the run
+            logger.warn("Could not start metrics endpoint on port {}: {}", port, e.getMessage());
+            server = null;
+        }
+    }
+
+    /**
+     * Stop the endpoint if it is running.
+     */
+    public static synchronized void stop() {
+        if (server != null) {
+            ObservedCommandExecutor.unregister(FrameworkMetrics.COMMAND_OBSERVER);
+            server.stop(0);
+            server = null;
+        }
+    }
+
+    private static void handle(HttpExchange exchange) throws IOException {
+        try {
+            byte[] body = FrameworkMetrics.render().getBytes(StandardCharsets.UTF_8);
+            exchange.getResponseHeaders().set("Content-Type", CONTENT_TYPE);
+            exchange.sendResponseHeaders(200, body.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(body);
+            }
+        } finally {
+            exchange.close();
+        }
+    }
+}
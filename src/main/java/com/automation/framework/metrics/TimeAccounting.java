@@ -0,0 +1,323 @@
+package com.automation.framework.metrics;
+
+import com.automation.framework.core.CommandObserver;
+import com.automation.framework.core.ObservedCommandExecutor;
+import org.openqa.selenium.remote.Command;
+import org.openqa.selenium.remote.DriverCommand;
+import org.openqa.selenium.remote.Response;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Splits each scenario's wall-clock time into where it went.
+ * Categories are exclusive: while a scoped activity (setup, wait, sleep, teardown) runs,
+ * commands it issues are attributed to that activity rather than counted again.
+ * Whatever is left of the wall clock is framework overhead (step glue, reporting, logging).
+ *
+ * <p>Sources feeding it:
+ * - Hooks: setup (driver creation) and teardown (screenshots, quit)
+ * - AdaptiveWait: explicit waits, keyed by screen + locator
+ * - BasePage: fixed retry sleeps
+ * - Driver executor: remote commands; failed finds while an implicit wait is set count as implicit wait
+ *
+ * Per-scenario results are rendered into the Extent report by Hooks; run totals per
+ * sink are ranked by wasted seconds (waits, implicit waits, sleeps) at execution end.
+ *
+ * @author Baskar
+ * @version 1.0.0
+ */
+public final class TimeAccounting {
+
+    /**
+     * Where time can go. {@link #isWasted()} marks time spent not interacting with the app.
+     */
+    public enum Category {
+        SETUP("Session setup", false),
+        COMMAND("Remote commands", false),
+        WAIT("Explicit waits", true),
+        IMPLICIT_WAIT("Implicit waits", true),
+        SLEEP("Fixed sleeps", true),
+        TEARDOWN("Teardown", false),
+        OVERHEAD("Framework overhead", false);
+
+        private final String label;
+        private final boolean wasted;
+
+        Category(String label, boolean wasted) {
+            this.label = label;
+            this.wasted = wasted;
+        }
+
+        public String getLabel() {
+            return label;
+        }
+
+        public boolean isWasted() {
+            return wasted;
+        }
+    }
+
+    private static final ThreadLocal<TimeAccounting> current = new ThreadLocal<>();
+    private static final Map<Category, LongAdder> runTotals = new EnumMap<>(Category.class);
+    private static final Map<String, Sink> runSinks = new ConcurrentHashMap<>();
+    private static final LongAdder runScenarios = new LongAdder();
+
+    private static final CommandObserver COMMAND_OBSERVER = new CommandObserver() {
+        @Override
+        public void afterCommand(Command command, Response response, long durationNanos) {
+            TimeAccounting accounting = current.get();
+            if (accounting != null) {
+                accounting.onCommand(command, response, durationNanos);
+            }
+        }
+
+        @Override
+        public void onCommandFailure(Command command, RuntimeException error, long durationNanos) {
+            TimeAccounting accounting = current.get();
+            if (accounting != null) {
+                accounting.onCommand(command, null, durationNanos);
+            }
+        }
+    };
+
+    static {
+        for (Category category : Category.values()) {
+            runTotals.put(category, new LongAdder());
+        }
+        ObservedCommandExecutor.register(COMMAND_OBSERVER);
+    }
+
+    private final long startNanos = System.nanoTime();
+    private final Map<Category, Long> totals = new EnumMap<>(Category.class);
+    private final Map<String, Sink> sinks = new HashMap<>();
+    private int depth;
+    private long implicitWaitMillis;
+
+    private TimeAccounting() {
+    }
+
+    // ==================== Recording ====================
+
+    /**
+     * Start accounting for the scenario on the current thread.
+     */
+    public static void start() {
+        current.set(new TimeAccounting());
+    }
+
+    /**
+     * Open a scoped activity. Commands issued until the matching {@link #end} are
+     * attributed to that activity.
+     *
+     * @return Start timestamp to pass to {@link #end}
+     */
+    public static long begin() {
+        TimeAccounting accounting = current.get();
+        if (accounting != null) {
+            accounting.depth++;
+        }
+        return System.nanoTime();
+    }
+
+    /**
+     * Close a scoped activity opened with {@link #begin()}.
+     *
+     * @param category   Category to charge
+     * @param source     What spent the time (wait key, sleep site, hook)
+     * @param startNanos Value returned by {@link #begin()}
+     */
+    public static void end(Category category, String source, long startNanos) {
+        TimeAccounting accounting = current.get();
+        if (accounting != null) {
+            accounting.depth = Math.max(0, accounting.depth - 1);
+            if (accounting.depth == 0) {
+                accounting.add(category, source, System.nanoTime() - startNanos);
+            }
+        }
+    }
+
+    /**
+     * Finish the current thread's scenario: compute overhead and add it to the run totals.
+     *
+     * @return The scenario's accounting, or null if {@link #start()} was not called
+     */
+    public static Result finish() {
+        TimeAccounting accounting = current.get();
+        if (accounting == null) {
+            return null;
+        }
+        current.remove();
+        long wall = System.nanoTime() - accounting.startNanos;
+        long accounted = accounting.totals.values().stream().mapToLong(Long::longValue).sum();
+        accounting.totals.put(Category.OVERHEAD, Math.max(0, wall - accounted));
+
+        Map<Category, Double> seconds = new LinkedHashMap<>();
+        for (Category category : Category.values()) {
+            long nanos = accounting.totals.getOrDefault(category, 0L);
+            runTotals.get(category).add(nanos);
+            seconds.put(category, nanos / 1e9);
+        }
+        for (Sink sink : accounting.sinks.values()) {
+            runSinks.computeIfAbsent(sink.key(), k -> new Sink(sink.category, sink.source)).merge(sink);
+        }
+        runScenarios.increment();
+        return new Result(seconds, accounting.sinks.values());
+    }
+
+    private void onCommand(Command command, Response response, long durationNanos) {
+        String name = command.getName();
+        if (DriverCommand.SET_TIMEOUT.equals(name) && command.getParameters().get("implicit") instanceof Number ms) {
+            implicitWaitMillis = ms.longValue();
+        }
+        if (depth > 0) {
+            return;
+        }
+        boolean find = DriverCommand.FIND_ELEMENT.equals(name) || DriverCommand.FIND_ELEMENTS.equals(name)
+                || DriverCommand.FIND_CHILD_ELEMENT.equals(name) || DriverCommand.FIND_CHILD_ELEMENTS.equals(name);
+        if (find && implicitWaitMillis > 0 && isEmptyResult(response)) {
+            Map<String, ?> params = command.getParameters();
+            add(Category.IMPLICIT_WAIT, name + " " + params.get("using") + "=" + params.get("value"), durationNanos);
+        } else {
+            add(Category.COMMAND, name, durationNanos);
+        }
+    }
+
+    private static boolean isEmptyResult(Response response) {
+        if (response == null) {
+            return false;
+        }
+        Object value = response.getValue();
+        return value instanceof Throwable || (value instanceof Collection<?> list && list.isEmpty());
+    }
+
+    private void add(Category category, String source, long nanos) {
+        totals.merge(category, nanos, Long::sum);
+        Sink sink = sinks.computeIfAbsent(category + "|" + source, k -> new Sink(category, source));
+        sink.nanos.add(nanos);
+        sink.count.increment();
+    }
+
+    // ==================== Reporting ====================
+
+    /**
+     * Run-wide totals per category (header row first).
+     */
+    public static String[][] runTable() {
+        long scenarios = Math.max(1, runScenarios.sum());
+        List<String[]> rows = new ArrayList<>();
+        rows.add(new String[]{"Category", "Total seconds", "Seconds / scenario"});
+        for (Category category : Category.values()) {
+            double total = runTotals.get(category).sum() / 1e9;
+            rows.add(new String[]{category.getLabel() + (category.isWasted() ? " *" : ""),
+                    String.format("%.1f", total), String.format("%.2f", total / scenarios)});
+        }
+        return rows.toArray(new String[0][]);
+    }
+
+    /**
+     * Run-wide wasted-time sinks ranked by total seconds (header row first).
+     *
+     * @param limit Maximum rows
+     */
+    public static String[][] runSinks(int limit) {
+        return sinkTable(runSinks.values(), limit);
+    }
+
+    public static long getScenarioCount() {
+        return runScenarios.sum();
+    }
+
+    private static String[][] sinkTable(Collection<Sink> sinks, int limit) {
+        List<String[]> rows = new ArrayList<>();
+        rows.add(new String[]{"Category", "Source", "Wasted seconds", "Count"});
+        sinks.stream()
+                .filter(sink -> sink.category.isWasted())
+                .sorted(Comparator.comparingLong((Sink sink) -> sink.nanos.sum()).reversed())
+                .limit(limit)
+                .forEach(sink -> rows.add(new String[]{sink.category.getLabel(), sink.source,
+                        String.format("%.2f", sink.nanos.sum() / 1e9), String.valueOf(sink.count.sum())}));
+        return rows.toArray(new String[0][]);
+    }
+
+    /**
+     * Accounting of one finished scenario.
+     */
+    public static final class Result {
+        private final Map<Category, Double> seconds;
+        private final Collection<Sink> sinks;
+
+        private Result(Map<Category, Double> seconds, Collection<Sink> sinks) {
+            this.seconds = seconds;
+            this.sinks = sinks;
+        }
+
+        /**
+         * Seconds per category, overhead included; the values sum to the scenario wall clock.
+         */
+        public Map<Category, Double> getSeconds() {
+            return seconds;
+        }
+
+        public double getWastedSeconds() {
+            return seconds.entrySet().stream().filter(entry -> entry.getKey().isWasted())
+                    .mapToDouble(Map.Entry::getValue).sum();
+        }
+
+        /**
+         * Category table (header row first): category, seconds, share of wall clock.
+         */
+        public String[][] table() {
+            double wall = seconds.values().stream().mapToDouble(Double::doubleValue).sum();
+            List<String[]> rows = new ArrayList<>();
+            rows.add(new String[]{"Category", "Seconds", "Share"});
+            for (Map.Entry<Category, Double> entry : seconds.entrySet()) {
+                rows.add(new String[]{entry.getKey().getLabel() + (entry.getKey().isWasted() ? " *" : ""),
+                        String.format("%.2f", entry.getValue()),
+                        String.format("%.0f%%", wall > 0 ? 100 * entry.getValue() / wall : 0)});
+            }
+            return rows.toArray(new String[0][]);
+        }
+
+        /**
+         * Biggest wasted-time sinks (header row first): category, source, seconds, count.
+         *
+         * @param limit Maximum rows
+         */
+        public String[][] wastedSinks(int limit) {
+            return sinkTable(sinks, limit);
+        }
+    }
+
+    /**
+     * Time charged to one source within a category.
+     */
+    private static final class Sink {
+        private final Category category;
+        private final String source;
+        private final LongAdder nanos = new LongAdder();
+        private final LongAdder count = new LongAdder();
+
+        Sink(Category category, String source) {
+            this.category = category;
+            this.source = source;
+        }
+
+        String key() {
+            return category + "|" + source;
+        }
+
+        void merge(Sink other) {
+            nanos.add(other.nanos.sum());
+            count.add(other.count.sum());
+        }
+    }
+}
@@ -1,35 +1,55 @@
 package com.automation.framework.pages;
 
+import com.automation.framework.core.AdaptiveWait;
 import com.automation.framework.core.ConfigManager;
 import com.automation.framework.core.DriverManager;
+import com.automation.framework.core.LocatorRanking;
+import com.automation.framework.core.ObservedCommandExecutor;
+import com.automation.framework.core.ScenarioContext;
+import com.automation.framework.metrics.TimeAccounting;
 import com.automation.framework.reports.ExtentReportManager;
 import io.appium.java_client.AppiumBy;
 import io.appium.java_client.AppiumDriver;
+import io.appium.java_client.ios.IOSDriver;
+import io.appium.java_client.remote.SupportsRotation;
 import org.openqa.selenium.By;
 import org.openqa.selenium.Dimension;
 import org.openqa.selenium.NoSuchElementException;
 import org.openqa.selenium.Point;
+import org.openqa.selenium.Rectangle;
+import org.openqa.selenium.ScreenOrientation;
+import org.openqa.selenium.TimeoutException;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebDriverException;
 import org.openqa.selenium.WebElement;
-import org.openqa.selenium.interactions.Pause;
-import org.openqa.selenium.interactions.PointerInput;
-import org.openqa.selenium.interactions.Sequence;
+import org.openqa.selenium.support.ui.ExpectedCondition;
 import org.openqa.selenium.support.ui.ExpectedConditions;
 import org.openqa.selenium.support.ui.WebDriverWait;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.time.Duration;
-import java.util.Collections;
+import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.function.IntConsumer;
+
+import static com.automation.framework.core.FrameworkConstants.*;
 
 /**
  * Base class for all Page Objects.
  * Provides common functionality for element interaction.
  * 
  * @author Baskar
- * @version 3.1.0
+ * @version 3.4.0
  */
 public abstract class BasePage {
+    // Back-off between failed interaction attempts in performUntil
+    private static final long MIN_RETRY_INTERVAL_MS = 50;
+    private static final long MAX_RETRY_INTERVAL_MS = 500;
+
     protected final Logger logger;
     
     protected BasePage() {
@@ -53,21 +73,24 @@ public abstract class BasePage {
     }
     
     /**
-     * Get a reusable WebDriverWait with default timeout from config.
-     * Avoids creating new WebDriverWait objects in every method.
+     * Get a WebDriverWait with default timeout from config.
+     * The timeout is capped to the remaining scenario budget.
+     * Prefer {@link #waitFor} which polls adaptively instead of every 500 ms.
      * @return WebDriverWait instance
      */
     protected WebDriverWait getWait() {
-        return new WebDriverWait(getDriver(), getExplicitWaitTimeout());
+        return getWait(getExplicitWaitTimeout());
     }
     
     /**
      * Get a WebDriverWait with custom timeout.
+     * The timeout is capped to the remaining scenario budget.
      * @param timeout Custom timeout duration
      * @return WebDriverWait instance
+     * @throws TimeoutException if the scenario budget is exhausted
      */
     protected WebDriverWait getWait(Duration timeout) {
-        return new WebDriverWait(getDriver(), timeout);
+        return new WebDriverWait(getDriver(), ScenarioContext.cap(timeout));
     }
     
     // ==================== Reporting ====================
@@ -102,52 +125,40 @@ public abstract class BasePage {
     // ==================== Click Methods ====================
     
     /**
-     * Click element by accessibility id.
+     * Click element by locator.
      * Waits for element to be visible before clicking.
      * Note: Using visibilityOf instead of elementToBeClickable for better mobile compatibility.
      */
-    protected void clickByAccessibility(String accessibilityId) {
+    protected void click(By locator) {
         try {
-            WebElement element = getWait().until(
-                    ExpectedConditions.visibilityOfElementLocated(AppiumBy.accessibilityId(accessibilityId)));
+            WebElement element = waitForVisible(locator);
             element.click();
-            logger.info("Clicked element with accessibility: {}", accessibilityId);
+            logger.debug("Clicked element: {}", locator);
         } catch (Exception e) {
-            logger.error("Failed to click element with accessibility: {}", accessibilityId, e);
+            logger.error("Failed to click element: {}", locator, e);
             throw e;
         }
     }
     
+    /**
+     * Click element by accessibility id.
+     */
+    protected void clickByAccessibility(String accessibilityId) {
+        click(AppiumBy.accessibilityId(accessibilityId));
+    }
+    
     /**
      * Click element by resource ID (Android) or name (iOS).
-     * Waits for element to be visible before clicking.
      */
     protected void clickById(String id) {
-        try {
-            WebElement element = getWait().until(
-                    ExpectedConditions.visibilityOfElementLocated(AppiumBy.id(id)));
-            element.click();
-            logger.info("Clicked element with id: {}", id);
-        } catch (Exception e) {
-            logger.error("Failed to click element with id: {}", id, e);
-            throw e;
-        }
+        click(AppiumBy.id(id));
     }
     
     /**
      * Click element by XPath.
-     * Waits for element to be visible before clicking.
      */
     protected void clickByXpath(String xpath) {
-        try {
-            WebElement element = getWait().until(
-                    ExpectedConditions.visibilityOfElementLocated(By.xpath(xpath)));
-            element.click();
-            logger.info("Clicked element with xpath: {}", xpath);
-        } catch (Exception e) {
-            logger.error("Failed to click element with xpath: {}", xpath, e);
-            throw e;
-        }
+        click(By.xpath(xpath));
     }
     
     /**
@@ -156,9 +167,9 @@ public abstract class BasePage {
      */
     protected void click(WebElement element) {
         try {
-            getWait().until(ExpectedConditions.visibilityOf(element));
+            waitFor(null, ExpectedConditions.visibilityOf(element), getExplicitWaitTimeout());
             element.click();
-            logger.info("Clicked element: {}", element);
+            logger.debug("Clicked element: {}", element);
         } catch (Exception e) {
             logger.error("Failed to click element", e);
             throw e;
@@ -168,126 +179,359 @@ public abstract class BasePage {
     // ==================== Enter Text Methods ====================
     
     /**
-     * Enter text by accessibility id.
+     * Enter text by locator.
      * Waits for element to be visible before entering text.
      */
-    protected void enterByAccessibility(String accessibilityId, String text) {
+    protected void enter(By locator, String text) {
         try {
-            WebElement element = getWait().until(
-                    ExpectedConditions.visibilityOfElementLocated(AppiumBy.accessibilityId(accessibilityId)));
-            element.clear();
-            element.sendKeys(text);
-            logger.info("Entered text in element with accessibility: {}", accessibilityId);
+            WebElement element = waitForVisible(locator);
+            replaceText(element, text);
+            logger.debug("Entered text in element: {}", locator);
         } catch (Exception e) {
-            logger.error("Failed to enter text in element with accessibility: {}", accessibilityId, e);
+            logger.error("Failed to enter text in element: {}", locator, e);
             throw e;
         }
     }
     
+    /**
+     * Enter text by accessibility id.
+     */
+    protected void enterByAccessibility(String accessibilityId, String text) {
+        enter(AppiumBy.accessibilityId(accessibilityId), text);
+    }
+    
     /**
      * Enter text by resource ID (Android) or name (iOS).
-     * Waits for element to be visible before entering text.
      */
     protected void enterById(String id, String text) {
-        try {
-            WebElement element = getWait().until(
-                    ExpectedConditions.visibilityOfElementLocated(AppiumBy.id(id)));
-            element.clear();
-            element.sendKeys(text);
-            logger.info("Entered text in element with id: {}", id);
-        } catch (Exception e) {
-            logger.error("Failed to enter text in element with id: {}", id, e);
-            throw e;
-        }
+        enter(AppiumBy.id(id), text);
     }
     
     /**
      * Enter text by XPath.
-     * Waits for element to be visible before entering text.
      */
     protected void enterByXpath(String xpath, String text) {
-        try {
-            WebElement element = getWait().until(
-                    ExpectedConditions.visibilityOfElementLocated(By.xpath(xpath)));
-            element.clear();
-            element.sendKeys(text);
-            logger.info("Entered text in element with xpath: {}", xpath);
-        } catch (Exception e) {
-            logger.error("Failed to enter text in element with xpath: {}", xpath, e);
-            throw e;
-        }
+        enter(By.xpath(xpath), text);
+    }
+    
+    /**
+     * Replace the text of an input. Both UiAutomator2 and XCUITest append on sendKeys,
+     * so the field is cleared first on every platform.
+     */
+    private void replaceText(WebElement element, String text) {
+        element.clear();
+        element.sendKeys(text);
     }
     
     // ==================== Verification Methods ====================
     
     /**
-     * Check if element is displayed by accessibility id.
+     * Check if element is displayed by locator, waiting up to the explicit timeout for it to be present.
      */
-    protected boolean isDisplayedByAccessibility(String accessibilityId) {
+    protected boolean isDisplayed(By locator) {
         try {
-            return getDriver().findElement(AppiumBy.accessibilityId(accessibilityId)).isDisplayed();
-        } catch (NoSuchElementException e) {
+            return waitForPresent(locator).isDisplayed();
+        } catch (TimeoutException e) {
             return false;
         }
     }
     
+    /**
+     * Check if element is displayed by accessibility id.
+     */
+    protected boolean isDisplayedByAccessibility(String accessibilityId) {
+        return isDisplayed(AppiumBy.accessibilityId(accessibilityId));
+    }
+    
     /**
      * Check if element is displayed by resource ID (Android) or name (iOS).
      */
     protected boolean isDisplayedById(String id) {
-        try {
-            return getDriver().findElement(AppiumBy.id(id)).isDisplayed();
-        } catch (NoSuchElementException e) {
-            return false;
-        }
+        return isDisplayed(AppiumBy.id(id));
     }
     
     /**
      * Check if element is displayed by XPath.
      */
     protected boolean isDisplayedByXpath(String xpath) {
-        try {
-            return getDriver().findElement(By.xpath(xpath)).isDisplayed();
-        } catch (NoSuchElementException e) {
-            return false;
-        }
+        return isDisplayed(By.xpath(xpath));
     }
     
     /**
      * Get text from element by resource ID (Android) or name (iOS).
      */
     protected String getTextById(String id) {
-        return getDriver().findElement(AppiumBy.id(id)).getText();
+        return waitForPresent(AppiumBy.id(id)).getText();
     }
     
     /**
      * Get text from element by XPath.
      */
     protected String getTextByXpath(String xpath) {
-        return getDriver().findElement(By.xpath(xpath)).getText();
+        return waitForPresent(By.xpath(xpath)).getText();
     }
     
     // ==================== Wait Methods ====================
     
+    /**
+     * Wait for a condition using the adaptive wait engine.
+     * Polling starts near the latency learned for this screen and key, then backs off.
+     * @param key       Locator or other stable description (null disables learning)
+     * @param condition Condition to wait for
+     * @param timeout   Maximum time to wait (capped to the scenario budget)
+     * @return The value produced by the condition
+     */
+    protected <T> T waitFor(String key, ExpectedCondition<T> condition, Duration timeout) {
+        String waitKey = key != null ? getClass().getSimpleName() + "|" + key : null;
+        return AdaptiveWait.until(getDriver(), waitKey, condition, timeout);
+    }
+    
+    /**
+     * Wait for element to be visible with the default explicit timeout.
+     */
+    protected WebElement waitForVisible(By locator) {
+        return waitFor(locator.toString(), ExpectedConditions.visibilityOfElementLocated(locator),
+                getExplicitWaitTimeout());
+    }
+    
+    /**
+     * Wait for element to be present (not necessarily visible) with the default explicit timeout.
+     */
+    protected WebElement waitForPresent(By locator) {
+        return waitFor(locator.toString(), ExpectedConditions.presenceOfElementLocated(locator),
+                getExplicitWaitTimeout());
+    }
+    
+    /**
+     * Wait until any of the locators is present.
+     * All candidates are probed on every poll, so the total wait is one timeout
+     * rather than one timeout per locator.
+     * @param timeout  Maximum time to wait
+     * @param locators Candidate locators
+     * @return true if any locator matched in time
+     */
+    protected boolean waitForAny(Duration timeout, By... locators) {
+        String description = "presence of any of " + Arrays.toString(locators);
+        ExpectedCondition<Boolean> anyPresent = new ExpectedCondition<>() {
+            @Override
+            public Boolean apply(WebDriver driver) {
+                for (By locator : locators) {
+                    if (!driver.findElements(locator).isEmpty()) {
+                        logger.debug("Found element: {}", locator);
+                        return true;
+                    }
+                }
+                return false;
+            }
+            
+            @Override
+            public String toString() {
+                return description;
+            }
+        };
+        try {
+            return waitFor(description, anyPresent, timeout);
+        } catch (TimeoutException e) {
+            return false;
+        }
+    }
+    
     /**
      * Wait for element to be visible.
      */
     protected WebElement waitForElement(By locator) {
-        return getWait().until(ExpectedConditions.visibilityOfElementLocated(locator));
+        return waitForVisible(locator);
     }
     
     /**
      * Wait for element to be visible with custom timeout.
      */
     protected WebElement waitForElement(By locator, Duration timeout) {
-        return getWait(timeout).until(ExpectedConditions.visibilityOfElementLocated(locator));
+        return waitFor(locator.toString(), ExpectedConditions.visibilityOfElementLocated(locator), timeout);
     }
     
     /**
-     * Find all elements by XPath.
+     * Find all elements by XPath, waiting up to the explicit timeout for at least one.
+     * @return The matches, or an empty list if none appeared in time
      */
     protected List<WebElement> findElementsByXpath(String xpath) {
-        return getDriver().findElements(By.xpath(xpath));
+        By locator = By.xpath(xpath);
+        try {
+            return waitFor(locator.toString(), ExpectedConditions.presenceOfAllElementsLocatedBy(locator),
+                    getExplicitWaitTimeout());
+        } catch (TimeoutException e) {
+            return List.of();
+        }
+    }
+    
+    // ==================== Fallback Chains ====================
+    
+    /**
+     * Run an action against candidate locators until one works.
+     * Candidates are tried in the order learned by {@link LocatorRanking} for this
+     * platform, screen and element, so a strategy that never works on a platform stops
+     * costing its full timeout once the history shows it.
+     * @param element    Logical element name, unique within the screen
+     * @param candidates Candidates in preferred order for a first run
+     * @param action     Action to perform with a candidate
+     * @return The action's result for the first candidate that worked
+     * @throws RuntimeException The last candidate's failure when none worked, or at once
+     *                          when the session died
+     */
+    protected <C, T> T firstWorking(String element, List<C> candidates, Function<C, T> action) {
+        String chain = (isIos() ? "ios" : "android") + "|" + getClass().getSimpleName() + "." + element;
+        RuntimeException failure = null;
+        for (C candidate : LocatorRanking.rank(chain, candidates)) {
+            ScenarioContext.checkBudget();
+            long start = System.nanoTime();
+            try {
+                T result = action.apply(candidate);
+                LocatorRanking.record(chain, candidate, true, TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+                return result;
+            } catch (RuntimeException e) {
+                if (ObservedCommandExecutor.isSessionFailure(e)) {
+                    // Not the candidate's fault, and no other candidate can work either
+                    throw e;
+                }
+                LocatorRanking.record(chain, candidate, false, TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+                logger.debug("Candidate {} for {} failed: {}", candidate, element, e.getMessage());
+                if (failure == null) {
+                    failure = e;
+                } else {
+                    failure.addSuppressed(e);
+                }
+            }
+        }
+        throw failure != null ? failure : new NoSuchElementException("No candidates for " + element);
+    }
+    
+    /**
+     * Click the first candidate locator that works, in learned order.
+     * @param element    Logical element name, unique within the screen
+     * @param candidates Candidate locators in preferred order for a first run
+     */
+    protected void clickFirstWorking(String element, By... candidates) {
+        firstWorking(element, Arrays.asList(candidates), locator -> {
+            click(locator);
+            return locator;
+        });
+    }
+    
+    // ==================== Navigation ====================
+    
+    /**
+     * Open a screen through its deep link, falling back to UI navigation.
+     * Arrival after the deep link is confirmed with a single short wait
+     * ({@code deepLink.confirmSeconds}, default 3); when it is not confirmed the route is
+     * dropped from deep linking for the rest of the run.
+     * @param route        Deep link route, e.g. {@code login}
+     * @param arrival      Element present only on the target screen
+     * @param uiNavigation Navigation through the UI (e.g. tapping a tab)
+     */
+    protected void navigate(String route, By arrival, Runnable uiNavigation) {
+        AppiumDriver driver = getDriver();
+        if (DeepLinks.isAvailable(driver, route) && DeepLinks.open(driver, route)) {
+            Duration confirm = Duration.ofSeconds(
+                    ConfigManager.getInt(CONFIG_KEY_DEEP_LINK_CONFIRM, DEFAULT_DEEP_LINK_CONFIRM));
+            if (waitForAny(confirm, arrival)) {
+                logger.debug("Opened '{}' by deep link", route);
+                return;
+            }
+            DeepLinks.markUnsupported(driver, route);
+        }
+        uiNavigation.run();
+    }
+    
+    // ==================== Synchronization Methods ====================
+    
+    /**
+     * Perform an interaction and wait for its effect, retrying the interaction until the
+     * condition holds or the deadline passes. Use this instead of a fixed sleep after a tap.
+     * The number of attempts is bounded only by the deadline: an interaction that throws
+     * is retried after a short back-off, one that had no effect after its attempt window.
+     * 
+     * @param description   What is being attempted (used in logs and the failure message)
+     * @param action        Interaction to perform; receives the 1-based attempt number
+     * @param condition     Condition proving the interaction took effect (non-null / true)
+     * @param attemptWindow How long to wait for the condition after each attempt
+     * @param deadline      Total time allowed across all attempts
+     * @return The value produced by the condition
+     * @throws TimeoutException if the condition never held within the deadline
+     * @throws RuntimeException at once when the session died, without retrying
+     */
+    protected <T> T performUntil(String description, IntConsumer action, ExpectedCondition<T> condition,
+                                 Duration attemptWindow, Duration deadline) {
+        long deadlineNanos = System.nanoTime() + ScenarioContext.cap(deadline).toNanos();
+        long backoffMs = MIN_RETRY_INTERVAL_MS;
+        RuntimeException lastError = null;
+        int attempt = 0;
+        int failedActions = 0;
+        
+        while (System.nanoTime() < deadlineNanos) {
+            attempt++;
+            try {
+                action.accept(attempt);
+            } catch (RuntimeException e) {
+                if (ObservedCommandExecutor.isSessionFailure(e)) {
+                    throw e;
+                }
+                // Target not ready yet - back off briefly instead of waiting a whole window
+                lastError = e;
+                failedActions++;
+                logger.debug("{} - attempt {} failed: {}", description, attempt, e.getMessage());
+                sleep(getClass().getSimpleName() + "|" + description, Math.min(backoffMs, remainingMillis(deadlineNanos)));
+                backoffMs = Math.min(backoffMs * 2, MAX_RETRY_INTERVAL_MS);
+                continue;
+            }
+            
+            long windowMs = Math.min(attemptWindow.toMillis(), remainingMillis(deadlineNanos));
+            if (windowMs <= 0) {
+                break;
+            }
+            T result = AdaptiveWait.poll(getDriver(), getClass().getSimpleName() + "|" + description,
+                    condition, Duration.ofMillis(windowMs));
+            if (result != null) {
+                logger.debug("{} succeeded on attempt {}", description, attempt);
+                return result;
+            }
+            logger.debug("{} - condition not met after attempt {}, retrying", description, attempt);
+        }
+        
+        throw new TimeoutException(String.format(
+                "%s did not succeed within %d ms (%d attempts: %d failed to perform, %d had no effect)",
+                description, deadline.toMillis(), attempt, failedActions, attempt - failedActions), lastError);
+    }
+    
+    /**
+     * Evaluate a condition with fast, backing-off polling until it holds or the timeout passes.
+     * Element/alert-not-found and stale element errors count as "not yet".
+     * The timeout is capped to the remaining scenario budget.
+     * 
+     * @param condition Condition to evaluate (non-null / true means satisfied)
+     * @param timeout   Maximum time to poll
+     * @return The value produced by the condition, or null on timeout
+     */
+    protected <T> T pollUntil(ExpectedCondition<T> condition, Duration timeout) {
+        return AdaptiveWait.poll(getDriver(), null, condition, timeout);
+    }
+    
+    private static long remainingMillis(long deadlineNanos) {
+        return Math.max(0, TimeUnit.NANOSECONDS.toMillis(deadlineNanos - System.nanoTime()));
+    }
+    
+    private static void sleep(String source, long millis) {
+        if (millis <= 0) {
+            return;
+        }
+        long start = TimeAccounting.begin();
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new WebDriverException("Interrupted while waiting", e);
+        } finally {
+            TimeAccounting.end(TimeAccounting.Category.SLEEP, source, start);
+        }
     }
     
     // ==================== Gesture Methods ====================
@@ -313,7 +557,7 @@ public abstract class BasePage {
      * @param swipeRatio How far to swipe (0.0 to 1.0, default 0.75 = 75% of screen)
      */
     protected void swipe(SwipeDirection direction, double swipeRatio) {
-        Dimension size = getDriver().manage().window().getSize();
+        Dimension size = DriverManager.getViewport();
         int centerX = size.width / 2;
         int centerY = size.height / 2;
         
@@ -348,7 +592,7 @@ public abstract class BasePage {
         }
         
         performSwipe(startX, startY, endX, endY, Duration.ofMillis(300));
-        logger.info("Swiped {} on screen", direction);
+        logger.debug("Swiped {} on screen", direction);
     }
     
     /**
@@ -360,48 +604,148 @@ public abstract class BasePage {
      * @param duration Swipe duration
      */
     protected void performSwipe(int startX, int startY, int endX, int endY, Duration duration) {
-        PointerInput finger = new PointerInput(PointerInput.Kind.TOUCH, "finger");
-        Sequence swipe = new Sequence(finger, 1);
-        
-        swipe.addAction(finger.createPointerMove(Duration.ZERO, PointerInput.Origin.viewport(), startX, startY));
-        swipe.addAction(finger.createPointerDown(PointerInput.MouseButton.LEFT.asArg()));
-        swipe.addAction(finger.createPointerMove(duration, PointerInput.Origin.viewport(), endX, endY));
-        swipe.addAction(finger.createPointerUp(PointerInput.MouseButton.LEFT.asArg()));
-        
-        getDriver().perform(Collections.singletonList(swipe));
+        perform(gestures().swipe(startX, startY, endX, endY, duration));
+    }
+    
+    /**
+     * Start a batch of gestures and key input to be sent in one actions call.
+     * @return Empty GestureBatch; send it with {@link #perform(GestureBatch)}
+     */
+    protected GestureBatch gestures() {
+        return new GestureBatch();
+    }
+    
+    /**
+     * Send a gesture batch (or replay a recorded one) in a single round trip.
+     * @param batch Batch to perform
+     */
+    protected void perform(GestureBatch batch) {
+        ScenarioContext.checkBudget();
+        batch.perform(getDriver());
+        logger.debug("Performed gesture batch of {} gestures", batch.size());
+    }
+    
+    /**
+     * Rotate the device and drop the cached viewport.
+     * @param orientation Target orientation
+     */
+    protected void rotate(ScreenOrientation orientation) {
+        ((SupportsRotation) getDriver()).rotate(orientation);
+        DriverManager.invalidateViewport();
+        logger.debug("Rotated device to {}", orientation);
     }
     
     /**
      * Scroll down until element is visible.
+     * Accessibility id locators are scrolled to on the device in one call
+     * (see {@link #scrollToAccessibility}); other locators swipe and re-check.
      * @param locator Element locator to find
      * @param maxSwipes Maximum number of swipe attempts
      * @return The found element
      */
     protected WebElement scrollToElement(By locator, int maxSwipes) {
-        for (int i = 0; i < maxSwipes; i++) {
-            try {
-                WebElement element = getDriver().findElement(locator);
-                if (element.isDisplayed()) {
-                    logger.info("Found element after {} swipes", i);
-                    return element;
-                }
-            } catch (NoSuchElementException ignored) {
-                // Element not found yet, continue scrolling
+        if (locator instanceof AppiumBy.ByAccessibilityId) {
+            String accessibilityId = String.valueOf(((AppiumBy) locator).getRemoteParameters().value());
+            WebElement element = serverSideScroll(
+                    "new UiSelector().description(" + uiSelectorString(accessibilityId) + ")",
+                    "name == " + predicateString(accessibilityId), locator);
+            if (element != null) {
+                return element;
             }
-            swipe(SwipeDirection.UP);
         }
-        throw new NoSuchElementException("Element not found after " + maxSwipes + " swipes: " + locator);
+        return swipeToElement(locator, maxSwipes);
+    }
+    
+    /**
+     * Scroll until the element with the accessibility id is visible.
+     * Uses UiScrollable (Android) or mobile: scroll with a predicate (iOS), which search on
+     * the device in a single call. Falls back to client-driven swipes.
+     * @param accessibilityId Accessibility ID to scroll to
+     * @param maxSwipes Maximum number of swipes for the fallback
+     * @return The found element
+     */
+    protected WebElement scrollToAccessibility(String accessibilityId, int maxSwipes) {
+        return scrollToElement(AppiumBy.accessibilityId(accessibilityId), maxSwipes);
     }
     
     /**
      * Scroll down until text is visible.
+     * Searches on the device in a single call where supported, falling back to swipes.
      * @param text Text to find
      * @param maxSwipes Maximum number of swipe attempts
      * @return The found element containing the text
      */
     protected WebElement scrollToText(String text, int maxSwipes) {
-        By locator = By.xpath("//*[contains(@text,'" + text + "') or contains(@label,'" + text + "')]");
-        return scrollToElement(locator, maxSwipes);
+        String predicate = "label CONTAINS " + predicateString(text) + " OR value CONTAINS " + predicateString(text);
+        By locator = isIos()
+                ? AppiumBy.iOSNsPredicateString(predicate)
+                : AppiumBy.androidUIAutomator("new UiSelector().textContains(" + uiSelectorString(text) + ")");
+        WebElement element = serverSideScroll(
+                "new UiSelector().textContains(" + uiSelectorString(text) + ")", predicate, locator);
+        return element != null ? element : swipeToElement(locator, maxSwipes);
+    }
+    
+    /**
+     * Scroll on the device until a matching element is visible.
+     * @param androidSelector UiSelector expression for the target (Android)
+     * @param iosPredicate NSPredicate for the target (iOS)
+     * @param locator Locator used to return the element after scrolling
+     * @return The element, or null if the server-side scroll did not find it
+     */
+    private WebElement serverSideScroll(String androidSelector, String iosPredicate, By locator) {
+        ScenarioContext.checkBudget();
+        try {
+            if (isIos()) {
+                getDriver().executeScript("mobile: scroll", Map.of("predicateString", iosPredicate, "toVisible", true));
+                List<WebElement> found = getDriver().findElements(locator);
+                if (!found.isEmpty()) {
+                    logger.debug("Scrolled to element on device: {}", locator);
+                    return found.get(0);
+                }
+                return null;
+            }
+            By scrollable = AppiumBy.androidUIAutomator(
+                    "new UiScrollable(new UiSelector().scrollable(true)).scrollIntoView(" + androidSelector + ")");
+            WebElement element = pollUntil(ExpectedConditions.presenceOfElementLocated(scrollable),
+                    getExplicitWaitTimeout());
+            if (element != null) {
+                logger.debug("Scrolled to element on device: {}", locator);
+            }
+            return element;
+        } catch (WebDriverException e) {
+            // No scrollable container or not found - let the caller fall back to swipes
+            logger.debug("Server-side scroll failed for {}: {}", locator, e.getMessage());
+            return null;
+        }
+    }
+    
+    /**
+     * Client-driven scroll: swipe up and re-check until the element is displayed.
+     */
+    private WebElement swipeToElement(By locator, int maxSwipes) {
+        for (int i = 0; i < maxSwipes; i++) {
+            ScenarioContext.checkBudget();
+            for (WebElement element : getDriver().findElements(locator)) {
+                if (element.isDisplayed()) {
+                    logger.debug("Found element after {} swipes", i);
+                    return element;
+                }
+            }
+            swipe(SwipeDirection.UP);
+        }
+        throw new NoSuchElementException("Element not found after " + maxSwipes + " swipes: " + locator);
+    }
+    
+    private boolean isIos() {
+        return getDriver() instanceof IOSDriver;
+    }
+    
+    private static String uiSelectorString(String value) {
+        return "\"" + value.replace("\\", "\\\\").replace("\"", "\\\"") + "\"";
+    }
+    
+    private static String predicateString(String value) {
+        return "'" + value.replace("\\", "\\\\").replace("'", "\\'") + "'";
     }
     
     /**
@@ -410,21 +754,8 @@ public abstract class BasePage {
      * @param duration How long to hold (default 1 second)
      */
     protected void longPress(WebElement element, Duration duration) {
-        Point location = element.getLocation();
-        Dimension size = element.getSize();
-        int centerX = location.getX() + size.getWidth() / 2;
-        int centerY = location.getY() + size.getHeight() / 2;
-        
-        PointerInput finger = new PointerInput(PointerInput.Kind.TOUCH, "finger");
-        Sequence longPress = new Sequence(finger, 1);
-        
-        longPress.addAction(finger.createPointerMove(Duration.ZERO, PointerInput.Origin.viewport(), centerX, centerY));
-        longPress.addAction(finger.createPointerDown(PointerInput.MouseButton.LEFT.asArg()));
-        longPress.addAction(new Pause(finger, duration));
-        longPress.addAction(finger.createPointerUp(PointerInput.MouseButton.LEFT.asArg()));
-        
-        getDriver().perform(Collections.singletonList(longPress));
-        logger.info("Long pressed element for {} ms", duration.toMillis());
+        perform(gestures().longPress(getElementCenter(element), duration));
+        logger.debug("Long pressed element for {} ms", duration.toMillis());
     }
     
     /**
@@ -432,7 +763,7 @@ public abstract class BasePage {
      * @param accessibilityId Accessibility ID
      */
     protected void longPressByAccessibility(String accessibilityId) {
-        WebElement element = getDriver().findElement(AppiumBy.accessibilityId(accessibilityId));
+        WebElement element = waitForPresent(AppiumBy.accessibilityId(accessibilityId));
         longPress(element, Duration.ofSeconds(1));
     }
     
@@ -441,26 +772,8 @@ public abstract class BasePage {
      * @param element Element to double tap
      */
     protected void doubleTap(WebElement element) {
-        Point location = element.getLocation();
-        Dimension size = element.getSize();
-        int centerX = location.getX() + size.getWidth() / 2;
-        int centerY = location.getY() + size.getHeight() / 2;
-        
-        PointerInput finger = new PointerInput(PointerInput.Kind.TOUCH, "finger");
-        Sequence doubleTap = new Sequence(finger, 1);
-        
-        // First tap
-        doubleTap.addAction(finger.createPointerMove(Duration.ZERO, PointerInput.Origin.viewport(), centerX, centerY));
-        doubleTap.addAction(finger.createPointerDown(PointerInput.MouseButton.LEFT.asArg()));
-        doubleTap.addAction(finger.createPointerUp(PointerInput.MouseButton.LEFT.asArg()));
-        // Short pause between taps
-        doubleTap.addAction(new Pause(finger, Duration.ofMillis(100)));
-        // Second tap
-        doubleTap.addAction(finger.createPointerDown(PointerInput.MouseButton.LEFT.asArg()));
-        doubleTap.addAction(finger.createPointerUp(PointerInput.MouseButton.LEFT.asArg()));
-        
-        getDriver().perform(Collections.singletonList(doubleTap));
-        logger.info("Double tapped element");
+        perform(gestures().doubleTap(getElementCenter(element)));
+        logger.debug("Double tapped element");
     }
     
     /**
@@ -472,17 +785,9 @@ public abstract class BasePage {
         Point sourceCenter = getElementCenter(source);
         Point targetCenter = getElementCenter(target);
         
-        PointerInput finger = new PointerInput(PointerInput.Kind.TOUCH, "finger");
-        Sequence drag = new Sequence(finger, 1);
-        
-        drag.addAction(finger.createPointerMove(Duration.ZERO, PointerInput.Origin.viewport(), sourceCenter.getX(), sourceCenter.getY()));
-        drag.addAction(finger.createPointerDown(PointerInput.MouseButton.LEFT.asArg()));
-        drag.addAction(new Pause(finger, Duration.ofMillis(500))); // Hold before dragging
-        drag.addAction(finger.createPointerMove(Duration.ofMillis(500), PointerInput.Origin.viewport(), targetCenter.getX(), targetCenter.getY()));
-        drag.addAction(finger.createPointerUp(PointerInput.MouseButton.LEFT.asArg()));
-        
-        getDriver().perform(Collections.singletonList(drag));
-        logger.info("Dragged element from ({},{}) to ({},{})", 
+        // Hold before dragging, then move over 500 ms
+        perform(gestures().drag(sourceCenter, targetCenter, Duration.ofMillis(500), Duration.ofMillis(500)));
+        logger.debug("Dragged element from ({},{}) to ({},{})", 
                 sourceCenter.getX(), sourceCenter.getY(), targetCenter.getX(), targetCenter.getY());
     }
     
@@ -492,23 +797,15 @@ public abstract class BasePage {
      * @param y Y coordinate
      */
     protected void tapAtCoordinates(int x, int y) {
-        PointerInput finger = new PointerInput(PointerInput.Kind.TOUCH, "finger");
-        Sequence tap = new Sequence(finger, 1);
-        
-        tap.addAction(finger.createPointerMove(Duration.ZERO, PointerInput.Origin.viewport(), x, y));
-        tap.addAction(finger.createPointerDown(PointerInput.MouseButton.LEFT.asArg()));
-        tap.addAction(finger.createPointerUp(PointerInput.MouseButton.LEFT.asArg()));
-        
-        getDriver().perform(Collections.singletonList(tap));
-        logger.info("Tapped at coordinates ({},{})", x, y);
+        perform(gestures().tap(x, y));
+        logger.debug("Tapped at coordinates ({},{})", x, y);
     }
     
     /**
-     * Get center point of an element.
+     * Get center point of an element (single rect round trip).
      */
     private Point getElementCenter(WebElement element) {
-        Point location = element.getLocation();
-        Dimension size = element.getSize();
-        return new Point(location.getX() + size.getWidth() / 2, location.getY() + size.getHeight() / 2);
+        Rectangle rect = element.getRect();
+        return new Point(rect.getX() + rect.getWidth() / 2, rect.getY() + rect.getHeight() / 2);
     }
 }
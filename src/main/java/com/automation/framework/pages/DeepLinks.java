@@ -0,0 +1,100 @@
+package com.automation.framework.pages;
+
+import com.automation.framework.core.AppState;
+import com.automation.framework.core.ConfigManager;
+import com.automation.framework.core.ObservedCommandExecutor;
+import io.appium.java_client.AppiumDriver;
+import io.appium.java_client.ios.IOSDriver;
+import org.openqa.selenium.UnsupportedCommandException;
+import org.openqa.selenium.WebDriverException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static com.automation.framework.core.FrameworkConstants.*;
+
+/**
+ * Opens app screens directly through {@code mobile: deepLink} ({@code <scheme>://<route>}).
+ * Deep links are on by default ({@code navigation.deepLinks}); the scheme is
+ * {@code deepLink.scheme} (default {@code wdio}). A platform whose driver does not know
+ * the command, or a route that did not lead to its screen, is remembered for the rest of
+ * the run so callers go straight to UI navigation afterwards. Other failures (a timeout,
+ * the app missing on one device) only skip the deep link that once.
+ *
+ * @author Baskar
+ * @version 1.1.0
+ */
+public final class DeepLinks {
+    private static final Logger logger = LoggerFactory.getLogger(DeepLinks.class);
+    // Platforms, and platform|route pairs, where deep links do not work
+    private static final Set<String> unsupported = ConcurrentHashMap.newKeySet();
+
+    private DeepLinks() {
+        // Utility class
+    }
+
+    /**
+     * Whether a deep link is worth trying for the route on this driver's platform.
+     */
+    public static boolean isAvailable(AppiumDriver driver, String route) {
+        if (!ConfigManager.getBoolean(CONFIG_KEY_DEEP_LINKS, DEFAULT_DEEP_LINKS)) {
+            return false;
+        }
+        String platform = platform(driver);
+        return !unsupported.contains(platform) && !unsupported.contains(platform + "|" + route);
+    }
+
+    /**
+     * Fire the deep link for a route. Does not wait for the screen to appear.
+     *
+     * @return false if the driver rejected the command
+     * @throws WebDriverException if the session died
+     */
+    public static boolean open(AppiumDriver driver, String route) {
+        String url = ConfigManager.get(CONFIG_KEY_DEEP_LINK_SCHEME, DEFAULT_DEEP_LINK_SCHEME) + "://" + route;
+        String appKey = driver instanceof IOSDriver ? "bundleId" : "package";
+        try {
+            driver.executeScript("mobile: deepLink", Map.of("url", url, appKey, AppState.appId(driver)));
+            return true;
+        } catch (WebDriverException e) {
+            if (ObservedCommandExecutor.isSessionFailure(e)) {
+                throw e;
+            }
+            if (isUnknownCommand(e)) {
+                logger.info("Deep links unavailable on {} ({}); using UI navigation", platform(driver), e.getMessage());
+                unsupported.add(platform(driver));
+            } else {
+                logger.info("Deep link '{}' failed ({}); using UI navigation this time", route, e.getMessage());
+            }
+            return false;
+        }
+    }
+
+    /**
+     * Whether the driver does not implement {@code mobile: deepLink} at all.
+     */
+    private static boolean isUnknownCommand(WebDriverException error) {
+        if (error instanceof UnsupportedCommandException) {
+            return true;
+        }
+        String message = String.valueOf(error.getMessage()).toLowerCase(Locale.ROOT);
+        return message.contains("unknown mobile command") || message.contains("unknown method")
+                || message.contains("unknown command");
+    }
+
+    /**
+     * Stop using the deep link for a route that did not reach its screen.
+     */
+    public static void markUnsupported(AppiumDriver driver, String route) {
+        logger.info("Deep link '{}' did not reach its screen on {}; using UI navigation", route, platform(driver));
+        unsupported.add(platform(driver) + "|" + route);
+    }
+
+    private static String platform(AppiumDriver driver) {
+        return driver instanceof IOSDriver ? "ios" : "android";
+    }
+}
@@ -0,0 +1,195 @@
+package com.automation.framework.pages;
+
+import io.appium.java_client.AppiumDriver;
+import org.openqa.selenium.Point;
+import org.openqa.selenium.interactions.Interaction;
+import org.openqa.selenium.interactions.KeyInput;
+import org.openqa.selenium.interactions.Pause;
+import org.openqa.selenium.interactions.PointerInput;
+import org.openqa.selenium.interactions.Sequence;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Collects taps, drags, swipes, key input and pauses into a single W3C actions payload.
+ * A multi-gesture flow becomes one remote call instead of one per gesture.
+ * 
+ * A batch is reusable: build it once and call {@link #perform(AppiumDriver)} again to
+ * replay the recorded macro in a single round trip.
+ * 
+ * <pre>
+ * new GestureBatch()
+ *         .tap(100, 200)
+ *         .type("hello")
+ *         .swipe(500, 1500, 500, 500, Duration.ofMillis(300))
+ *         .perform(driver);
+ * </pre>
+ * 
+ * @author Baskar
+ * @version 1.0.0
+ */
+public class GestureBatch {
+    private static final int LEFT = PointerInput.MouseButton.LEFT.asArg();
+
+    private final PointerInput finger = new PointerInput(PointerInput.Kind.TOUCH, "finger");
+    private final KeyInput keyboard = new KeyInput("keyboard");
+    // Both sequences are kept the same length so their ticks line up
+    private final Sequence fingerSequence = new Sequence(finger, 0);
+    private final Sequence keySequence = new Sequence(keyboard, 0);
+    private boolean fingerUsed;
+    private boolean keysUsed;
+    private int gestures;
+
+    /**
+     * Tap at coordinates.
+     */
+    public GestureBatch tap(int x, int y) {
+        moveTo(x, y, Duration.ZERO);
+        press();
+        release();
+        gestures++;
+        return this;
+    }
+
+    /**
+     * Tap at a point.
+     */
+    public GestureBatch tap(Point point) {
+        return tap(point.getX(), point.getY());
+    }
+
+    /**
+     * Double tap at a point with a short pause between taps.
+     */
+    public GestureBatch doubleTap(Point point) {
+        moveTo(point.getX(), point.getY(), Duration.ZERO);
+        press();
+        release();
+        fingerPause(Duration.ofMillis(100));
+        press();
+        release();
+        gestures++;
+        return this;
+    }
+
+    /**
+     * Press and hold at a point.
+     */
+    public GestureBatch longPress(Point point, Duration hold) {
+        moveTo(point.getX(), point.getY(), Duration.ZERO);
+        press();
+        fingerPause(hold);
+        release();
+        gestures++;
+        return this;
+    }
+
+    /**
+     * Press at one point, hold, move to another and release.
+     */
+    public GestureBatch drag(Point from, Point to, Duration hold, Duration move) {
+        moveTo(from.getX(), from.getY(), Duration.ZERO);
+        press();
+        fingerPause(hold);
+        moveTo(to.getX(), to.getY(), move);
+        release();
+        gestures++;
+        return this;
+    }
+
+    /**
+     * Swipe from one point to another.
+     */
+    public GestureBatch swipe(int startX, int startY, int endX, int endY, Duration duration) {
+        moveTo(startX, startY, Duration.ZERO);
+        press();
+        moveTo(endX, endY, duration);
+        release();
+        gestures++;
+        return this;
+    }
+
+    /**
+     * Type text into the focused element as key input.
+     */
+    public GestureBatch type(CharSequence text) {
+        text.codePoints().forEach(codePoint -> {
+            addKey(keyboard.createKeyDown(codePoint));
+            addKey(keyboard.createKeyUp(codePoint));
+        });
+        gestures++;
+        return this;
+    }
+
+    /**
+     * Pause all input sources.
+     */
+    public GestureBatch pause(Duration duration) {
+        fingerPause(duration);
+        return this;
+    }
+
+    /**
+     * Number of gestures recorded (taps, drags, swipes, text inputs).
+     */
+    public int size() {
+        return gestures;
+    }
+
+    /**
+     * Sequences to send; sources without real actions are left out of the payload.
+     */
+    public List<Sequence> toSequences() {
+        List<Sequence> sequences = new ArrayList<>(2);
+        if (fingerUsed) {
+            sequences.add(fingerSequence);
+        }
+        if (keysUsed) {
+            sequences.add(keySequence);
+        }
+        return sequences;
+    }
+
+    /**
+     * Send all recorded actions in one W3C actions call.
+     * May be called repeatedly to replay the batch.
+     * 
+     * @param driver Driver to perform on
+     */
+    public void perform(AppiumDriver driver) {
+        List<Sequence> sequences = toSequences();
+        if (!sequences.isEmpty()) {
+            driver.perform(sequences);
+        }
+    }
+
+    private void moveTo(int x, int y, Duration duration) {
+        addFinger(finger.createPointerMove(duration, PointerInput.Origin.viewport(), x, y));
+    }
+
+    private void press() {
+        addFinger(finger.createPointerDown(LEFT));
+    }
+
+    private void release() {
+        addFinger(finger.createPointerUp(LEFT));
+    }
+
+    private void fingerPause(Duration duration) {
+        addFinger(new Pause(finger, duration));
+    }
+
+    private void addFinger(Interaction action) {
+        fingerSequence.addAction(action);
+        keySequence.addAction(new Pause(keyboard, Duration.ZERO));
+        fingerUsed = true;
+    }
+
+    private void addKey(Interaction action) {
+        keySequence.addAction(action);
+        fingerSequence.addAction(new Pause(finger, Duration.ZERO));
+        keysUsed = true;
+    }
+}
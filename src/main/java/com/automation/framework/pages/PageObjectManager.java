@@ -1,75 +1,98 @@
 package com.automation.framework.pages;
 
+import com.automation.framework.pages.screens.BStackSampleScreen;
+import com.automation.framework.pages.screens.HomeScreen;
+import com.automation.framework.pages.screens.LoginScreen;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+
 /**
- * Centralized manager for Page Object instances.
- * Uses lazy initialization to create page objects only when needed.
- * Provides single instances to avoid duplicate object creation across step
- * definitions.
- * 
- * Thread-safe using ThreadLocal for parallel execution support.
- * 
+ * Centralized registry of Page Object instances, keyed by screen class.
+ * Screens are stateless (the driver is resolved per call through
+ * {@link com.automation.framework.core.DriverManager}, i.e. the current scenario's session),
+ * so each screen is created once per JVM and shared by every thread.
+ *
+ * New screens need no registration: {@code PageObjectManager.get(FormsScreen.class)} works
+ * for any {@link BasePage} subclass with a public no-arg constructor. The constructor is
+ * looked up once per class on first use; later lookups are a {@link ClassValue} read.
+ *
  * @author Baskar
- * @version 1.0.0
+ * @version 2.0.0
  */
 public class PageObjectManager {
 
-    // ThreadLocal ensures each parallel thread gets its own set of page objects
-    private static final ThreadLocal<PageObjectManager> instance = ThreadLocal.withInitial(PageObjectManager::new);
+    private static final PageObjectManager INSTANCE = new PageObjectManager();
 
-    // Lazy-initialized page objects
-    private com.automation.framework.pages.screens.BStackSampleScreen bStackSampleScreen;
-    private com.automation.framework.pages.screens.HomeScreen homeScreen;
-    private com.automation.framework.pages.screens.LoginScreen loginScreen;
+    // One instance per screen class, created on first lookup and kept for the JVM lifetime
+    private static final ClassValue<Object> screens = new ClassValue<>() {
+        @Override
+        protected Object computeValue(Class<?> type) {
+            return instantiate(type);
+        }
+    };
 
     private PageObjectManager() {
-        // Private constructor for singleton per thread
+        // Stateless facade over the class-keyed registry
     }
 
     /**
-     * Get the PageObjectManager instance for the current thread.
-     * 
-     * @return PageObjectManager instance
+     * Get the shared screen instance for a page object class.
+     *
+     * @param type Screen class
+     * @return Shared instance (created on first call)
      */
-    public static PageObjectManager getInstance() {
-        return instance.get();
+    public static <T extends BasePage> T get(Class<T> type) {
+        return type.cast(screens.get(type));
+    }
+
+    private static Object instantiate(Class<?> type) {
+        if (!BasePage.class.isAssignableFrom(type)) {
+            throw new IllegalArgumentException(type.getName() + " is not a page object");
+        }
+        try {
+            MethodHandle constructor = MethodHandles.publicLookup()
+                    .findConstructor(type, MethodType.methodType(void.class));
+            return constructor.invoke();
+        } catch (NoSuchMethodException | IllegalAccessException e) {
+            throw new IllegalArgumentException(type.getName() + " needs a public no-arg constructor", e);
+        } catch (RuntimeException | Error e) {
+            throw e;
+        } catch (Throwable e) {
+            throw new IllegalStateException("Could not create " + type.getName(), e);
+        }
     }
 
     /**
-     * Get BStackSampleScreen page object (lazy initialization).
-     * 
-     * @return BStackSampleScreen instance
+     * Get the PageObjectManager facade. Kept for existing step definitions;
+     * prefer {@link #get(Class)}.
+     *
+     * @return PageObjectManager instance
      */
-    public com.automation.framework.pages.screens.BStackSampleScreen getBStackSampleScreen() {
-        if (bStackSampleScreen == null) {
-            bStackSampleScreen = new com.automation.framework.pages.screens.BStackSampleScreen();
-        }
-        return bStackSampleScreen;
+    public static PageObjectManager getInstance() {
+        return INSTANCE;
     }
 
-    public com.automation.framework.pages.screens.HomeScreen getHomeScreen() {
-        if (homeScreen == null) {
-            homeScreen = new com.automation.framework.pages.screens.HomeScreen();
-        }
-        return homeScreen;
+    public BStackSampleScreen getBStackSampleScreen() {
+        return get(BStackSampleScreen.class);
     }
 
-    public com.automation.framework.pages.screens.LoginScreen getLoginScreen() {
-        if (loginScreen == null) {
-            loginScreen = new com.automation.framework.pages.screens.LoginScreen();
-        }
-        return loginScreen;
+    public HomeScreen getHomeScreen() {
+        return get(HomeScreen.class);
     }
 
-    // Add more page getters as needed:
-    // public FormsScreen getFormsScreen() { ... }
-    // public SwipeScreen getSwipeScreen() { ... }
-    // public DragScreen getDragScreen() { ... }
+    public LoginScreen getLoginScreen() {
+        return get(LoginScreen.class);
+    }
 
     /**
-     * Reset all page objects for the current thread.
-     * Call this in @After hook to clean up between scenarios.
+     * No-op: screens hold no per-scenario state, so nothing needs clearing between scenarios.
+     *
+     * @deprecated Screens are shared per JVM; remove calls to this method.
      */
+    @Deprecated
     public static void reset() {
-        instance.remove();
+        // Nothing to clear
     }
 }
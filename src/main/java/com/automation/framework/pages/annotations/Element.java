@@ -0,0 +1,57 @@
+package com.automation.framework.pages.annotations;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Repeatable;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Locator of one element on a {@link Screen} interface method.
+ * Set exactly one strategy. Repeat the annotation with {@link #platform()} to use a
+ * different strategy per platform; an {@link Platform#ALL} entry applies to every
+ * platform without its own entry.
+ *
+ * @author Baskar
+ * @version 1.0.0
+ */
+@Documented
+@Retention(RetentionPolicy.SOURCE)
+@Target(ElementType.METHOD)
+@Repeatable(Element.List.class)
+public @interface Element {
+
+    /**
+     * Platforms a locator is compiled for.
+     */
+    enum Platform {
+        ALL, ANDROID, IOS
+    }
+
+    Platform platform() default Platform.ALL;
+
+    String accessibilityId() default "";
+
+    String id() default "";
+
+    String xpath() default "";
+
+    String className() default "";
+
+    String androidUiAutomator() default "";
+
+    String iosPredicate() default "";
+
+    String iosClassChain() default "";
+
+    /**
+     * Container for repeated {@link Element} annotations.
+     */
+    @Documented
+    @Retention(RetentionPolicy.SOURCE)
+    @Target(ElementType.METHOD)
+    @interface List {
+        Element[] value();
+    }
+}
@@ -0,0 +1,37 @@
+package com.automation.framework.pages.annotations;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Marks a locator interface of a screen for compile-time generation.
+ * Every method of the interface must take no arguments, return {@code By} and carry
+ * at least one {@link Element}. The processor writes a final class named after the
+ * enclosing screen plus the interface (e.g. {@code LoginScreen.Locators} becomes
+ * {@code LoginScreenLocators}) holding one precompiled {@code By} per method and platform.
+ *
+ * <pre>
+ * public class LoginScreen extends BasePage {
+ *     &#64;Screen
+ *     interface Locators {
+ *         &#64;Element(accessibilityId = "input-email")
+ *         By emailInput();
+ *     }
+ *
+ *     private Locators locators() {
+ *         return LoginScreenLocators.forDriver(getDriver());
+ *     }
+ * }
+ * </pre>
+ *
+ * @author Baskar
+ * @version 1.0.0
+ */
+@Documented
+@Retention(RetentionPolicy.SOURCE)
+@Target(ElementType.TYPE)
+public @interface Screen {
+}
@@ -5,7 +5,7 @@ package com.automation.framework.pages.locators;
  * All accessibility IDs are defined here for easy maintenance.
  * 
  * @author Baskar
- * @version 2.0.0
+ * @version 2.1.0
  */
 public final class WdioLocators {
 
@@ -28,6 +28,20 @@ public final class WdioLocators {
     public static final String XPATH_NAV_LOGIN = "//*[@content-desc='Login' or @text='Login']";
     public static final String XPATH_NAV_HOME = "//*[@content-desc='Home' or @text='Home']";
 
+    // Screen containers (confirm arrival after a deep link)
+    public static final String SCREEN_HOME = "Home-screen";
+    public static final String SCREEN_LOGIN = "Login-screen";
+    public static final String SCREEN_FORMS = "Forms-screen";
+    public static final String SCREEN_SWIPE = "Swipe-screen";
+    public static final String SCREEN_DRAG = "Drag-drop-screen";
+
+    // Deep link routes ({scheme}://{route})
+    public static final String ROUTE_HOME = "home";
+    public static final String ROUTE_LOGIN = "login";
+    public static final String ROUTE_FORMS = "forms";
+    public static final String ROUTE_SWIPE = "swipe";
+    public static final String ROUTE_DRAG = "drag";
+
     // =========================================================================
     // Login Screen
     // =========================================================================
@@ -51,6 +65,22 @@ public final class WdioLocators {
     public static final String XPATH_MODAL_CONTAINER = "//*[@resource-id='android:id/alertTitle' or @type='XCUIElementTypeAlert']";
     public static final String XPATH_ANY_ALERT_TEXT = "//android.widget.TextView | //XCUIElementTypeStaticText";
 
+    private static final String XPATH_TEXT_CONTAINS_IGNORE_CASE =
+            "//*[contains(translate(@text,'ABCDEFGHIJKLMNOPQRSTUVWXYZ','abcdefghijklmnopqrstuvwxyz'),'%1$s') or " +
+            "contains(translate(@label,'ABCDEFGHIJKLMNOPQRSTUVWXYZ','abcdefghijklmnopqrstuvwxyz'),'%1$s') or " +
+            "contains(translate(@name,'ABCDEFGHIJKLMNOPQRSTUVWXYZ','abcdefghijklmnopqrstuvwxyz'),'%1$s') or " +
+            "contains(translate(@value,'ABCDEFGHIJKLMNOPQRSTUVWXYZ','abcdefghijklmnopqrstuvwxyz'),'%1$s')]";
+
+    /**
+     * XPath matching any element whose text, label, name or value contains the text (case-insensitive).
+     * 
+     * @param text Text to look for
+     * @return Cross-platform XPath expression
+     */
+    public static String xpathTextContainsIgnoreCase(String text) {
+        return String.format(XPATH_TEXT_CONTAINS_IGNORE_CASE, text.toLowerCase());
+    }
+
     // =========================================================================
     // Forms Screen
     // =========================================================================
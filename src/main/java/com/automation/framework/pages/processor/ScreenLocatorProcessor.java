@@ -0,0 +1,233 @@
+package com.automation.framework.pages.processor;
+
+import com.automation.framework.pages.annotations.Element;
+import com.automation.framework.pages.annotations.Screen;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.Messager;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.NestingKind;
+import javax.lang.model.element.PackageElement;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.util.ElementFilter;
+import javax.lang.model.util.Elements;
+import javax.tools.Diagnostic;
+import javax.tools.JavaFileObject;
+import java.io.IOException;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Generates {@code <Screen><Interface>} locator classes for {@link Screen} interfaces.
+ * Each generated class has one immutable instance per platform whose accessors return
+ * {@code By} objects built once at class initialisation, plus a {@code forDriver}
+ * selector, so screens look up elements without building locators or using reflection.
+ *
+ * Compiled ahead of the rest of {@code src/main/java} (see the {@code compile-processor}
+ * execution in {@code pom.xml}) and run during the default compile.
+ *
+ * @author Baskar
+ * @version 1.0.0
+ */
+@SupportedAnnotationTypes("com.automation.framework.pages.annotations.Screen")
+public class ScreenLocatorProcessor extends AbstractProcessor {
+
+    private static final Element.Platform[] TARGETS = {Element.Platform.ANDROID, Element.Platform.IOS};
+
+    @Override
+    public SourceVersion getSupportedSourceVersion() {
+        return SourceVersion.latestSupported();
+    }
+
+    @Override
+    public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
+        for (javax.lang.model.element.Element annotated : roundEnv.getElementsAnnotatedWith(Screen.class)) {
+            if (annotated.getKind() != ElementKind.INTERFACE) {
+                error(annotated, "@Screen applies to locator interfaces only");
+                continue;
+            }
+            TypeElement type = (TypeElement) annotated;
+            if (type.getNestingKind() != NestingKind.MEMBER || type.getModifiers().contains(Modifier.PRIVATE)) {
+                error(type, "@Screen interface must be a non-private member of its screen class");
+                continue;
+            }
+            List<Locator> locators = collect(type);
+            if (locators != null) {
+                write(type, locators);
+            }
+        }
+        return true;
+    }
+
+    // ==================== Model ====================
+
+    /**
+     * One interface method with its compiled locator expression per platform.
+     */
+    private record Locator(String name, Map<Element.Platform, String> expressions) {
+    }
+
+    private List<Locator> collect(TypeElement type) {
+        List<Locator> locators = new ArrayList<>();
+        boolean valid = true;
+        for (ExecutableElement method : ElementFilter.methodsIn(type.getEnclosedElements())) {
+            if (method.isDefault() || method.getModifiers().contains(Modifier.STATIC)) {
+                continue;
+            }
+            if (!method.getParameters().isEmpty()
+                    || !method.getReturnType().toString().equals("org.openqa.selenium.By")) {
+                error(method, "@Screen methods must take no arguments and return By");
+                valid = false;
+                continue;
+            }
+            Locator locator = resolve(method);
+            if (locator == null) {
+                valid = false;
+            } else {
+                locators.add(locator);
+            }
+        }
+        return valid ? locators : null;
+    }
+
+    private Locator resolve(ExecutableElement method) {
+        Map<Element.Platform, String> declared = new EnumMap<>(Element.Platform.class);
+        for (Element element : method.getAnnotationsByType(Element.class)) {
+            String expression = expression(method, element);
+            if (expression == null) {
+                return null;
+            }
+            if (declared.put(element.platform(), expression) != null) {
+                error(method, "Duplicate @Element for platform " + element.platform());
+                return null;
+            }
+        }
+        Map<Element.Platform, String> expressions = new EnumMap<>(Element.Platform.class);
+        for (Element.Platform platform : TARGETS) {
+            String expression = declared.getOrDefault(platform, declared.get(Element.Platform.ALL));
+            if (expression == null) {
+                error(method, "No @Element for " + platform + " (add one for that platform or for ALL)");
+                return null;
+            }
+            expressions.put(platform, expression);
+        }
+        return new Locator(method.getSimpleName().toString(), expressions);
+    }
+
+    /**
+     * Java expression building the {@code By} for the single strategy set on the annotation.
+     */
+    private String expression(ExecutableElement method, Element element) {
+        Map<String, String> set = new LinkedHashMap<>();
+        put(set, "accessibilityId", element.accessibilityId());
+        put(set, "id", element.id());
+        put(set, "xpath", element.xpath());
+        put(set, "className", element.className());
+        put(set, "androidUIAutomator", element.androidUiAutomator());
+        put(set, "iOSNsPredicateString", element.iosPredicate());
+        put(set, "iOSClassChain", element.iosClassChain());
+        if (set.size() != 1) {
+            error(method, "@Element needs exactly one locator strategy, found " + set.keySet());
+            return null;
+        }
+        String factory = set.keySet().iterator().next();
+        if (factory.equals("androidUIAutomator") && element.platform() != Element.Platform.ANDROID
+                || factory.startsWith("iOS") && element.platform() != Element.Platform.IOS) {
+            error(method, factory + " locators must declare their platform");
+            return null;
+        }
+        Elements elements = processingEnv.getElementUtils();
+        return "AppiumBy." + factory + "(" + elements.getConstantExpression(set.get(factory)) + ")";
+    }
+
+    private static void put(Map<String, String> set, String factory, String value) {
+        if (!value.isEmpty()) {
+            set.put(factory, value);
+        }
+    }
+
+    // ==================== Code generation ====================
+
+    private void write(TypeElement type, List<Locator> locators) {
+        Elements elements = processingEnv.getElementUtils();
+        PackageElement pkg = elements.getPackageOf(type);
+        String packageName = pkg.getQualifiedName().toString();
+        String interfaceName = type.getQualifiedName().toString().substring(
+                packageName.isEmpty() ? 0 : packageName.length() + 1);
+        String className = interfaceName.replace(".", "");
+        String visibility = type.getModifiers().contains(Modifier.PUBLIC) ? "public " : "";
+
+        StringBuilder src = new StringBuilder();
+        if (!packageName.isEmpty()) {
+            src.append("package ").append(packageName).append(";\n\n");
+        }
+        src.append("import io.appium.java_client.AppiumBy;\n")
+                .append("import io.appium.java_client.ios.IOSDriver;\n")
+                .append("import org.openqa.selenium.By;\n")
+                .append("import org.openqa.selenium.WebDriver;\n\n")
+                .append("/**\n * Precompiled locators for {@link ").append(interfaceName).append("}.\n")
+                .append(" * Generated by ScreenLocatorProcessor; do not edit.\n */\n")
+                .append("@javax.annotation.processing.Generated(\"").append(getClass().getName()).append("\")\n")
+                .append(visibility).append("final class ").append(className)
+                .append(" implements ").append(interfaceName).append(" {\n\n");
+
+        for (Element.Platform platform : TARGETS) {
+            src.append("    ").append(visibility).append("static final ").append(className).append(' ')
+                    .append(platform).append(" = new ").append(className).append('(');
+            for (int i = 0; i < locators.size(); i++) {
+                src.append(i == 0 ? "\n" : ",\n").append("            ")
+                        .append(locators.get(i).expressions().get(platform));
+            }
+            src.append(");\n\n");
+        }
+
+        for (Locator locator : locators) {
+            src.append("    private final By ").append(locator.name()).append(";\n");
+        }
+        src.append("\n    private ").append(className).append('(');
+        for (int i = 0; i < locators.size(); i++) {
+            src.append(i == 0 ? "" : ", ").append("By ").append(locators.get(i).name());
+        }
+        src.append(") {\n");
+        for (Locator locator : locators) {
+            src.append("        this.").append(locator.name()).append(" = ").append(locator.name()).append(";\n");
+        }
+        src.append("    }\n\n")
+                .append("    /**\n     * Locators for the platform of the given driver.\n     */\n")
+                .append("    ").append(visibility).append("static ").append(className)
+                .append(" forDriver(WebDriver driver) {\n")
+                .append("        return driver instanceof IOSDriver ? IOS : ANDROID;\n")
+                .append("    }\n");
+
+        for (Locator locator : locators) {
+            src.append("\n    @Override\n    public By ").append(locator.name()).append("() {\n")
+                    .append("        return ").append(locator.name()).append(";\n    }\n");
+        }
+        src.append("}\n");
+
+        String qualifiedName = packageName.isEmpty() ? className : packageName + "." + className;
+        try {
+            JavaFileObject file = processingEnv.getFiler().createSourceFile(qualifiedName, type);
+            try (Writer writer = file.openWriter()) {
+                writer.write(src.toString());
+            }
+        } catch (IOException e) {
+            error(type, "Could not write " + qualifiedName + ": " + e.getMessage());
+        }
+    }
+
+    private void error(javax.lang.model.element.Element element, String message) {
+        Messager messager = processingEnv.getMessager();
+        messager.printMessage(Diagnostic.Kind.ERROR, message, element);
+    }
+}
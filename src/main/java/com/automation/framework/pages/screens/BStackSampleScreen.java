@@ -5,8 +5,12 @@ import org.openqa.selenium.WebElement;
 import org.openqa.selenium.remote.RemoteWebDriver;
 import org.openqa.selenium.remote.RemoteWebElement;
 import org.openqa.selenium.NoSuchElementException;
+import org.openqa.selenium.support.ui.ExpectedConditions;
 import com.google.common.collect.ImmutableMap;
 
+import java.time.Duration;
+import java.util.List;
+
 /**
  * Page Object for BrowserStack Sample App (iOS).
  *
@@ -20,92 +24,74 @@ public class BStackSampleScreen extends BasePage {
     private static final String ALERT_BUTTON_ACC_ID = "Alert";
     private static final String TEXT_INPUT_ACC_ID = "Text Input";
     private static final String TEXT_OUTPUT_ACC_ID = "Text Output";
+    private static final List<String> TEXT_BUTTON_CANDIDATES = List.of("Text", TEXT_BUTTON_ACC_ID);
+
+    // Interaction retry budget: attempts repeat until the deadline, which matches the
+    // total of the former 3 x fixed-sleep loops
+    private static final Duration ATTEMPT_WINDOW = Duration.ofSeconds(3);
+    private static final Duration INTERACTION_DEADLINE = Duration.ofSeconds(9);
 
     /**
      * Click the Text Button to navigate to the text input screen.
+     * Waits (explicit timeout) for the button, then re-taps until the text input is present
+     * instead of sleeping between attempts. The button label and accessibility id are tried
+     * in learned order.
      */
     public void clickTextButton() {
-        System.out.println("Attempting to click navigation button using mobile: tap workaround...");
-
-        for (int i = 0; i < 3; i++) {
-            try {
-                WebElement target;
+        logger.info("Attempting to click navigation button using mobile: tap workaround...");
+        waitFor("textButton", driver -> {
+            for (String candidate : TEXT_BUTTON_CANDIDATES) {
                 try {
-                    target = safeFindElement("Text");
-                } catch (Exception e) {
-                    target = safeFindElement(TEXT_BUTTON_ACC_ID);
+                    return safeFindElement(candidate, false);
+                } catch (NoSuchElementException e) {
+                    // Try the next candidate
                 }
-
-                // Use mobile: tap for better reliability on iOS
-                java.util.Map<String, Object> params = new java.util.HashMap<>();
-                params.put("elementId", ((RemoteWebElement) target).getId());
-                params.put("x", 0);
-                params.put("y", 0);
-                getDriver().executeScript("mobile: tap", params);
-
-                System.out.println("Performed mobile: tap on navigation element. Waiting for transition...");
-                Thread.sleep(3000);
-
-                try {
-                    safeFindElement(TEXT_INPUT_ACC_ID);
-                    logger.info("Navigation successful to Text screen");
-                    return;
-                } catch (Exception e) {
-                    System.out.println("Still on home screen, retrying with forceful click... (" + (i + 1) + "/3)");
-                }
-            } catch (Exception e) {
-                System.err.println("Tap attempt failed: " + e.getMessage());
             }
-        }
+            return null;
+        }, getExplicitWaitTimeout());
+
+        performUntil("Navigate to Text screen", attempt -> {
+            WebElement target = firstWorking("textButton", TEXT_BUTTON_CANDIDATES,
+                    accessibilityId -> safeFindElement(accessibilityId, false));
+            // Use mobile: tap for better reliability on iOS
+            mobileTap(target, 0, 0);
+            logger.debug("Performed mobile: tap on navigation element (attempt {})", attempt);
+        }, driver -> safeFindElement(TEXT_INPUT_ACC_ID, false), ATTEMPT_WINDOW, INTERACTION_DEADLINE);
 
-        throw new RuntimeException("Failed to navigate to Text screen after multiple mobile: tap attempts");
+        logger.info("Navigation successful to Text screen");
     }
 
     /**
      * Click the Alert Button.
+     * Waits (explicit timeout) for the button, then alternates a standard click and a
+     * mobile: tap until the native alert is present.
      */
     public void clickAlertButton() {
-        System.out.println("Attempting to click Alert button using multiple methods...");
-
-        for (int i = 0; i < 3; i++) {
-            try {
-                WebElement target = safeFindElement(ALERT_BUTTON_ACC_ID);
+        logger.info("Attempting to click Alert button using multiple methods...");
+        waitFor(ALERT_BUTTON_ACC_ID, driver -> safeFindElement(ALERT_BUTTON_ACC_ID, false), getExplicitWaitTimeout());
 
+        performUntil("Trigger alert", attempt -> {
+            WebElement target = safeFindElement(ALERT_BUTTON_ACC_ID, false);
+            if (attempt % 2 == 1) {
                 // Method 1: Standard Click
-                try {
-                    target.click();
-                    System.out.println("Performed standard click on Alert button. Waiting...");
-                    Thread.sleep(2000);
-                    getDriver().switchTo().alert();
-                    logger.info("Alert displayed successfully via standard click");
-                    return;
-                } catch (Exception clickEx) {
-                    System.out.println("Standard click didn't trigger alert, trying mobile: tap...");
-                }
-
-                // Method 2: mobile: tap with center offset
-                java.util.Map<String, Object> params = new java.util.HashMap<>();
-                params.put("elementId", ((RemoteWebElement) target).getId());
-                params.put("x", 10); // Minimal offset from top-left
-                params.put("y", 10);
-                getDriver().executeScript("mobile: tap", params);
-
-                System.out.println("Performed mobile: tap on Alert button. Waiting...");
-                Thread.sleep(2000);
-
-                try {
-                    getDriver().switchTo().alert();
-                    logger.info("Alert displayed successfully via mobile: tap");
-                    return;
-                } catch (Exception e) {
-                    System.out.println("Alert not yet displayed, retrying... (" + (i + 1) + "/3)");
-                }
-            } catch (Exception e) {
-                System.err.println("Alert interaction attempt failed: " + e.getMessage());
+                target.click();
+                logger.debug("Performed standard click on Alert button (attempt {})", attempt);
+            } else {
+                // Method 2: mobile: tap with minimal offset from top-left
+                mobileTap(target, 10, 10);
+                logger.debug("Performed mobile: tap on Alert button (attempt {})", attempt);
             }
-        }
+        }, ExpectedConditions.alertIsPresent(), ATTEMPT_WINDOW, INTERACTION_DEADLINE);
+
+        logger.info("Alert displayed successfully");
+    }
 
-        throw new RuntimeException("Failed to trigger alert after multiple interaction attempts");
+    private void mobileTap(WebElement target, int x, int y) {
+        java.util.Map<String, Object> params = new java.util.HashMap<>();
+        params.put("elementId", ((RemoteWebElement) target).getId());
+        params.put("x", x);
+        params.put("y", y);
+        getDriver().executeScript("mobile: tap", params);
     }
 
     /**
@@ -140,15 +126,17 @@ public class BStackSampleScreen extends BasePage {
      * @return Displayed text
      */
     public String getDisplayedText() {
-        WebElement element = safeFindElement(TEXT_OUTPUT_ACC_ID);
+        WebElement element = waitFor(TEXT_OUTPUT_ACC_ID, driver -> safeFindElement(TEXT_OUTPUT_ACC_ID, false),
+                getExplicitWaitTimeout());
         String text = element.getText();
         logger.info("Retrieved displayed text: {}", text);
         return text;
     }
 
     // WORKAROUND: Bypass Selenium's internal casting by invoking execute directly
-    // and handling the Map response
-    private WebElement safeFindElement(String accessibilityId) {
+    // and handling the Map response. Page source is only dumped on a miss when
+    // requested, so polling callers don't pull the whole tree on every probe.
+    private WebElement safeFindElement(String accessibilityId, boolean captureSourceOnMiss) {
         try {
             // Reflection to call 'execute' method on RemoteWebDriver
             java.lang.reflect.Method executeMethod = RemoteWebDriver.class
@@ -178,7 +166,8 @@ public class BStackSampleScreen extends BasePage {
                     String error = map.get("error") != null ? map.get("error").toString() : "unknown error";
                     String message = map.get("message") != null ? map.get("message").toString() : "";
 
-                    if (error.equals("no such element") || error.equals("invalid selector")) {
+                    if (captureSourceOnMiss
+                            && (error.equals("no such element") || error.equals("invalid selector"))) {
                         // Log page source to help debug
                         System.out.println("Element not found: " + accessibilityId + ". Capturing page source...");
                         try {
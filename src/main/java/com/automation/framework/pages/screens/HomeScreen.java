@@ -1,74 +1,126 @@
 package com.automation.framework.pages.screens;
 
 import com.automation.framework.pages.BasePage;
+import com.automation.framework.pages.annotations.Element;
+import com.automation.framework.pages.annotations.Element.Platform;
+import com.automation.framework.pages.annotations.Screen;
 import com.automation.framework.pages.locators.WdioLocators;
-import io.appium.java_client.AppiumBy;
-import org.openqa.selenium.support.ui.ExpectedConditions;
+import org.openqa.selenium.By;
 
 /**
  * Page Object for WDIO Demo App Home Screen.
  * Contains navigation actions and home screen verifications.
  * This is the main landing screen with bottom navigation tabs.
+ * Locators are precompiled per platform into {@code HomeScreenLocators}.
+ * Navigation opens screens by deep link where the app supports it and falls back
+ * to the bottom navigation tabs.
  * 
  * @author Baskar
- * @version 1.0.0
+ * @version 1.2.0
  */
 public class HomeScreen extends BasePage {
 
+    @Screen
+    interface Locators {
+        @Element(accessibilityId = WdioLocators.NAV_LOGIN)
+        By navLogin();
+
+        // Fallback when content-desc is not exposed as accessibility id
+        @Element(platform = Platform.ANDROID, xpath = WdioLocators.XPATH_NAV_LOGIN)
+        @Element(platform = Platform.IOS, iosPredicate = "name == 'Login' OR label == 'Login'")
+        By navLoginFallback();
+
+        @Element(accessibilityId = WdioLocators.NAV_HOME)
+        By navHome();
+
+        @Element(accessibilityId = WdioLocators.NAV_WEBVIEW)
+        By navWebview();
+
+        @Element(accessibilityId = WdioLocators.NAV_FORMS)
+        By navForms();
+
+        @Element(accessibilityId = WdioLocators.NAV_SWIPE)
+        By navSwipe();
+
+        @Element(accessibilityId = WdioLocators.NAV_DRAG)
+        By navDrag();
+
+        @Element(accessibilityId = WdioLocators.SCREEN_HOME)
+        By homeScreen();
+
+        @Element(accessibilityId = WdioLocators.SCREEN_LOGIN)
+        By loginScreen();
+
+        @Element(accessibilityId = WdioLocators.SCREEN_FORMS)
+        By formsScreen();
+
+        @Element(accessibilityId = WdioLocators.SCREEN_SWIPE)
+        By swipeScreen();
+
+        @Element(accessibilityId = WdioLocators.SCREEN_DRAG)
+        By dragScreen();
+    }
+
+    private Locators locators() {
+        return HomeScreenLocators.forDriver(getDriver());
+    }
+
     // ==================== Navigation Methods ====================
 
     /**
-     * Navigate to the Login screen via bottom navigation.
-     * Uses robust click with fallback to ensure navigation on different
-     * devices/Appium versions.
+     * Navigate to the Login screen.
+     * The bottom navigation fallback tries the accessibility id and the fallback
+     * locator in the order that has worked fastest on this platform before.
      */
     public void navigateToLogin() {
-        try {
-            clickByAccessibility(WdioLocators.NAV_LOGIN);
-        } catch (Exception e) {
-            logger.warn("Click by accessibility failed for Login tab, trying XPath fallback...");
-            clickByXpath(WdioLocators.XPATH_NAV_LOGIN);
-        }
+        Locators locators = locators();
+        navigate(WdioLocators.ROUTE_LOGIN, locators.loginScreen(),
+                () -> clickFirstWorking("navLogin", locators.navLogin(), locators.navLoginFallback()));
         logger.info("Navigated to Login screen");
     }
 
     /**
-     * Navigate to the Home screen via bottom navigation.
+     * Navigate to the Home screen.
      */
     public void navigateToHome() {
-        clickByAccessibility(WdioLocators.NAV_HOME);
+        Locators locators = locators();
+        navigate(WdioLocators.ROUTE_HOME, locators.homeScreen(), () -> click(locators.navHome()));
         logger.info("Navigated to Home screen");
     }
 
     /**
      * Navigate to the Webview screen via bottom navigation.
+     * The web content has no native marker to confirm a deep link against.
      */
     public void navigateToWebview() {
-        clickByAccessibility(WdioLocators.NAV_WEBVIEW);
+        click(locators().navWebview());
         logger.info("Navigated to Webview screen");
     }
 
     /**
-     * Navigate to the Forms screen via bottom navigation.
+     * Navigate to the Forms screen.
      */
     public void navigateToForms() {
-        clickByAccessibility(WdioLocators.NAV_FORMS);
+        Locators locators = locators();
+        navigate(WdioLocators.ROUTE_FORMS, locators.formsScreen(), () -> click(locators.navForms()));
         logger.info("Navigated to Forms screen");
     }
 
     /**
-     * Navigate to the Swipe screen via bottom navigation.
+     * Navigate to the Swipe screen.
      */
     public void navigateToSwipe() {
-        clickByAccessibility(WdioLocators.NAV_SWIPE);
+        Locators locators = locators();
+        navigate(WdioLocators.ROUTE_SWIPE, locators.swipeScreen(), () -> click(locators.navSwipe()));
         logger.info("Navigated to Swipe screen");
     }
 
     /**
-     * Navigate to the Drag screen via bottom navigation.
+     * Navigate to the Drag screen.
      */
     public void navigateToDrag() {
-        clickByAccessibility(WdioLocators.NAV_DRAG);
+        Locators locators = locators();
+        navigate(WdioLocators.ROUTE_DRAG, locators.dragScreen(), () -> click(locators.navDrag()));
         logger.info("Navigated to Drag screen");
     }
 
@@ -80,13 +132,7 @@ public class HomeScreen extends BasePage {
      * @return true if on home screen
      */
     public boolean isHomeScreenDisplayed() {
-        try {
-            getWait().until(ExpectedConditions.presenceOfElementLocated(
-                    AppiumBy.accessibilityId(WdioLocators.NAV_HOME)));
-            return true;
-        } catch (Exception e) {
-            return false;
-        }
+        return waitForAny(getExplicitWaitTimeout(), locators().navHome());
     }
 
     /**
@@ -95,7 +141,7 @@ public class HomeScreen extends BasePage {
      * @return true if navigation tabs are visible
      */
     public boolean isNavigationVisible() {
-        return isDisplayedByAccessibility(WdioLocators.NAV_HOME) &&
-                isDisplayedByAccessibility(WdioLocators.NAV_LOGIN);
+        Locators locators = locators();
+        return isDisplayed(locators.navHome()) && isDisplayed(locators.navLogin());
     }
 }
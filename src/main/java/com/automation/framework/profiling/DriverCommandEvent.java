@@ -0,0 +1,28 @@
+package com.automation.framework.profiling;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * JFR event spanning one WebDriver command round trip.
+ * 
+ * @author Baskar
+ * @version 1.0.0
+ */
+@Name("com.automation.framework.DriverCommand")
+@Label("Driver Command")
+@Category({"Automation Framework"})
+@Description("WebDriver/Appium command round trip")
+@StackTrace(false)
+public class DriverCommandEvent extends Event {
+    @Label("Command")
+    public String command;
+
+    @Label("State")
+    @Description("W3C response state, or the exception type if no response arrived")
+    public String state;
+}
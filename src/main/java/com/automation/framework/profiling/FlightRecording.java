@@ -0,0 +1,156 @@
+package com.automation.framework.profiling;
+
+import com.automation.framework.core.CommandObserver;
+import com.automation.framework.core.ConfigManager;
+import com.automation.framework.core.ObservedCommandExecutor;
+import jdk.jfr.Configuration;
+import jdk.jfr.Recording;
+import org.openqa.selenium.remote.Command;
+import org.openqa.selenium.remote.Response;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.text.ParseException;
+import java.util.Collection;
+
+import static com.automation.framework.core.FrameworkConstants.*;
+
+/**
+ * Java Flight Recorder integration.
+ * Framework events (scenario, step, wait, driver command, report write) are emitted
+ * whenever any JFR recording is active, e.g. one started with
+ * {@code -XX:StartFlightRecording}. With {@code jfr.enabled=true} the framework starts
+ * its own recording at execution start (settings from {@code jfr.settings}, default
+ * "profile") and dumps it to {@code jfr.file} at the end.
+ * 
+ * @author Baskar
+ * @version 1.0.0
+ */
+public final class FlightRecording {
+    private static final Logger logger = LoggerFactory.getLogger(FlightRecording.class);
+    private static final ThreadLocal<ScenarioEvent> scenarioEvent = new ThreadLocal<>();
+    private static final ThreadLocal<DriverCommandEvent> commandEvent = new ThreadLocal<>();
+    private static Recording recording;
+
+    private static final CommandObserver COMMAND_OBSERVER = new CommandObserver() {
+        @Override
+        public void beforeCommand(Command command) {
+            DriverCommandEvent event = new DriverCommandEvent();
+            if (event.isEnabled()) {
+                event.begin();
+                commandEvent.set(event);
+            }
+        }
+
+        @Override
+        public void afterCommand(Command command, Response response, long durationNanos) {
+            commit(command, response.getState());
+        }
+
+        @Override
+        public void onCommandFailure(Command command, RuntimeException error, long durationNanos) {
+            commit(command, error.getClass().getSimpleName());
+        }
+
+        private void commit(Command command, String state) {
+            DriverCommandEvent event = commandEvent.get();
+            if (event == null) {
+                return;
+            }
+            commandEvent.remove();
+            event.end();
+            if (event.shouldCommit()) {
+                event.command = command.getName();
+                event.state = state;
+                event.commit();
+            }
+        }
+    };
+
+    private FlightRecording() {
+        // Utility class
+    }
+
+    /**
+     * Hook driver commands into JFR and start the framework recording if {@code jfr.enabled}.
+     */
+    public static synchronized void start() {
+        ObservedCommandExecutor.register(COMMAND_OBSERVER);
+        if (recording != null || !ConfigManager.getBoolean(CONFIG_KEY_JFR_ENABLED, false)) {
+            return;
+        }
+        String settings = ConfigManager.get(CONFIG_KEY_JFR_SETTINGS, DEFAULT_JFR_SETTINGS);
+        try {
+            recording = new Recording(Configuration.getConfiguration(settings));
+            recording.setName("automation-framework");
+            recording.setToDisk(true);
+            recording.start();
+            logger.info("JFR recording started (settings: {})", settings);
+        } catch (IOException | ParseException | IllegalStateException e) {
+            // Profiling must never fail the run
+            logger.warn("Could not start JFR recording with settings '{}': {}", settings, e.getMessage());
+            recording = null;
+        }
+    }
+
+    /**
+     * Stop the framework recording and write it to {@code jfr.file}.
+     */
+    public static synchronized void stop() {
+        ObservedCommandExecutor.unregister(COMMAND_OBSERVER);
+        if (recording == null) {
+            return;
+        }
+        Path file = Path.of(ConfigManager.get(CONFIG_KEY_JFR_FILE, DEFAULT_JFR_FILE));
+        try {
+            recording.stop();
+            if (file.getParent() != null) {
+                Files.createDirectories(file.getParent());
+            }
+            recording.dump(file);
+            logger.info("JFR recording written to {} (open with JDK Mission Control or 'jfr print')",
+                    file.toAbsolutePath());
+        } catch (IOException e) {
+            logger.warn("Could not write JFR recording to {}: {}", file, e.getMessage());
+        } finally {
+            recording.close();
+            recording = null;
+        }
+    }
+
+    /**
+     * Begin the scenario event on the current thread.
+     * 
+     * @param name Scenario name
+     * @param tags Scenario tags
+     */
+    public static void scenarioStarted(String name, Collection<String> tags) {
+        ScenarioEvent event = new ScenarioEvent();
+        if (!event.isEnabled()) {
+            return;
+        }
+        event.name = name;
+        event.tags = String.join(" ", tags);
+        event.begin();
+        scenarioEvent.set(event);
+    }
+
+    /**
+     * End and commit the current thread's scenario event.
+     * 
+     * @param status Final scenario status
+     */
+    public static void scenarioFinished(String status) {
+        ScenarioEvent event = scenarioEvent.get();
+        if (event == null) {
+            return;
+        }
+        scenarioEvent.remove();
+        event.end();
+        event.status = status;
+        event.commit();
+    }
+}
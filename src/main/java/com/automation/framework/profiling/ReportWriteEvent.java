@@ -0,0 +1,29 @@
+package com.automation.framework.profiling;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * JFR event spanning one Extent report write (log line, screenshot, flush).
+ * 
+ * @author Baskar
+ * @version 1.0.0
+ */
+@Name("com.automation.framework.ReportWrite")
+@Label("Report Write")
+@Category({"Automation Framework"})
+@Description("Extent report write")
+@StackTrace(false)
+public class ReportWriteEvent extends Event {
+    @Label("Operation")
+    public String operation;
+
+    @Label("Size")
+    @DataAmount
+    public long bytes;
+}
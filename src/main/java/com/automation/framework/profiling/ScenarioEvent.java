@@ -0,0 +1,30 @@
+package com.automation.framework.profiling;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * JFR event spanning one scenario, from the Before hook to the end of the After hook.
+ * 
+ * @author Baskar
+ * @version 1.0.0
+ */
+@Name("com.automation.framework.Scenario")
+@Label("Scenario")
+@Category({"Automation Framework"})
+@Description("Cucumber scenario lifecycle")
+@StackTrace(false)
+public class ScenarioEvent extends Event {
+    @Label("Name")
+    public String name;
+
+    @Label("Tags")
+    public String tags;
+
+    @Label("Status")
+    public String status;
+}
@@ -0,0 +1,30 @@
+package com.automation.framework.profiling;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * JFR event spanning one Gherkin step.
+ * 
+ * @author Baskar
+ * @version 1.0.0
+ */
+@Name("com.automation.framework.Step")
+@Label("Step")
+@Category({"Automation Framework"})
+@Description("Gherkin step execution")
+@StackTrace(false)
+public class StepEvent extends Event {
+    @Label("Keyword")
+    public String keyword;
+
+    @Label("Text")
+    public String text;
+
+    @Label("Status")
+    public String status;
+}
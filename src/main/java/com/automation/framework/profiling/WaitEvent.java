@@ -0,0 +1,39 @@
+package com.automation.framework.profiling;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.Timespan;
+
+/**
+ * JFR event spanning one adaptive wait. Keeps the stack trace so the calling
+ * page-object method is visible.
+ * 
+ * @author Baskar
+ * @version 1.0.0
+ */
+@Name("com.automation.framework.Wait")
+@Label("Wait")
+@Category({"Automation Framework"})
+@Description("BasePage/AdaptiveWait condition wait")
+public class WaitEvent extends Event {
+    @Label("Key")
+    @Description("Screen and locator key used for latency learning")
+    public String key;
+
+    @Label("Condition")
+    public String condition;
+
+    @Label("Timeout")
+    @Timespan(Timespan.MILLISECONDS)
+    public long timeout;
+
+    @Label("Probes")
+    public int probes;
+
+    @Label("Outcome")
+    @Description("satisfied, timeout or error")
+    public String outcome;
+}
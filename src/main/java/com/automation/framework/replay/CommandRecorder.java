@@ -0,0 +1,90 @@
+package com.automation.framework.replay;
+
+import com.automation.framework.core.CommandObserver;
+import org.openqa.selenium.remote.Command;
+import org.openqa.selenium.remote.DriverCommand;
+import org.openqa.selenium.remote.Response;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.BufferedWriter;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Records every command and response of one driver session to a per-scenario file.
+ * Attached to a single driver by {@link com.automation.framework.core.DriverFactory}
+ * in {@code driver.mode=record}; the file is closed when the session quits.
+ * 
+ * @author Baskar
+ * @version 1.0.0
+ */
+public class CommandRecorder implements CommandObserver {
+    private static final Logger logger = LoggerFactory.getLogger(CommandRecorder.class);
+
+    private final File file;
+    private Writer writer;
+    private int commands;
+
+    /**
+     * @param scenarioName Scenario the session belongs to (names the file)
+     */
+    public CommandRecorder(String scenarioName) {
+        this.file = Recordings.fileFor(scenarioName);
+    }
+
+    @Override
+    public synchronized void afterCommand(Command command, Response response, long durationNanos) {
+        try {
+            if (writer == null) {
+                open();
+            }
+            writer.write(Recordings.encode(command, response, durationNanos));
+            writer.write('\n');
+            commands++;
+        } catch (IOException e) {
+            logger.warn("Could not record {}: {}", command.getName(), e.getMessage());
+        }
+        if (DriverCommand.QUIT.equals(command.getName())) {
+            close();
+        }
+    }
+
+    @Override
+    public void onCommandFailure(Command command, RuntimeException error, long durationNanos) {
+        if (DriverCommand.QUIT.equals(command.getName())) {
+            close();
+        }
+    }
+
+    /**
+     * Flush and close the recording file.
+     */
+    public synchronized void close() {
+        if (writer == null) {
+            return;
+        }
+        try {
+            writer.close();
+            logger.info("Recorded {} commands to {}", commands, file.getAbsolutePath());
+        } catch (IOException e) {
+            logger.warn("Could not close recording {}: {}", file, e.getMessage());
+        } finally {
+            writer = null;
+        }
+    }
+
+    private void open() throws IOException {
+        File parent = file.getParentFile();
+        if (parent != null) {
+            parent.mkdirs();
+        }
+        writer = new BufferedWriter(new OutputStreamWriter(
+                new GZIPOutputStream(new FileOutputStream(file)), StandardCharsets.UTF_8));
+    }
+}
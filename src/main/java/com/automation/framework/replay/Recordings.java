@@ -0,0 +1,107 @@
+package com.automation.framework.replay;
+
+import com.automation.framework.core.ConfigManager;
+import org.openqa.selenium.json.Json;
+import org.openqa.selenium.remote.Command;
+import org.openqa.selenium.remote.ErrorCodec;
+import org.openqa.selenium.remote.Response;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+import static com.automation.framework.core.FrameworkConstants.*;
+
+/**
+ * File layout and line format of driver traffic recordings.
+ * One gzip-compressed JSON-lines file per scenario; each line holds one command
+ * (name, parameters) and its response (session id, state, value). Error responses
+ * are stored in W3C error form and rebuilt into the same exception on replay.
+ * 
+ * @author Baskar
+ * @version 1.0.0
+ */
+final class Recordings {
+    static final String EXTENSION = ".jsonl.gz";
+
+    private static final Json json = new Json();
+    private static final ErrorCodec errorCodec = ErrorCodec.createDefault();
+
+    private Recordings() {
+        // Utility class
+    }
+
+    /**
+     * Recording file for a scenario name.
+     */
+    static File fileFor(String scenarioName) {
+        String dir = ConfigManager.get(CONFIG_KEY_RECORDINGS_DIR, DEFAULT_RECORDINGS_DIR);
+        String base = scenarioName == null || scenarioName.isBlank() ? "session" : scenarioName;
+        return new File(dir, base.replaceAll("[^A-Za-z0-9._-]+", "_") + EXTENSION);
+    }
+
+    /**
+     * Replay lookup key: command name plus its parameters in compact JSON, with map keys
+     * sorted at every level. Selenium builds parameters with {@code Map.of}, whose order
+     * changes from one JVM to the next, so the recorded order cannot be relied on.
+     */
+    static String keyOf(String name, Object parameters) {
+        return name + " " + toJson(canonical(json.toType(toJson(parameters), Object.class)));
+    }
+
+    private static Object canonical(Object value) {
+        if (value instanceof Map<?, ?> map) {
+            Map<String, Object> sorted = new TreeMap<>();
+            map.forEach((key, entry) -> sorted.put(String.valueOf(key), canonical(entry)));
+            return sorted;
+        }
+        if (value instanceof Collection<?> collection) {
+            List<Object> items = new ArrayList<>(collection.size());
+            collection.forEach(item -> items.add(canonical(item)));
+            return items;
+        }
+        return value;
+    }
+
+    static String encode(Command command, Response response, long durationNanos) {
+        Map<String, Object> line = new LinkedHashMap<>();
+        line.put("command", command.getName());
+        line.put("params", command.getParameters());
+        line.put("sessionId", response.getSessionId());
+        line.put("state", response.getState());
+        Object value = response.getValue();
+        if (value instanceof Throwable error) {
+            line.put("error", errorCodec.encode(error));
+        } else {
+            line.put("value", value);
+        }
+        line.put("ms", durationNanos / 1_000_000);
+        return toJson(line);
+    }
+
+    static Map<String, Object> decodeLine(String line) {
+        return json.toType(line, Json.MAP_TYPE);
+    }
+
+    @SuppressWarnings("unchecked")
+    static Response toResponse(Map<String, Object> line) {
+        Response response = new Response();
+        response.setSessionId((String) line.get("sessionId"));
+        response.setState((String) line.get("state"));
+        Object error = line.get("error");
+        response.setValue(error instanceof Map
+                ? errorCodec.decode((Map<String, Object>) error)
+                : line.get("value"));
+        return response;
+    }
+
+    private static String toJson(Object value) {
+        StringBuilder out = new StringBuilder();
+        json.newOutput(out).setPrettyPrint(false).write(value);
+        return out.toString();
+    }
+}
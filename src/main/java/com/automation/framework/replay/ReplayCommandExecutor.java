@@ -0,0 +1,101 @@
+package com.automation.framework.replay;
+
+import com.automation.framework.core.CommandObserver;
+import com.automation.framework.core.ObservedCommandExecutor;
+import org.openqa.selenium.WebDriverException;
+import org.openqa.selenium.remote.Command;
+import org.openqa.selenium.remote.Response;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.net.MalformedURLException;
+import java.net.URI;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.GZIPInputStream;
+
+/**
+ * Serves a recorded session back to the driver without any network.
+ * Responses are matched per command + parameters in recorded order, so waits that
+ * polled a different number of times than during recording still see the same
+ * sequence of states; once a key's responses are used up its last response repeats.
+ * A command that never occurred in the recording fails with a WebDriverException
+ * naming it, which points at the step or page-object change that diverged.
+ * 
+ * @author Baskar
+ * @version 1.0.0
+ */
+public class ReplayCommandExecutor extends ObservedCommandExecutor {
+    private static final Logger logger = LoggerFactory.getLogger(ReplayCommandExecutor.class);
+    private static final String REPLAY_URL = "http://replay.invalid/wd/hub";
+
+    private final File file;
+    private final Map<String, Deque<Map<String, Object>>> responses = new HashMap<>();
+    private final Map<String, Map<String, Object>> lastResponses = new HashMap<>();
+
+    /**
+     * @param scenarioName Scenario whose recording to serve
+     * @param observers    Per-driver observers
+     */
+    public ReplayCommandExecutor(String scenarioName, List<CommandObserver> observers) {
+        super(replayUrl(), observers);
+        this.file = Recordings.fileFor(scenarioName);
+        load();
+    }
+
+    @Override
+    protected synchronized Response dispatch(Command command) {
+        String key = Recordings.keyOf(command.getName(), command.getParameters());
+        Deque<Map<String, Object>> queue = responses.get(key);
+        Map<String, Object> line = queue != null && !queue.isEmpty() ? queue.poll() : lastResponses.get(key);
+        if (line == null) {
+            throw new WebDriverException("Replay diverged from recording " + file.getName()
+                    + ": no recorded response for " + key);
+        }
+        lastResponses.put(key, line);
+        return Recordings.toResponse(line);
+    }
+
+    private void load() {
+        if (!file.isFile()) {
+            throw new WebDriverException("No recording to replay at " + file.getAbsolutePath()
+                    + " (run once with driver.mode=record)");
+        }
+        int count = 0;
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(
+                new GZIPInputStream(new FileInputStream(file)), StandardCharsets.UTF_8))) {
+            String text;
+            while ((text = reader.readLine()) != null) {
+                if (text.isBlank()) {
+                    continue;
+                }
+                Map<String, Object> line = Recordings.decodeLine(text);
+                String key = Recordings.keyOf((String) line.get("command"), line.get("params"));
+                responses.computeIfAbsent(key, k -> new ArrayDeque<>()).add(line);
+                count++;
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not read recording " + file, e);
+        }
+        logger.info("Replaying {} recorded commands from {}", count, file.getAbsolutePath());
+    }
+
+    private static URL replayUrl() {
+        try {
+            return URI.create(REPLAY_URL).toURL();
+        } catch (MalformedURLException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
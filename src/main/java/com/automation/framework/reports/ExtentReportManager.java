@@ -4,9 +4,12 @@ import com.aventstack.extentreports.ExtentReports;
 import com.aventstack.extentreports.ExtentTest;
 import com.aventstack.extentreports.MediaEntityBuilder;
 import com.aventstack.extentreports.Status;
+import com.aventstack.extentreports.markuputils.MarkupHelper;
 import com.aventstack.extentreports.reporter.ExtentSparkReporter;
 import com.aventstack.extentreports.reporter.configuration.Theme;
+import com.automation.framework.core.AsyncTeardown;
 import com.automation.framework.core.ConfigManager;
+import com.automation.framework.profiling.ReportWriteEvent;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -20,7 +23,7 @@ import java.util.Date;
  * Thread-safe implementation for parallel execution.
  * 
  * @author Baskar
- * @version 1.0.0
+ * @version 1.2.0
  */
 public class ExtentReportManager {
     private static final Logger logger = LoggerFactory.getLogger(ExtentReportManager.class);
@@ -95,9 +98,15 @@ public class ExtentReportManager {
     public static void logStep(Status status, String message) {
         ExtentTest test = getTest();
         if (test != null) {
-            test.log(status, message);
+            log(test, status, message);
         }
     }
+
+    private static void log(ExtentTest test, Status status, String message) {
+        ReportWriteEvent event = beginWrite();
+        test.log(status, message);
+        commitWrite(event, "log", message != null ? message.length() : 0);
+    }
     
     /**
      * Log a passing step.
@@ -134,6 +143,21 @@ public class ExtentReportManager {
         logStep(Status.SKIP, "⏭️ " + message);
     }
     
+    /**
+     * Log a table (first row is the header).
+     * @param title Caption logged above the table
+     * @param rows  Table cells
+     */
+    public static void logTable(String title, String[][] rows) {
+        ExtentTest test = getTest();
+        if (test != null && rows != null && rows.length > 0) {
+            ReportWriteEvent event = beginWrite();
+            test.info(title);
+            test.info(MarkupHelper.createTable(rows, "table-sm"));
+            commitWrite(event, "table", rows.length);
+        }
+    }
+    
     /**
      * Attach screenshot to the report.
      * @param screenshotBytes Screenshot as byte array
@@ -142,9 +166,11 @@ public class ExtentReportManager {
     public static void attachScreenshot(byte[] screenshotBytes, String title) {
         ExtentTest test = getTest();
         if (test != null && screenshotBytes != null) {
+            ReportWriteEvent event = beginWrite();
             try {
                 String base64Screenshot = Base64.getEncoder().encodeToString(screenshotBytes);
                 test.info(title, MediaEntityBuilder.createScreenCaptureFromBase64String(base64Screenshot).build());
+                commitWrite(event, "screenshot", screenshotBytes.length);
                 logger.info("📸 Screenshot attached to Extent Report: {}", title);
             } catch (Exception e) {
                 logger.warn("Failed to attach screenshot: {}", e.getMessage());
@@ -157,19 +183,36 @@ public class ExtentReportManager {
     }
     
     /**
-     * Attach screenshot on failure.
+     * Attach screenshot on failure, followed by the failure line.
+     * Encoding, attaching and the failure line run in the background, in that order;
+     * {@link #flushReports()} waits for them.
+     * @param failureMessage Logged as a failing step right after the screenshot
      */
-    public static void attachScreenshotOnFailure(byte[] screenshotBytes, String scenarioName) {
+    public static void attachScreenshotOnFailure(byte[] screenshotBytes, String scenarioName, String failureMessage) {
         ExtentTest test = getTest();
-        if (test != null && screenshotBytes != null) {
-            try {
-                String base64Screenshot = Base64.getEncoder().encodeToString(screenshotBytes);
-                test.fail("Screenshot on Failure", 
-                    MediaEntityBuilder.createScreenCaptureFromBase64String(base64Screenshot).build());
-                logger.debug("Failure screenshot attached for: {}", scenarioName);
-            } catch (Exception e) {
-                logger.warn("Failed to attach failure screenshot: {}", e.getMessage());
-            }
+        if (test == null) {
+            return;
+        }
+        if (screenshotBytes == null) {
+            log(test, Status.FAIL, "❌ " + failureMessage);
+            return;
+        }
+        AsyncTeardown.submit("attach failure screenshot", () -> {
+            attachFailure(test, screenshotBytes, scenarioName);
+            log(test, Status.FAIL, "❌ " + failureMessage);
+        });
+    }
+
+    private static void attachFailure(ExtentTest test, byte[] screenshotBytes, String scenarioName) {
+        ReportWriteEvent event = beginWrite();
+        try {
+            String base64Screenshot = Base64.getEncoder().encodeToString(screenshotBytes);
+            test.fail("Screenshot on Failure", 
+                MediaEntityBuilder.createScreenCaptureFromBase64String(base64Screenshot).build());
+            commitWrite(event, "screenshot", screenshotBytes.length);
+            logger.debug("Failure screenshot attached for: {}", scenarioName);
+        } catch (Exception e) {
+            logger.warn("Failed to attach failure screenshot: {}", e.getMessage());
         }
     }
     
@@ -178,13 +221,32 @@ public class ExtentReportManager {
      * Should be called after all tests complete.
      */
     public static synchronized void flushReports() {
+        // Attachments may still be in flight
+        AsyncTeardown.drain();
         if (extentReports != null) {
+            ReportWriteEvent event = beginWrite();
             extentReports.flush();
+            commitWrite(event, "flush", 0);
             logger.info("Extent Reports saved to: {}", reportPath);
         }
         extentTest.remove();
     }
     
+    private static ReportWriteEvent beginWrite() {
+        ReportWriteEvent event = new ReportWriteEvent();
+        event.begin();
+        return event;
+    }
+
+    private static void commitWrite(ReportWriteEvent event, String operation, long bytes) {
+        event.end();
+        if (event.shouldCommit()) {
+            event.operation = operation;
+            event.bytes = bytes;
+            event.commit();
+        }
+    }
+    
     /**
      * Get the report file path.
      */
@@ -0,0 +1,135 @@
+package com.automation.framework.selection;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Files changed since a base revision, with the changed lines where known.
+ * Read from a unified diff ({@code git diff -U0 origin/main}), which gives line-level
+ * changes, or from a plain list of paths ({@code git diff --name-only origin/main}),
+ * where every listed file counts as changed throughout. Paths are relative to the
+ * repository root, with forward slashes.
+ *
+ * @author Baskar
+ * @version 1.0.0
+ */
+public final class ChangeSet {
+    private static final Pattern HUNK = Pattern.compile("^@@ -\\d+(?:,\\d+)? \\+(\\d+)(?:,(\\d+))? @@");
+
+    // Path -> changed line numbers of the new file; null means the whole file
+    private final Map<String, Set<Integer>> files = new LinkedHashMap<>();
+
+    private ChangeSet() {
+    }
+
+    /**
+     * Read a diff or a path list, whichever the file holds.
+     */
+    public static ChangeSet read(Path file) throws IOException {
+        List<String> lines = Files.readAllLines(file);
+        boolean diff = lines.stream().anyMatch(line -> line.startsWith("+++ ") || line.startsWith("diff --git "));
+        return diff ? fromDiff(lines) : fromPaths(lines);
+    }
+
+    /**
+     * Whole files, one path per entry; blank entries are ignored.
+     */
+    public static ChangeSet fromPaths(List<String> paths) {
+        ChangeSet changes = new ChangeSet();
+        for (String path : paths) {
+            if (!path.isBlank()) {
+                changes.files.put(normalize(path.strip()), null);
+            }
+        }
+        return changes;
+    }
+
+    /**
+     * Changed lines from a unified diff. A pure deletion marks the lines on either
+     * side of it; a deleted file counts as changed throughout.
+     */
+    public static ChangeSet fromDiff(List<String> diff) {
+        ChangeSet changes = new ChangeSet();
+        String oldPath = null;
+        Set<Integer> current = null;
+        for (String line : diff) {
+            if (line.startsWith("--- ")) {
+                oldPath = path(line.substring(4));
+            } else if (line.startsWith("+++ ")) {
+                String newPath = path(line.substring(4));
+                if (newPath == null) {
+                    // Deleted file: whatever used it must run
+                    if (oldPath != null) {
+                        changes.files.put(oldPath, null);
+                    }
+                    current = null;
+                } else {
+                    current = new TreeSet<>();
+                    changes.files.put(newPath, current);
+                }
+            } else if (current != null) {
+                Matcher hunk = HUNK.matcher(line);
+                if (hunk.find()) {
+                    int start = Integer.parseInt(hunk.group(1));
+                    int count = hunk.group(2) == null ? 1 : Integer.parseInt(hunk.group(2));
+                    if (count == 0) {
+                        current.add(Math.max(1, start));
+                        current.add(start + 1);
+                    }
+                    for (int i = start; i < start + count; i++) {
+                        current.add(i);
+                    }
+                }
+            }
+        }
+        return changes;
+    }
+
+    /**
+     * Changed paths, in the order they were read.
+     */
+    public Set<String> paths() {
+        return Collections.unmodifiableSet(files.keySet());
+    }
+
+    /**
+     * Changed line numbers of a path, or null if the whole file counts as changed.
+     */
+    public Set<Integer> lines(String path) {
+        return files.get(path);
+    }
+
+    public boolean isEmpty() {
+        return files.isEmpty();
+    }
+
+    private static String path(String header) {
+        String path = header.split("\t")[0].strip();
+        if (path.equals("/dev/null")) {
+            return null;
+        }
+        if (path.startsWith("a/") || path.startsWith("b/")) {
+            path = path.substring(2);
+        }
+        return normalize(path);
+    }
+
+    private static String normalize(String path) {
+        String normalized = path.replace('\\', '/');
+        return normalized.startsWith("./") ? normalized.substring(2) : normalized;
+    }
+
+    @Override
+    public String toString() {
+        return files.size() + " changed file(s) " + files.keySet();
+    }
+}
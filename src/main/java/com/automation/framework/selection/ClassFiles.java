@@ -0,0 +1,122 @@
+package com.automation.framework.selection;
+
+import java.io.ByteArrayInputStream;
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayDeque;
+import java.util.Collection;
+import java.util.Deque;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Reads compiled classes from the classpath and the classes they refer to.
+ * References come from the constant pool: class entries plus the types named in
+ * field, method and generic signatures.
+ *
+ * @author Baskar
+ * @version 1.0.0
+ */
+final class ClassFiles {
+    private static final Pattern DESCRIPTOR_TYPE = Pattern.compile("L([\\w/$]+)[;<]");
+
+    private ClassFiles() {
+        // Utility class
+    }
+
+    /**
+     * Bytecode of a class, or null if it is not on the classpath.
+     *
+     * @param className Binary name, e.g. {@code stepdefinitions.WdioLoginSteps}
+     */
+    static byte[] read(String className) {
+        String resource = className.replace('.', '/') + ".class";
+        ClassLoader loader = Thread.currentThread().getContextClassLoader();
+        try (InputStream in = (loader != null ? loader : ClassFiles.class.getClassLoader()).getResourceAsStream(resource)) {
+            return in == null ? null : in.readAllBytes();
+        } catch (IOException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Classes reachable from the roots through constant-pool references, restricted
+     * to the given package prefixes (roots are always included).
+     *
+     * @return Binary class names, sorted
+     */
+    static Set<String> closure(Collection<String> roots, Collection<String> packages) {
+        Set<String> seen = new TreeSet<>(roots);
+        Deque<String> pending = new ArrayDeque<>(roots);
+        while (!pending.isEmpty()) {
+            byte[] bytes = read(pending.pop());
+            if (bytes == null) {
+                continue;
+            }
+            for (String reference : references(bytes)) {
+                if (inPackages(reference, packages) && seen.add(reference)) {
+                    pending.push(reference);
+                }
+            }
+        }
+        return seen;
+    }
+
+    /**
+     * Binary names of the classes a class file refers to.
+     */
+    static Set<String> references(byte[] classFile) {
+        Set<String> names = new TreeSet<>();
+        try (DataInputStream in = new DataInputStream(new ByteArrayInputStream(classFile))) {
+            in.skipBytes(8); // magic, minor, major
+            int count = in.readUnsignedShort();
+            String[] utf8 = new String[count];
+            int[] classEntries = new int[count];
+            int classes = 0;
+            for (int i = 1; i < count; i++) {
+                int tag = in.readUnsignedByte();
+                switch (tag) {
+                    case 1 -> utf8[i] = in.readUTF();
+                    case 7 -> classEntries[classes++] = in.readUnsignedShort();
+                    case 8, 16, 19, 20 -> in.skipBytes(2);
+                    case 15 -> in.skipBytes(3);
+                    case 3, 4, 9, 10, 11, 12, 17, 18 -> in.skipBytes(4);
+                    case 5, 6 -> {
+                        in.skipBytes(8);
+                        i++; // takes two slots
+                    }
+                    default -> throw new IOException("unknown constant pool tag " + tag);
+                }
+            }
+            for (int c = 0; c < classes; c++) {
+                String name = utf8[classEntries[c]];
+                if (name != null && !name.startsWith("[")) {
+                    names.add(name.replace('/', '.'));
+                }
+            }
+            for (String value : utf8) {
+                if (value != null && value.indexOf(';') > 0) {
+                    Matcher matcher = DESCRIPTOR_TYPE.matcher(value);
+                    while (matcher.find()) {
+                        names.add(matcher.group(1).replace('/', '.'));
+                    }
+                }
+            }
+        } catch (IOException e) {
+            // Truncated or unknown format: what was read so far is still useful
+        }
+        return names;
+    }
+
+    private static boolean inPackages(String className, Collection<String> packages) {
+        for (String prefix : packages) {
+            if (className.startsWith(prefix + ".")) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,305 @@
+package com.automation.framework.selection;
+
+import java.io.ByteArrayInputStream;
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Members of one compiled class as the impact graph needs them: each method's
+ * source line range and the members its bytecode refers to (calls, field accesses,
+ * lambda bodies), and the compile-time constants it declares. Overloads share one
+ * member, named {@code Class#method}.
+ *
+ * @author Baskar
+ * @version 1.0.0
+ */
+final class ClassModel {
+    private static final int ACC_STATIC = 0x0008;
+    private static final int ACC_FINAL = 0x0010;
+
+    final String name;
+    final String superName;
+    final List<String> interfaces = new ArrayList<>();
+    final String sourceFile;
+    final Map<String, Method> methods = new HashMap<>();
+    final Set<String> constants = new LinkedHashSet<>();
+
+    /**
+     * A method (all overloads of one name).
+     */
+    static final class Method {
+        boolean hasCode;
+        int firstLine = Integer.MAX_VALUE;
+        int lastLine = -1;
+        final Set<Integer> lines = new HashSet<>();
+        final Set<String> references = new LinkedHashSet<>();
+        // Bootstrap method indexes of invokedynamic sites, resolved once the class is read
+        final List<Integer> bootstraps = new ArrayList<>();
+
+        boolean containsLine(int line) {
+            return line >= firstLine && line <= lastLine;
+        }
+    }
+
+    private ClassModel(String name, String superName, String sourceFile) {
+        this.name = name;
+        this.superName = superName;
+        this.sourceFile = sourceFile;
+    }
+
+    /**
+     * Read a class file.
+     *
+     * @throws IOException if the bytes are not a class file this reader understands
+     */
+    static ClassModel parse(byte[] classFile) throws IOException {
+        DataInputStream in = new DataInputStream(new ByteArrayInputStream(classFile));
+        in.skipBytes(8); // magic, minor, major
+        ConstantPool pool = new ConstantPool(in);
+        in.skipBytes(2); // access flags
+        String name = pool.className(in.readUnsignedShort());
+        int superIndex = in.readUnsignedShort();
+        List<String> interfaces = new ArrayList<>();
+        int interfaceCount = in.readUnsignedShort();
+        for (int i = 0; i < interfaceCount; i++) {
+            interfaces.add(pool.className(in.readUnsignedShort()));
+        }
+        List<String> constants = new ArrayList<>();
+        int fieldCount = in.readUnsignedShort();
+        for (int i = 0; i < fieldCount; i++) {
+            int access = in.readUnsignedShort();
+            String fieldName = pool.utf8(in.readUnsignedShort());
+            in.skipBytes(2); // descriptor
+            int attributes = in.readUnsignedShort();
+            for (int a = 0; a < attributes; a++) {
+                String attribute = pool.utf8(in.readUnsignedShort());
+                in.skipBytes(in.readInt());
+                if ("ConstantValue".equals(attribute) && (access & (ACC_STATIC | ACC_FINAL)) == (ACC_STATIC | ACC_FINAL)) {
+                    constants.add(fieldName);
+                }
+            }
+        }
+        Map<String, Method> methods = new HashMap<>();
+        int methodCount = in.readUnsignedShort();
+        for (int i = 0; i < methodCount; i++) {
+            in.skipBytes(2); // access flags
+            Method method = methods.computeIfAbsent(pool.utf8(in.readUnsignedShort()), k -> new Method());
+            in.skipBytes(2); // descriptor
+            int attributes = in.readUnsignedShort();
+            for (int a = 0; a < attributes; a++) {
+                String attribute = pool.utf8(in.readUnsignedShort());
+                int length = in.readInt();
+                if ("Code".equals(attribute)) {
+                    readCode(in, pool, method);
+                } else {
+                    in.skipBytes(length);
+                }
+            }
+        }
+        String sourceFile = null;
+        List<int[]> bootstrapArguments = new ArrayList<>();
+        int attributes = in.readUnsignedShort();
+        for (int a = 0; a < attributes; a++) {
+            String attribute = pool.utf8(in.readUnsignedShort());
+            int length = in.readInt();
+            if ("SourceFile".equals(attribute)) {
+                sourceFile = pool.utf8(in.readUnsignedShort());
+            } else if ("BootstrapMethods".equals(attribute)) {
+                int count = in.readUnsignedShort();
+                for (int b = 0; b < count; b++) {
+                    in.skipBytes(2); // bootstrap method handle
+                    int[] arguments = new int[in.readUnsignedShort()];
+                    for (int arg = 0; arg < arguments.length; arg++) {
+                        arguments[arg] = in.readUnsignedShort();
+                    }
+                    bootstrapArguments.add(arguments);
+                }
+            } else {
+                in.skipBytes(length);
+            }
+        }
+
+        ClassModel model = new ClassModel(name, superIndex == 0 ? null : pool.className(superIndex), sourceFile);
+        model.interfaces.addAll(interfaces);
+        model.constants.addAll(constants);
+        methods.forEach((methodName, method) -> {
+            // Lambda and method-reference targets are handles among the bootstrap arguments
+            for (int bootstrap : method.bootstraps) {
+                if (bootstrap < bootstrapArguments.size()) {
+                    for (int argument : bootstrapArguments.get(bootstrap)) {
+                        String target = pool.handleTarget(argument);
+                        if (target != null) {
+                            method.references.add(target);
+                        }
+                    }
+                }
+            }
+            method.bootstraps.clear();
+            model.methods.put(methodName, method);
+        });
+        return model;
+    }
+
+    private static void readCode(DataInputStream in, ConstantPool pool, Method method) throws IOException {
+        in.skipBytes(4); // max stack, max locals
+        byte[] code = new byte[in.readInt()];
+        in.readFully(code);
+        method.hasCode = true;
+        scan(code, pool, method);
+        in.skipBytes(in.readUnsignedShort() * 8); // exception table
+        int attributes = in.readUnsignedShort();
+        for (int a = 0; a < attributes; a++) {
+            String attribute = pool.utf8(in.readUnsignedShort());
+            int length = in.readInt();
+            if ("LineNumberTable".equals(attribute)) {
+                int entries = in.readUnsignedShort();
+                for (int e = 0; e < entries; e++) {
+                    in.skipBytes(2); // start pc
+                    int line = in.readUnsignedShort();
+                    method.firstLine = Math.min(method.firstLine, line);
+                    method.lastLine = Math.max(method.lastLine, line);
+                    method.lines.add(line);
+                }
+            } else {
+                in.skipBytes(length);
+            }
+        }
+    }
+
+    /**
+     * Walk the instructions, collecting member references.
+     */
+    private static void scan(byte[] code, ConstantPool pool, Method method) {
+        int pc = 0;
+        while (pc < code.length) {
+            int opcode = code[pc] & 0xff;
+            switch (opcode) {
+                case 0xb2, 0xb3, 0xb4, 0xb5, 0xb6, 0xb7, 0xb8, 0xb9 -> {
+                    // get/put static/field, invokevirtual/special/static/interface
+                    String member = pool.memberRef(u2(code, pc + 1));
+                    if (member != null) {
+                        method.references.add(member);
+                    }
+                }
+                case 0xba -> method.bootstraps.add(pool.bootstrapIndex(u2(code, pc + 1)));
+                default -> {
+                    // No member reference
+                }
+            }
+            pc += length(code, pc, opcode);
+        }
+    }
+
+    private static int length(byte[] code, int pc, int opcode) {
+        switch (opcode) {
+            case 0x10, 0x12, 0x15, 0x16, 0x17, 0x18, 0x19, 0x36, 0x37, 0x38, 0x39, 0x3a, 0xa9, 0xbc:
+                return 2;
+            case 0x11, 0x13, 0x14, 0x84, 0xb2, 0xb3, 0xb4, 0xb5, 0xb6, 0xb7, 0xb8, 0xbb, 0xbd, 0xc0, 0xc1, 0xc6, 0xc7:
+                return 3;
+            case 0xc5:
+                return 4;
+            case 0xb9, 0xba, 0xc8, 0xc9:
+                return 5;
+            case 0xc4:
+                return (code[pc + 1] & 0xff) == 0x84 ? 6 : 4; // wide iinc, wide load/store
+            case 0xaa: {
+                int base = pc + 1 + ((4 - (pc + 1) % 4) % 4);
+                int low = s4(code, base + 4);
+                int high = s4(code, base + 8);
+                return base - pc + 12 + (high - low + 1) * 4;
+            }
+            case 0xab: {
+                int base = pc + 1 + ((4 - (pc + 1) % 4) % 4);
+                return base - pc + 8 + s4(code, base + 4) * 8;
+            }
+            default:
+                // Conditional branches and goto/jsr take a 2-byte offset
+                return opcode >= 0x99 && opcode <= 0xa8 ? 3 : 1;
+        }
+    }
+
+    private static int u2(byte[] code, int at) {
+        return ((code[at] & 0xff) << 8) | (code[at + 1] & 0xff);
+    }
+
+    private static int s4(byte[] code, int at) {
+        return (code[at] << 24) | ((code[at + 1] & 0xff) << 16) | ((code[at + 2] & 0xff) << 8) | (code[at + 3] & 0xff);
+    }
+
+    /**
+     * The entries of a constant pool the model needs.
+     */
+    private static final class ConstantPool {
+        private final int[] tags;
+        private final String[] utf8;
+        private final int[] first;
+        private final int[] second;
+
+        ConstantPool(DataInputStream in) throws IOException {
+            int count = in.readUnsignedShort();
+            tags = new int[count];
+            utf8 = new String[count];
+            first = new int[count];
+            second = new int[count];
+            for (int i = 1; i < count; i++) {
+                int tag = in.readUnsignedByte();
+                tags[i] = tag;
+                switch (tag) {
+                    case 1 -> utf8[i] = in.readUTF();
+                    case 7, 8, 16, 19, 20 -> first[i] = in.readUnsignedShort();
+                    case 15 -> {
+                        first[i] = in.readUnsignedByte();
+                        second[i] = in.readUnsignedShort();
+                    }
+                    case 9, 10, 11, 12, 17, 18 -> {
+                        first[i] = in.readUnsignedShort();
+                        second[i] = in.readUnsignedShort();
+                    }
+                    case 3, 4 -> in.skipBytes(4);
+                    case 5, 6 -> {
+                        in.skipBytes(8);
+                        i++; // takes two slots
+                    }
+                    default -> throw new IOException("unknown constant pool tag " + tag);
+                }
+            }
+        }
+
+        String utf8(int index) {
+            return utf8[index];
+        }
+
+        String className(int index) {
+            return utf8[first[index]].replace('/', '.');
+        }
+
+        /**
+         * {@code Owner#name} of a field or method reference, or null for array receivers.
+         */
+        String memberRef(int index) {
+            String owner = utf8[first[first[index]]];
+            if (owner.startsWith("[")) {
+                return null;
+            }
+            return owner.replace('/', '.') + "#" + utf8[first[second[index]]];
+        }
+
+        int bootstrapIndex(int invokeDynamic) {
+            return first[invokeDynamic];
+        }
+
+        /**
+         * Member a method handle points to, or null if the entry is not a method handle.
+         */
+        String handleTarget(int index) {
+            return tags[index] == 15 ? memberRef(second[index]) : null;
+        }
+    }
+}
@@ -0,0 +1,263 @@
+package com.automation.framework.selection;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Reads the Gherkin source a pickle is compiled from: the feature header, every
+ * Background before the scenario, and the scenario itself. For an outline row only
+ * the header row and that row of its Examples table are kept, so editing one row
+ * does not touch the others. Blank lines, comments and indentation are ignored.
+ * Also lists a pickle's steps and the lines it comes from, for change-impact selection.
+ * Keywords are matched in English.
+ *
+ * @author Baskar
+ * @version 1.1.0
+ */
+public final class FeatureSource {
+    private static final Logger logger = LoggerFactory.getLogger(FeatureSource.class);
+    private static final String[] SCENARIO_KEYWORDS = {"Scenario:", "Scenario Outline:", "Scenario Template:", "Example:"};
+    private static final String[] BLOCK_KEYWORDS = {"Scenario:", "Scenario Outline:", "Scenario Template:", "Example:",
+            "Background:", "Rule:"};
+    private static final String[] STEP_KEYWORDS = {"Given ", "When ", "Then ", "And ", "But ", "* "};
+    private static final Map<URI, List<String>> files = new ConcurrentHashMap<>();
+
+    private FeatureSource() {
+        // Utility class
+    }
+
+    /**
+     * Stable id of a feature file: its path relative to the working directory.
+     */
+    public static String id(URI uri) {
+        if (!"file".equals(uri.getScheme())) {
+            return uri.toString();
+        }
+        Path path = Path.of(uri);
+        Path base = Path.of("").toAbsolutePath();
+        return (path.startsWith(base) ? base.relativize(path) : path).toString().replace('\\', '/');
+    }
+
+    /**
+     * Source text of the pickle at a line (its scenario line, or its Examples row).
+     *
+     * @return Normalised text, or null if the file cannot be read
+     */
+    public static String pickleText(URI uri, int line) {
+        List<String> lines = lines(uri);
+        List<Integer> included = included(lines, line);
+        if (included == null) {
+            return null;
+        }
+        StringBuilder text = new StringBuilder();
+        for (int i : included) {
+            text.append(lines.get(i)).append('\n');
+        }
+        return text.toString();
+    }
+
+    /**
+     * 1-based numbers of the lines the pickle is compiled from.
+     *
+     * @return Line numbers, empty if the file cannot be read
+     */
+    public static Set<Integer> sourceLines(URI uri, int line) {
+        List<Integer> included = included(lines(uri), line);
+        Set<Integer> numbers = new TreeSet<>();
+        if (included != null) {
+            included.forEach(i -> numbers.add(i + 1));
+        }
+        return numbers;
+    }
+
+    /**
+     * Step texts of the pickle (Background steps first), without keywords; outline
+     * {@code <placeholders>} are replaced with the values of its Examples row.
+     *
+     * @return Step texts, empty if the file cannot be read
+     */
+    public static List<String> steps(URI uri, int line) {
+        List<String> lines = lines(uri);
+        List<Integer> included = included(lines, line);
+        List<String> steps = new ArrayList<>();
+        if (included == null) {
+            return steps;
+        }
+        List<String> header = null;
+        List<String> values = null;
+        boolean inExamples = false;
+        boolean inDocString = false;
+        for (int i : included) {
+            String text = lines.get(i);
+            if (text.startsWith("\"\"\"") || text.startsWith("```")) {
+                inDocString = !inDocString;
+            } else if (inDocString) {
+                continue;
+            } else if (text.startsWith("Examples:") || text.startsWith("Scenarios:")) {
+                inExamples = true;
+                header = null;
+            } else if (inExamples && text.startsWith("|")) {
+                if (header == null) {
+                    header = cells(text);
+                } else if (i == line - 1) {
+                    values = cells(text);
+                    break;
+                }
+            } else {
+                for (String keyword : STEP_KEYWORDS) {
+                    if (text.startsWith(keyword)) {
+                        steps.add(text.substring(keyword.length()).strip());
+                        break;
+                    }
+                }
+            }
+        }
+        if (header != null && values != null) {
+            for (int s = 0; s < steps.size(); s++) {
+                String step = steps.get(s);
+                for (int c = 0; c < Math.min(header.size(), values.size()); c++) {
+                    step = step.replace("<" + header.get(c) + ">", values.get(c));
+                }
+                steps.set(s, step);
+            }
+        }
+        return steps;
+    }
+
+    private static List<String> cells(String row) {
+        List<String> cells = new ArrayList<>();
+        String[] parts = row.split("(?<!\\\\)\\|", -1);
+        for (int i = 1; i < parts.length - 1; i++) {
+            cells.add(parts[i].strip().replace("\\|", "|"));
+        }
+        return cells;
+    }
+
+    /**
+     * Indexes of the lines the pickle is compiled from: the feature header, every
+     * Background before the scenario, and the scenario with its Examples tables
+     * reduced to the header and the selected row; blank and comment lines are left out.
+     */
+    private static List<Integer> included(List<String> lines, int line) {
+        if (lines == null || line < 1 || line > lines.size()) {
+            return null;
+        }
+        int start = line - 1;
+        while (start > 0 && !startsWithAny(lines.get(start), SCENARIO_KEYWORDS)) {
+            start--;
+        }
+        List<Integer> included = new ArrayList<>();
+        int firstKeyword = nextKeyword(lines, 0);
+        include(included, lines, 0, backOverTags(lines, firstKeyword, 0), -1);
+        for (int i = firstKeyword; i < start; i = nextKeyword(lines, i + 1)) {
+            if (lines.get(i).startsWith("Background:")) {
+                include(included, lines, i, end(lines, i), -1);
+            }
+        }
+        include(included, lines, start, end(lines, start), line - 1);
+        return included;
+    }
+
+    /**
+     * Include lines [from, to), keeping only the header and the selected row of Examples tables.
+     */
+    private static void include(List<Integer> included, List<String> lines, int from, int to, int selectedRow) {
+        boolean inExamples = false;
+        boolean headerSeen = false;
+        for (int i = from; i < to; i++) {
+            String line = lines.get(i);
+            if (line.isEmpty() || line.startsWith("#")) {
+                continue;
+            }
+            if (line.startsWith("Examples:") || line.startsWith("Scenarios:")) {
+                inExamples = true;
+                headerSeen = false;
+            } else if (inExamples && line.startsWith("|")) {
+                if (headerSeen && i != selectedRow) {
+                    continue;
+                }
+                headerSeen = true;
+            }
+            included.add(i);
+        }
+    }
+
+    /**
+     * Index of the first block keyword line at or after {@code from}, or the end of the file.
+     */
+    private static int nextKeyword(List<String> lines, int from) {
+        int i = from;
+        while (i < lines.size() && !startsWithAny(lines.get(i), BLOCK_KEYWORDS)) {
+            i++;
+        }
+        return i;
+    }
+
+    /**
+     * End (exclusive) of the block starting at a keyword line; the tag lines above
+     * the next block belong to that block.
+     */
+    private static int end(List<String> lines, int keywordLine) {
+        return backOverTags(lines, nextKeyword(lines, keywordLine + 1), keywordLine + 1);
+    }
+
+    private static int backOverTags(List<String> lines, int index, int floor) {
+        int i = index;
+        while (i > floor && (lines.get(i - 1).startsWith("@") || lines.get(i - 1).isEmpty()
+                || lines.get(i - 1).startsWith("#"))) {
+            i--;
+        }
+        return i;
+    }
+
+    private static boolean startsWithAny(String line, String[] keywords) {
+        for (String keyword : keywords) {
+            if (line.startsWith(keyword)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static List<String> lines(URI uri) {
+        return files.computeIfAbsent(uri, FeatureSource::read);
+    }
+
+    private static List<String> read(URI uri) {
+        try {
+            String content;
+            if ("classpath".equals(uri.getScheme())) {
+                String resource = uri.getSchemeSpecificPart().replaceFirst("^/", "");
+                try (InputStream in = Thread.currentThread().getContextClassLoader().getResourceAsStream(resource)) {
+                    if (in == null) {
+                        throw new IOException("not on the classpath");
+                    }
+                    content = new String(in.readAllBytes(), StandardCharsets.UTF_8);
+                }
+            } else {
+                content = Files.readString(Path.of(uri));
+            }
+            List<String> lines = new ArrayList<>();
+            for (String line : content.split("\\R", -1)) {
+                lines.add(line.strip());
+            }
+            return lines;
+        } catch (IOException | IllegalArgumentException e) {
+            logger.warn("Could not read feature {}: {}", uri, e.getMessage());
+            return null;
+        }
+    }
+}
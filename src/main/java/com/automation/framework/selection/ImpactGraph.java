@@ -0,0 +1,366 @@
+package com.automation.framework.selection;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Static dependency graph over the compiled step definitions and everything they
+ * reach in the given packages: step-definition methods to the screen methods they
+ * call, down to the locator constants those use. Members are named {@code Class#member}.
+ *
+ * <p>Calls and field accesses come from bytecode. Compile-time constants such as the
+ * {@code WdioLocators} ids are inlined by javac, so their users are found in the
+ * source instead: every line naming a changed constant marks the member around it
+ * as changed too (an {@code @Element} annotation marks the locator method below it).
+ * A changed source line belongs to the method whose lines contain it, to the constant
+ * declared on it, or else to the next member below it (annotations, signatures).
+ *
+ * @author Baskar
+ * @version 1.0.0
+ */
+public final class ImpactGraph {
+    private static final Logger logger = LoggerFactory.getLogger(ImpactGraph.class);
+    private static final Pattern CONSTANT_DECLARATION =
+            Pattern.compile("\\b(?:static\\s+final|final\\s+static)\\b[^=;(]*?\\b(\\w+)\\s*=");
+    private static final Pattern ABSTRACT_METHOD =
+            Pattern.compile("^\\s*(?:[\\w<>\\[\\],.?]+\\s+)*(\\w+)\\s*\\([^)]*\\)\\s*(?:throws\\s[^;{]*)?;\\s*$");
+    private static final Set<String> INITIALIZERS = Set.of("<init>", "<clinit>");
+
+    private final Map<String, ClassModel> classes = new HashMap<>();
+    private final Map<String, Set<String>> subtypes = new HashMap<>();
+    // Source path (relative, forward slashes) -> classes compiled from it
+    private final Map<String, List<String>> sources = new LinkedHashMap<>();
+    private final Map<String, List<String>> sourceCache = new ConcurrentHashMap<>();
+    private final Map<String, Set<String>> reachable = new ConcurrentHashMap<>();
+
+    /**
+     * Members changed by the Java files of a change set.
+     *
+     * @param members    Changed members, users of changed constants included
+     * @param unresolved Changed Java files no class in the graph was compiled from
+     */
+    public record JavaChanges(Set<String> members, List<String> unresolved) {
+    }
+
+    private ImpactGraph() {
+    }
+
+    /**
+     * Build the graph from the glue classes.
+     *
+     * @param rootClasses Step definition and hook classes
+     * @param packages    Package prefixes to follow (others, e.g. Selenium, are leaves)
+     * @param sourceRoots Source directories relative to the working directory
+     */
+    public static ImpactGraph build(Collection<String> rootClasses, Collection<String> packages,
+                                    Collection<String> sourceRoots) {
+        ImpactGraph graph = new ImpactGraph();
+        for (String className : ClassFiles.closure(rootClasses, packages)) {
+            byte[] bytes = ClassFiles.read(className);
+            if (bytes == null) {
+                continue;
+            }
+            try {
+                ClassModel model = ClassModel.parse(bytes);
+                graph.classes.put(model.name, model);
+            } catch (IOException | RuntimeException e) {
+                logger.warn("Could not read class {}: {}", className, e.getMessage());
+            }
+        }
+        for (ClassModel model : graph.classes.values()) {
+            if (model.superName != null) {
+                graph.subtypes.computeIfAbsent(model.superName, k -> new HashSet<>()).add(model.name);
+            }
+            model.interfaces.forEach(type -> graph.subtypes.computeIfAbsent(type, k -> new HashSet<>()).add(model.name));
+            String path = graph.sourcePath(model, sourceRoots);
+            if (path != null) {
+                graph.sources.computeIfAbsent(path, k -> new ArrayList<>()).add(model.name);
+            }
+        }
+        logger.info("Impact graph: {} classes from {} source files", graph.classes.size(), graph.sources.size());
+        return graph;
+    }
+
+    /**
+     * Members changed by the Java files of a change set; other files are ignored.
+     */
+    public JavaChanges changedMembers(ChangeSet changes) {
+        Set<String> members = new TreeSet<>();
+        List<String> unresolved = new ArrayList<>();
+        for (String path : changes.paths()) {
+            if (!path.endsWith(".java")) {
+                continue;
+            }
+            List<String> classNames = sources.get(path);
+            if (classNames == null) {
+                unresolved.add(path);
+                continue;
+            }
+            members.addAll(membersAt(classNames, read(path), changes.lines(path)));
+        }
+        addConstantUsers(members);
+        return new JavaChanges(members, unresolved);
+    }
+
+    /**
+     * Members a member can reach through calls and field accesses (itself included).
+     */
+    public Set<String> reachableFrom(String member) {
+        return reachable.computeIfAbsent(member, this::traverse);
+    }
+
+    private Set<String> traverse(String start) {
+        Set<String> seen = new HashSet<>();
+        Deque<String> pending = new ArrayDeque<>(resolve(start));
+        while (!pending.isEmpty()) {
+            String member = pending.pop();
+            if (!seen.add(member)) {
+                continue;
+            }
+            ClassModel.Method method = method(member);
+            if (method == null) {
+                continue;
+            }
+            for (String reference : method.references) {
+                pending.addAll(resolve(reference));
+                // Touching a class runs its static initializer
+                String initializer = owner(reference) + "#<clinit>";
+                if (method(initializer) != null) {
+                    pending.add(initializer);
+                }
+            }
+        }
+        seen.add(start);
+        return Collections.unmodifiableSet(seen);
+    }
+
+    /**
+     * Declarations a reference may run: the one it binds to (in the class or its
+     * nearest supertype) and every override in a subtype.
+     */
+    private Set<String> resolve(String reference) {
+        String owner = owner(reference);
+        String name = reference.substring(owner.length() + 1);
+        Set<String> targets = new HashSet<>();
+        Deque<String> supertypes = new ArrayDeque<>(List.of(owner));
+        Set<String> visited = new HashSet<>();
+        while (!supertypes.isEmpty()) {
+            ClassModel model = classes.get(supertypes.poll());
+            if (model == null || !visited.add(model.name)) {
+                continue;
+            }
+            if (model.methods.containsKey(name) || model.constants.contains(name)) {
+                targets.add(model.name + "#" + name);
+                break;
+            }
+            if (model.superName != null) {
+                supertypes.add(model.superName);
+            }
+            supertypes.addAll(model.interfaces);
+        }
+        if (!INITIALIZERS.contains(name)) {
+            Deque<String> pending = new ArrayDeque<>(subtypes.getOrDefault(owner, Set.of()));
+            while (!pending.isEmpty()) {
+                String subtype = pending.pop();
+                ClassModel model = classes.get(subtype);
+                if (model != null && visited.add(subtype)) {
+                    if (model.methods.containsKey(name)) {
+                        targets.add(subtype + "#" + name);
+                    }
+                    pending.addAll(subtypes.getOrDefault(subtype, Set.of()));
+                }
+            }
+        }
+        return targets;
+    }
+
+    /**
+     * Members declared at the given lines of a source file compiled into the classes.
+     *
+     * @param lines Line numbers, or null for the whole file
+     */
+    private Set<String> membersAt(List<String> classNames, List<String> source, Set<Integer> lines) {
+        Set<String> members = new TreeSet<>();
+        if (lines == null || source == null) {
+            classNames.forEach(name -> members.addAll(allMembers(name)));
+            return members;
+        }
+        for (int line : lines) {
+            Set<String> found = null;
+            for (int at = line; found == null && at <= source.size(); at++) {
+                found = declaredAt(classNames, source, at);
+            }
+            if (found == null) {
+                // Below the last member: take the whole file rather than guess
+                classNames.forEach(name -> members.addAll(allMembers(name)));
+                return members;
+            }
+            members.addAll(found);
+        }
+        return members;
+    }
+
+    /**
+     * The member a source line belongs to, or null if the line is outside any member.
+     */
+    private Set<String> declaredAt(List<String> classNames, List<String> source, int line) {
+        String tightest = null;
+        int span = Integer.MAX_VALUE;
+        for (String className : classNames) {
+            for (Map.Entry<String, ClassModel.Method> entry : classes.get(className).methods.entrySet()) {
+                ClassModel.Method method = entry.getValue();
+                // Initializers also hold field initializer lines from all over the class
+                boolean contains = INITIALIZERS.contains(entry.getKey())
+                        ? method.lines.contains(line) : method.containsLine(line);
+                if (contains && method.lastLine - method.firstLine < span) {
+                    tightest = className + "#" + entry.getKey();
+                    span = method.lastLine - method.firstLine;
+                }
+            }
+        }
+        if (tightest != null) {
+            return Set.of(tightest);
+        }
+        if (line > source.size()) {
+            return null;
+        }
+        String text = source.get(line - 1);
+        Matcher constant = CONSTANT_DECLARATION.matcher(text);
+        if (constant.find()) {
+            for (String className : classNames) {
+                if (classes.get(className).constants.contains(constant.group(1))) {
+                    return Set.of(className + "#" + constant.group(1));
+                }
+            }
+        }
+        Matcher abstractMethod = ABSTRACT_METHOD.matcher(text);
+        if (abstractMethod.find()) {
+            Set<String> found = new TreeSet<>();
+            for (String className : classNames) {
+                ClassModel.Method method = classes.get(className).methods.get(abstractMethod.group(1));
+                if (method != null && !method.hasCode) {
+                    found.add(className + "#" + abstractMethod.group(1));
+                }
+            }
+            return found.isEmpty() ? null : found;
+        }
+        return null;
+    }
+
+    /**
+     * Fold in the members whose source names a changed constant, until nothing new turns up.
+     */
+    private void addConstantUsers(Set<String> members) {
+        Deque<String> pending = new ArrayDeque<>();
+        for (String member : members) {
+            if (isConstant(member)) {
+                pending.add(member);
+            }
+        }
+        Set<String> done = new HashSet<>();
+        while (!pending.isEmpty()) {
+            String constant = pending.pop();
+            if (!done.add(constant)) {
+                continue;
+            }
+            String owner = owner(constant);
+            String name = constant.substring(owner.length() + 1);
+            String canonical = owner.replace('$', '.');
+            String simple = canonical.substring(canonical.lastIndexOf('.') + 1);
+            Pattern qualified = Pattern.compile("\\b" + Pattern.quote(simple) + "\\s*\\.\\s*" + Pattern.quote(name) + "\\b");
+            Pattern bare = Pattern.compile("\\b" + Pattern.quote(name) + "\\b");
+            sources.forEach((path, classNames) -> {
+                List<String> source = read(path);
+                if (source == null) {
+                    return;
+                }
+                boolean sameFile = classNames.contains(owner);
+                boolean imported = source.stream().anyMatch(line -> line.startsWith("import static " + canonical + "."
+                        + name + ";") || line.startsWith("import static " + canonical + ".*;"));
+                Pattern usage = sameFile || imported ? bare : qualified;
+                for (int i = 0; i < source.size(); i++) {
+                    String line = source.get(i);
+                    if (line.startsWith("import ") || !usage.matcher(line).find()) {
+                        continue;
+                    }
+                    Matcher declaration = CONSTANT_DECLARATION.matcher(line);
+                    if (sameFile && declaration.find() && declaration.group(1).equals(name)) {
+                        continue;
+                    }
+                    for (String user : membersAt(classNames, source, Set.of(i + 1))) {
+                        if (members.add(user) && isConstant(user)) {
+                            pending.add(user);
+                        }
+                    }
+                }
+            });
+        }
+    }
+
+    private Set<String> allMembers(String className) {
+        ClassModel model = classes.get(className);
+        Set<String> members = new TreeSet<>();
+        model.methods.keySet().forEach(name -> members.add(className + "#" + name));
+        model.constants.forEach(name -> members.add(className + "#" + name));
+        return members;
+    }
+
+    private boolean isConstant(String member) {
+        String owner = owner(member);
+        ClassModel model = classes.get(owner);
+        return model != null && model.constants.contains(member.substring(owner.length() + 1));
+    }
+
+    private ClassModel.Method method(String member) {
+        String owner = owner(member);
+        ClassModel model = classes.get(owner);
+        return model == null ? null : model.methods.get(member.substring(owner.length() + 1));
+    }
+
+    private static String owner(String member) {
+        return member.substring(0, member.indexOf('#'));
+    }
+
+    private String sourcePath(ClassModel model, Collection<String> sourceRoots) {
+        String packagePath = model.name.contains(".")
+                ? model.name.substring(0, model.name.lastIndexOf('.')).replace('.', '/') + "/" : "";
+        String file = model.sourceFile != null ? model.sourceFile
+                : model.name.substring(model.name.lastIndexOf('.') + 1).replaceFirst("\\$.*", "") + ".java";
+        for (String root : sourceRoots) {
+            String path = root.replace('\\', '/').replaceFirst("/$", "") + "/" + packagePath + file;
+            if (Files.exists(Path.of(path))) {
+                return path;
+            }
+        }
+        return null;
+    }
+
+    private List<String> read(String path) {
+        return sourceCache.computeIfAbsent(path, p -> {
+            try {
+                return Files.readAllLines(Path.of(p));
+            } catch (IOException e) {
+                return null;
+            }
+        });
+    }
+}
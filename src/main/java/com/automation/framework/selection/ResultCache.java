@@ -0,0 +1,218 @@
+package com.automation.framework.selection;
+
+import com.automation.framework.core.ConfigManager;
+import com.automation.framework.data.DataRow;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.File;
+import java.io.IOException;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static com.automation.framework.core.FrameworkConstants.*;
+
+/**
+ * Remembers scenarios that passed and the fingerprint they passed under, so an
+ * unchanged scenario is reported as a cached pass instead of being run again.
+ * The fingerprint covers the app build ({@code app}), the platform, the pickle's
+ * Gherkin source, tags and data row, and the bytecode of the glue classes its steps
+ * ran plus every class they reach in {@code resultCache.packages} (step definitions
+ * and page objects by default). A failed scenario is dropped from the cache.
+ *
+ * <p>The cache is on when {@code resultCache.file} is set; it is loaded on first use
+ * and saved back by {@link #save()}. {@code resultCache.force=true} runs every
+ * scenario and refreshes the cache.
+ *
+ * @author Baskar
+ * @version 1.0.0
+ */
+public final class ResultCache {
+    private static final Logger logger = LoggerFactory.getLogger(ResultCache.class);
+    private static final Map<String, Entry> entries = new ConcurrentHashMap<>();
+    // Bytecode does not change during a run
+    private static final Map<String, String> classDigests = new ConcurrentHashMap<>();
+    private static final AtomicInteger hits = new AtomicInteger();
+    private static volatile boolean loaded = false;
+
+    /**
+     * A passed scenario: its fingerprint, the glue classes it ran, and when.
+     */
+    record Entry(String fingerprint, List<String> classes, String passedAt) {
+    }
+
+    private ResultCache() {
+        // Utility class
+    }
+
+    public static boolean isEnabled() {
+        String path = ConfigManager.get(CONFIG_KEY_RESULT_CACHE_FILE);
+        return path != null && !path.isEmpty();
+    }
+
+    /**
+     * Whether the pickle passed before under the fingerprint it has now.
+     *
+     * @param uri  Feature file
+     * @param line Pickle line (scenario line, or Examples row)
+     * @param name Pickle name
+     * @param tags Pickle tags
+     * @param row  Data row driving the scenario, or null
+     */
+    public static boolean isCachedPass(URI uri, int line, String name, Collection<String> tags, DataRow row) {
+        if (!isEnabled() || ConfigManager.getBoolean(CONFIG_KEY_RESULT_CACHE_FORCE, false)) {
+            return false;
+        }
+        ensureLoaded();
+        String key = key(uri, line, row);
+        Entry entry = entries.get(key);
+        if (entry == null) {
+            return false;
+        }
+        String text = pickleText(uri, line, name, tags, row);
+        if (text == null || !entry.fingerprint().equals(fingerprint(text, entry.classes()))) {
+            logger.debug("Result cache miss for {}: fingerprint changed", key);
+            return false;
+        }
+        hits.incrementAndGet();
+        logger.info("Cached pass: {} unchanged since {}", key, entry.passedAt());
+        return true;
+    }
+
+    /**
+     * Record the outcome of a pickle that ran.
+     *
+     * @param glueClasses Classes of the step definitions and hooks it ran
+     */
+    public static void record(URI uri, int line, String name, Collection<String> tags, DataRow row,
+                              Collection<String> glueClasses, boolean passed) {
+        if (!isEnabled()) {
+            return;
+        }
+        ensureLoaded();
+        String key = key(uri, line, row);
+        String text = pickleText(uri, line, name, tags, row);
+        if (!passed || text == null) {
+            entries.remove(key);
+            return;
+        }
+        List<String> classes = List.copyOf(new TreeSet<>(glueClasses));
+        entries.put(key, new Entry(fingerprint(text, classes), classes, Instant.now().toString()));
+    }
+
+    /**
+     * Scenarios reported as cached passes in this run.
+     */
+    public static int getHits() {
+        return hits.get();
+    }
+
+    /**
+     * Persist the cache to {@code resultCache.file}, if configured.
+     */
+    public static synchronized void save() {
+        if (!isEnabled() || !loaded) {
+            return;
+        }
+        File file = new File(ConfigManager.get(CONFIG_KEY_RESULT_CACHE_FILE));
+        try {
+            if (file.getParentFile() != null) {
+                file.getParentFile().mkdirs();
+            }
+            new ObjectMapper().writerWithDefaultPrettyPrinter().writeValue(file, new TreeMap<>(entries));
+            logger.info("Saved result cache ({} passed scenarios, {} cached passes this run) to {}",
+                    entries.size(), hits.get(), file.getAbsolutePath());
+        } catch (IOException e) {
+            logger.warn("Could not save result cache: {}", e.getMessage());
+        }
+    }
+
+    private static String key(URI uri, int line, DataRow row) {
+        String key = FeatureSource.id(uri) + ":" + line;
+        return row != null ? key + "#" + row.getIndex() : key;
+    }
+
+    private static String pickleText(URI uri, int line, String name, Collection<String> tags, DataRow row) {
+        String source = FeatureSource.pickleText(uri, line);
+        if (source == null) {
+            return null;
+        }
+        StringBuilder text = new StringBuilder(source)
+                .append("name: ").append(name).append('\n')
+                .append("tags: ").append(new TreeSet<>(tags)).append('\n');
+        if (row != null) {
+            text.append("row: ").append(row.getSource()).append(' ').append(new TreeMap<>(row.asMap())).append('\n');
+        }
+        return text.toString();
+    }
+
+    private static String fingerprint(String pickleText, Collection<String> glueClasses) {
+        MessageDigest digest = sha256();
+        update(digest, "app", ConfigManager.get(CONFIG_KEY_APP, ""));
+        update(digest, "platform", ConfigManager.getPlatform());
+        update(digest, "pickle", pickleText);
+        List<String> packages = Arrays.stream(ConfigManager.get(CONFIG_KEY_RESULT_CACHE_PACKAGES,
+                DEFAULT_RESULT_CACHE_PACKAGES).split(",")).map(String::trim).filter(p -> !p.isEmpty()).toList();
+        Set<String> classes = ClassFiles.closure(glueClasses, packages);
+        for (String className : classes) {
+            update(digest, className, classDigests.computeIfAbsent(className, ResultCache::classDigest));
+        }
+        return HexFormat.of().formatHex(digest.digest());
+    }
+
+    private static String classDigest(String className) {
+        byte[] bytes = ClassFiles.read(className);
+        return bytes == null ? "missing" : HexFormat.of().formatHex(sha256().digest(bytes));
+    }
+
+    private static void update(MessageDigest digest, String label, String value) {
+        digest.update((label + "=" + value + "\n").getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+
+    private static void ensureLoaded() {
+        if (!loaded) {
+            load();
+        }
+    }
+
+    private static synchronized void load() {
+        if (loaded) {
+            return;
+        }
+        File file = new File(ConfigManager.get(CONFIG_KEY_RESULT_CACHE_FILE));
+        try {
+            if (file.exists()) {
+                entries.putAll(new ObjectMapper().readValue(file, new TypeReference<Map<String, Entry>>() { }));
+                logger.info("Loaded result cache ({} passed scenarios) from {}", entries.size(), file);
+            }
+        } catch (IOException e) {
+            logger.warn("Could not load result cache {}: {}", file, e.getMessage());
+        } finally {
+            // Only now: other scenario threads must not look up a half-loaded cache
+            loaded = true;
+        }
+    }
+}
@@ -0,0 +1,393 @@
+package com.automation.framework.stub;
+
+import com.automation.framework.core.ConfigManager;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.MalformedURLException;
+import java.net.URI;
+import java.net.URL;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+
+import static com.automation.framework.core.FrameworkConstants.*;
+
+/**
+ * Embeddable in-process server speaking the W3C WebDriver / Appium protocol.
+ * Serves a scripted model of the WDIO demo app (see {@link StubSession}) so the
+ * framework's own overhead can be measured and load-tested without a device.
+ * 
+ * Configuration:
+ * - {@code stub.port}: listen port (0 = ephemeral, default)
+ * - {@code stub.latencyMs}: fixed latency added to every command
+ * - {@code stub.jitterMs}: random extra latency (0..jitter) per command
+ * - {@code stub.failureRate}: probability (0.0-1.0) of an injected "unknown error"
+ * 
+ * Point {@code DriverFactory} at it with {@code -Ddriver.stub=true}.
+ * 
+ * @author Baskar
+ * @version 1.0.0
+ */
+public class StubAppiumServer {
+    private static final Logger logger = LoggerFactory.getLogger(StubAppiumServer.class);
+    private static final String ELEMENT_KEY = "element-6066-11e4-a52e-4f735466cecf";
+    // Room for hundreds of scenario threads connecting at once (load mode)
+    private static final int ACCEPT_BACKLOG = 1024;
+    // 1x1 transparent PNG
+    private static final String SCREENSHOT_PNG =
+            "iVBORw0KGgoAAAANSUhEUgAAAAEAAAABCAQAAAC1HAwCAAAAC0lEQVR42mNkYAAAAAYAAjCB0C8AAAAASUVORK5CYII=";
+    private static StubAppiumServer shared;
+
+    static {
+        // The JDK server drops idle keep-alive connections above this cap (default 200), which
+        // races with client reuse and surfaces as "header parser received no bytes" under load
+        if (System.getProperty("sun.net.httpserver.maxIdleConnections") == null) {
+            System.setProperty("sun.net.httpserver.maxIdleConnections", String.valueOf(ACCEPT_BACKLOG));
+        }
+    }
+
+    private final ObjectMapper mapper = new ObjectMapper();
+    private final Map<String, StubSession> sessions = new ConcurrentHashMap<>();
+    private final AtomicLong commandCount = new AtomicLong();
+    private final long latencyMs;
+    private final long jitterMs;
+    private final double failureRate;
+    private final HttpServer server;
+    private final ExecutorService executor;
+
+    /**
+     * Create a stub server (not started).
+     * 
+     * @param port        Listen port (0 = ephemeral)
+     * @param latencyMs   Fixed latency per command
+     * @param jitterMs    Random extra latency per command
+     * @param failureRate Probability of an injected failure per command
+     * @throws IOException if the port cannot be bound
+     */
+    public StubAppiumServer(int port, long latencyMs, long jitterMs, double failureRate) throws IOException {
+        this.latencyMs = latencyMs;
+        this.jitterMs = jitterMs;
+        this.failureRate = failureRate;
+        this.server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), port), ACCEPT_BACKLOG);
+        this.executor = Executors.newCachedThreadPool(runnable -> {
+            Thread thread = new Thread(runnable, "stub-appium");
+            thread.setDaemon(true);
+            return thread;
+        });
+        server.setExecutor(executor);
+        server.createContext("/", this::handle);
+    }
+
+    /**
+     * Get the JVM-wide stub server, creating and starting it from config on first use.
+     * 
+     * @return Running shared server
+     */
+    public static synchronized StubAppiumServer shared() {
+        if (shared == null) {
+            try {
+                shared = new StubAppiumServer(
+                        ConfigManager.getInt(CONFIG_KEY_STUB_PORT, 0),
+                        ConfigManager.getInt(CONFIG_KEY_STUB_LATENCY, 0),
+                        ConfigManager.getInt(CONFIG_KEY_STUB_JITTER, 0),
+                        Double.parseDouble(ConfigManager.get(CONFIG_KEY_STUB_FAILURE_RATE, "0")));
+            } catch (IOException e) {
+                throw new RuntimeException("Failed to start stub Appium server", e);
+            }
+            shared.start();
+        }
+        return shared;
+    }
+
+    /**
+     * Stop the shared server if it was started.
+     * The HTTP dispatcher thread is non-daemon, so this must run at the end of execution.
+     */
+    public static synchronized void shutdownShared() {
+        if (shared != null) {
+            shared.stop();
+            shared = null;
+        }
+    }
+
+    public void start() {
+        server.start();
+        logger.info("Stub Appium server listening on {} (latency {} ms, jitter {} ms, failure rate {})",
+                getUrl(), latencyMs, jitterMs, failureRate);
+    }
+
+    public void stop() {
+        server.stop(0);
+        executor.shutdownNow();
+        logger.info("Stub Appium server stopped after {} commands", commandCount.get());
+    }
+
+    /**
+     * Base URL to hand to the Appium client.
+     */
+    public URL getUrl() {
+        try {
+            return URI.create("http://" + server.getAddress().getHostString() + ":"
+                    + server.getAddress().getPort() + "/wd/hub").toURL();
+        } catch (MalformedURLException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * Number of commands served so far.
+     */
+    public long getCommandCount() {
+        return commandCount.get();
+    }
+
+    // ==================== Request Handling ====================
+
+    private void handle(HttpExchange exchange) throws IOException {
+        try {
+            commandCount.incrementAndGet();
+            String method = exchange.getRequestMethod();
+            String path = exchange.getRequestURI().getPath().replaceFirst("^/wd/hub", "");
+            Map<String, Object> body = readBody(exchange);
+
+            simulateLatency();
+            if (!path.equals("/session") && !method.equals("DELETE")
+                    && failureRate > 0 && ThreadLocalRandom.current().nextDouble() < failureRate) {
+                sendError(exchange, 500, "unknown error", "Injected failure for " + method + " " + path);
+                return;
+            }
+
+            String[] parts = path.replaceFirst("^/", "").split("/");
+            if (path.equals("/status")) {
+                send(exchange, Map.of("ready", true, "message", "stub ready"));
+            } else if (path.equals("/session") && method.equals("POST")) {
+                newSession(exchange, body);
+            } else if (parts.length >= 2 && parts[0].equals("session")) {
+                StubSession session = sessions.get(parts[1]);
+                if (session == null) {
+                    sendError(exchange, 404, "invalid session id", "Unknown session " + parts[1]);
+                } else {
+                    sessionCommand(exchange, session, method, parts, body);
+                }
+            } else {
+                sendError(exchange, 404, "unknown command", method + " " + path);
+            }
+        } catch (RuntimeException e) {
+            logger.warn("Stub command failed: {}", e.getMessage());
+            sendError(exchange, 500, "unknown error", String.valueOf(e.getMessage()));
+        } finally {
+            exchange.close();
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private void newSession(HttpExchange exchange, Map<String, Object> body) throws IOException {
+        Map<String, Object> requested = new HashMap<>();
+        Object capabilities = body.get("capabilities");
+        if (capabilities instanceof Map) {
+            Object alwaysMatch = ((Map<String, Object>) capabilities).get("alwaysMatch");
+            if (alwaysMatch instanceof Map) {
+                requested.putAll((Map<String, Object>) alwaysMatch);
+            }
+            Object firstMatch = ((Map<String, Object>) capabilities).get("firstMatch");
+            if (firstMatch instanceof List && !((List<?>) firstMatch).isEmpty()
+                    && ((List<?>) firstMatch).get(0) instanceof Map) {
+                requested.putAll((Map<String, Object>) ((List<?>) firstMatch).get(0));
+            }
+        }
+        String platformName = String.valueOf(requested.getOrDefault("platformName", "Android"));
+        String sessionId = UUID.randomUUID().toString();
+        sessions.put(sessionId, new StubSession(sessionId, platformName));
+
+        Map<String, Object> returned = new LinkedHashMap<>(requested);
+        returned.put("platformName", platformName);
+        returned.putIfAbsent("appium:automationName",
+                platformName.equalsIgnoreCase("ios") ? "XCUITest" : "UiAutomator2");
+        returned.put("appium:deviceName", "stub-device");
+        logger.debug("Stub session created: {} ({})", sessionId, platformName);
+        send(exchange, Map.of("sessionId", sessionId, "capabilities", returned));
+    }
+
+    private void sessionCommand(HttpExchange exchange, StubSession session, String method, String[] parts,
+                                Map<String, Object> body) throws IOException {
+        String command = parts.length > 2 ? parts[2] : "";
+
+        if (parts.length == 2 && method.equals("DELETE")) {
+            sessions.remove(session.getId());
+            send(exchange, null);
+            return;
+        }
+
+        switch (command) {
+            case "element":
+            case "elements":
+                if (parts.length > 3) {
+                    elementCommand(exchange, session, method, parts, body);
+                    return;
+                }
+                String using = String.valueOf(body.get("using"));
+                String value = String.valueOf(body.get("value"));
+                List<StubSession.StubElement> found = session.find(using, value);
+                if (command.equals("elements")) {
+                    send(exchange, found.stream().map(StubAppiumServer::reference).collect(Collectors.toList()));
+                } else if (found.isEmpty()) {
+                    sendError(exchange, 404, "no such element",
+                            "An element could not be located using " + using + ": " + value);
+                } else {
+                    send(exchange, reference(found.get(0)));
+                }
+                return;
+            case "window":
+                send(exchange, Map.of("x", 0, "y", 0, "width", 1080, "height", 2340));
+                return;
+            case "screenshot":
+                send(exchange, SCREENSHOT_PNG);
+                return;
+            case "source":
+                send(exchange, session.pageSource());
+                return;
+            case "orientation":
+                send(exchange, "PORTRAIT");
+                return;
+            case "alert":
+                alertCommand(exchange, session, parts);
+                return;
+            case "execute":
+                executeScript(exchange, session, body);
+                return;
+            default:
+                // timeouts, actions, appium/* and anything else: accept and do nothing
+                send(exchange, null);
+        }
+    }
+
+    private void elementCommand(HttpExchange exchange, StubSession session, String method, String[] parts,
+                                Map<String, Object> body) throws IOException {
+        StubSession.StubElement element = session.element(parts[3]).orElse(null);
+        if (element == null) {
+            sendError(exchange, 404, "stale element reference", "Unknown element " + parts[3]);
+            return;
+        }
+        String action = parts.length > 4 ? parts[4] : "";
+        switch (action) {
+            case "click" -> {
+                session.click(element);
+                send(exchange, null);
+            }
+            case "value" -> {
+                Object text = body.get("text");
+                session.type(element, text != null ? text.toString() : String.join("",
+                        ((List<?>) body.getOrDefault("value", List.of())).stream().map(String::valueOf).toList()));
+                send(exchange, null);
+            }
+            case "clear" -> {
+                session.clear(element);
+                send(exchange, null);
+            }
+            case "text", "name" -> send(exchange, element.text);
+            case "displayed" -> send(exchange, session.isDisplayed(element));
+            case "enabled" -> send(exchange, true);
+            case "selected" -> send(exchange, false);
+            case "rect" -> send(exchange, Map.of("x", 100, "y", 200, "width", 300, "height", 80));
+            case "attribute" -> send(exchange, parts.length > 5 && parts[5].equals("content-desc")
+                    ? element.key : element.text);
+            default -> send(exchange, null);
+        }
+    }
+
+    private void alertCommand(HttpExchange exchange, StubSession session, String[] parts) throws IOException {
+        String alertText = session.getAlertText();
+        if (alertText == null) {
+            sendError(exchange, 404, "no such alert", "No alert is open");
+            return;
+        }
+        String action = parts.length > 3 ? parts[3] : "";
+        if (action.equals("accept") || action.equals("dismiss")) {
+            session.dismissAlert();
+            send(exchange, null);
+        } else {
+            send(exchange, alertText);
+        }
+    }
+
+    private void executeScript(HttpExchange exchange, StubSession session, Map<String, Object> body)
+            throws IOException {
+        String script = String.valueOf(body.get("script"));
+        if (script.equals("mobile: deepLink")) {
+            Object args = body.get("args");
+            String url = args instanceof List && !((List<?>) args).isEmpty() && ((List<?>) args).get(0) instanceof Map
+                    ? String.valueOf(((Map<?, ?>) ((List<?>) args).get(0)).get("url")) : "";
+            session.navigate(url.replaceFirst("^[a-z]+://", ""));
+        } else if (script.equals("mobile: terminateApp") || script.equals("mobile: clearApp")
+                || script.equals("mobile: removeApp")) {
+            session.reset();
+        }
+        send(exchange, null);
+    }
+
+    // ==================== Helpers ====================
+
+    private static Map<String, Object> reference(StubSession.StubElement element) {
+        return Map.of(ELEMENT_KEY, element.handle);
+    }
+
+    private void simulateLatency() {
+        long delay = latencyMs + (jitterMs > 0 ? ThreadLocalRandom.current().nextLong(jitterMs + 1) : 0);
+        if (delay > 0) {
+            try {
+                Thread.sleep(delay);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private Map<String, Object> readBody(HttpExchange exchange) throws IOException {
+        try (InputStream in = exchange.getRequestBody()) {
+            byte[] bytes = in.readAllBytes();
+            if (bytes.length == 0) {
+                return Collections.emptyMap();
+            }
+            Object parsed = mapper.readValue(bytes, Object.class);
+            return parsed instanceof Map ? (Map<String, Object>) parsed : Collections.emptyMap();
+        }
+    }
+
+    private void send(HttpExchange exchange, Object value) throws IOException {
+        Map<String, Object> payload = new HashMap<>();
+        payload.put("value", value);
+        write(exchange, 200, payload);
+    }
+
+    private void sendError(HttpExchange exchange, int status, String error, String message) throws IOException {
+        write(exchange, status, Map.of("value", Map.of("error", error, "message", message, "stacktrace", "")));
+    }
+
+    private void write(HttpExchange exchange, int status, Object payload) throws IOException {
+        byte[] bytes = mapper.writeValueAsBytes(payload);
+        exchange.getResponseHeaders().set("Content-Type", "application/json; charset=utf-8");
+        exchange.sendResponseHeaders(status, bytes.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(bytes);
+        }
+    }
+}
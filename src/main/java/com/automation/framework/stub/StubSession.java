@@ -0,0 +1,230 @@
+package com.automation.framework.stub;
+
+import com.automation.framework.pages.locators.WdioLocators;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Scripted UI model of the WDIO demo app for one stub session.
+ * Models the bottom navigation, the Login form (with success alert and validation
+ * errors) and the Forms screen using the ids from {@link WdioLocators}.
+ * 
+ * @author Baskar
+ * @version 1.0.0
+ */
+class StubSession {
+    private static final Pattern QUOTED = Pattern.compile("[\"']([^\"']*)[\"']");
+
+    private final String id;
+    private final String platformName;
+    private final Map<String, StubElement> elements = new LinkedHashMap<>();
+    private String screen = "home";
+    private String alertTitle;
+    private String alertMessage;
+    private boolean invalidAttempt;
+
+    StubSession(String id, String platformName) {
+        this.id = id;
+        this.platformName = platformName;
+
+        // Bottom navigation is visible on every screen
+        for (String tab : List.of(WdioLocators.NAV_HOME, WdioLocators.NAV_WEBVIEW, WdioLocators.NAV_LOGIN,
+                WdioLocators.NAV_FORMS, WdioLocators.NAV_SWIPE, WdioLocators.NAV_DRAG)) {
+            add(new StubElement(tab, null, tab));
+        }
+        add(new StubElement(WdioLocators.SCREEN_HOME, "home", ""));
+        add(new StubElement(WdioLocators.SCREEN_LOGIN, "login", ""));
+        add(new StubElement(WdioLocators.SCREEN_FORMS, "forms", ""));
+        add(new StubElement(WdioLocators.SCREEN_SWIPE, "swipe", ""));
+        add(new StubElement(WdioLocators.SCREEN_DRAG, "drag", ""));
+        add(new StubElement(WdioLocators.LOGIN_EMAIL_INPUT, "login", ""));
+        add(new StubElement(WdioLocators.LOGIN_PASSWORD_INPUT, "login", ""));
+        add(new StubElement(WdioLocators.LOGIN_BUTTON, "login", "LOGIN"));
+        add(new StubElement(WdioLocators.LOGIN_SIGNUP_TAB, "login", "Sign up"));
+        add(new StubElement("email-error", "login-invalid", "Please enter a valid email address"));
+        add(new StubElement("password-error", "login-invalid", "Please enter at least 8 characters"));
+        add(new StubElement("alert-title", "alert", WdioLocators.SUCCESS_MODAL_TITLE));
+        add(new StubElement("alert-message", "alert", "You are logged in!"));
+        add(new StubElement(WdioLocators.SUCCESS_MODAL_OK_BUTTON, "alert", "OK"));
+        add(new StubElement(WdioLocators.FORMS_INPUT, "forms", ""));
+        add(new StubElement(WdioLocators.FORMS_SWITCH, "forms", "OFF"));
+        add(new StubElement(WdioLocators.FORMS_DROPDOWN, "forms", "Select an item..."));
+        add(new StubElement(WdioLocators.FORMS_ACTIVE_BUTTON, "forms", "Active"));
+        add(new StubElement(WdioLocators.FORMS_INACTIVE_BUTTON, "forms", "Inactive"));
+    }
+
+    String getId() {
+        return id;
+    }
+
+    String getPlatformName() {
+        return platformName;
+    }
+
+    /**
+     * Find visible elements matching a W3C/Appium locator strategy.
+     */
+    synchronized List<StubElement> find(String using, String value) {
+        List<StubElement> matches = new ArrayList<>();
+        for (StubElement element : elements.values()) {
+            if (isDisplayed(element) && matches(element, using, value)) {
+                matches.add(element);
+            }
+        }
+        return matches;
+    }
+
+    synchronized Optional<StubElement> element(String handle) {
+        return elements.values().stream().filter(e -> e.handle.equals(handle)).findFirst();
+    }
+
+    synchronized boolean isDisplayed(StubElement element) {
+        return element.screen == null
+                || element.screen.equals(screen)
+                || ("alert".equals(element.screen) && alertTitle != null)
+                || ("login-invalid".equals(element.screen) && "login".equals(screen) && invalidAttempt);
+    }
+
+    synchronized void click(StubElement element) {
+        switch (element.key) {
+            case WdioLocators.NAV_HOME -> navigate("home");
+            case WdioLocators.NAV_LOGIN -> navigate("login");
+            case WdioLocators.NAV_FORMS -> navigate("forms");
+            case WdioLocators.NAV_SWIPE -> navigate("swipe");
+            case WdioLocators.NAV_DRAG -> navigate("drag");
+            case WdioLocators.NAV_WEBVIEW -> navigate("webview");
+            case WdioLocators.LOGIN_BUTTON -> submitLogin();
+            case WdioLocators.SUCCESS_MODAL_OK_BUTTON -> dismissAlert();
+            case WdioLocators.FORMS_SWITCH -> element.text = "OFF".equals(element.text) ? "ON" : "OFF";
+            default -> {
+                // Other elements have no scripted behaviour
+            }
+        }
+    }
+
+    synchronized void type(StubElement element, String text) {
+        element.text = text;
+    }
+
+    synchronized void clear(StubElement element) {
+        element.text = "";
+    }
+
+    synchronized void navigate(String target) {
+        screen = target;
+        invalidAttempt = false;
+    }
+
+    synchronized String getAlertText() {
+        return alertTitle == null ? null : alertTitle + "\n" + alertMessage;
+    }
+
+    synchronized void dismissAlert() {
+        alertTitle = null;
+        alertMessage = null;
+    }
+
+    synchronized void reset() {
+        dismissAlert();
+        elements.values().stream().filter(e -> "login".equals(e.screen) || "forms".equals(e.screen))
+                .filter(e -> e.key.startsWith("input") || e.key.equals(WdioLocators.FORMS_INPUT))
+                .forEach(e -> e.text = "");
+        navigate("home");
+    }
+
+    /**
+     * XML page source of the visible elements.
+     */
+    synchronized String pageSource() {
+        StringBuilder xml = new StringBuilder("<?xml version=\"1.0\" encoding=\"UTF-8\"?><hierarchy screen=\"")
+                .append(screen).append("\">");
+        for (StubElement element : elements.values()) {
+            if (isDisplayed(element)) {
+                xml.append("<node content-desc=\"").append(escape(element.key))
+                        .append("\" text=\"").append(escape(element.text)).append("\"/>");
+            }
+        }
+        return xml.append("</hierarchy>").toString();
+    }
+
+    private void submitLogin() {
+        String email = elements.get(WdioLocators.LOGIN_EMAIL_INPUT).text;
+        String password = elements.get(WdioLocators.LOGIN_PASSWORD_INPUT).text;
+        if (email.contains("@") && password.length() >= 8) {
+            alertTitle = WdioLocators.SUCCESS_MODAL_TITLE;
+            alertMessage = "You are logged in!";
+            invalidAttempt = false;
+        } else {
+            invalidAttempt = true;
+        }
+    }
+
+    private static boolean matches(StubElement element, String using, String value) {
+        switch (using) {
+            case "accessibility id":
+                return element.key.equals(value);
+            case "id":
+            case "name":
+                return element.key.equals(value) || value.endsWith(":id/" + element.key);
+            case "class name":
+                return true;
+            default:
+                // xpath, -android uiautomator, -ios predicate string: match on quoted literals
+                return matchesLiterals(element, value);
+        }
+    }
+
+    private static boolean matchesLiterals(StubElement element, String expression) {
+        Matcher matcher = QUOTED.matcher(expression);
+        boolean contains = expression.contains("contains") || expression.contains("CONTAINS");
+        boolean anyLiteral = false;
+        String key = element.key.toLowerCase(Locale.ROOT);
+        String text = element.text.toLowerCase(Locale.ROOT);
+        while (matcher.find()) {
+            String literal = matcher.group(1).toLowerCase(Locale.ROOT);
+            // Skip translate() alphabets and attribute-only literals
+            if (literal.isEmpty() || literal.startsWith("abcdefghij") || literal.endsWith(":id/alerttitle")) {
+                continue;
+            }
+            anyLiteral = true;
+            if (contains ? (key.contains(literal) || text.contains(literal))
+                    : (key.equals(literal) || text.equals(literal))) {
+                return true;
+            }
+        }
+        // Literal-free expressions such as "//android.widget.TextView" match any text element
+        return !anyLiteral && !element.text.isEmpty();
+    }
+
+    private void add(StubElement element) {
+        elements.put(element.key, element);
+    }
+
+    private static String escape(String value) {
+        return value.replace("&", "&amp;").replace("\"", "&quot;").replace("<", "&lt;");
+    }
+
+    /**
+     * One element of the scripted UI.
+     */
+    static final class StubElement {
+        final String key;
+        final String screen;
+        final String handle;
+        String text;
+
+        StubElement(String key, String screen, String text) {
+            this.key = key;
+            this.screen = screen;
+            this.text = text;
+            this.handle = "el-" + Integer.toHexString(key.hashCode());
+        }
+    }
+}
@@ -1,6 +1,15 @@
 package listeners;
 
+import com.automation.framework.core.DriverManager;
+import com.automation.framework.core.LatencyProfile;
+import com.automation.framework.core.LocatorRanking;
+import com.automation.framework.core.ResetPolicy;
+import com.automation.framework.metrics.MetricsServer;
+import com.automation.framework.metrics.TimeAccounting;
+import com.automation.framework.profiling.FlightRecording;
 import com.automation.framework.reports.ExtentReportManager;
+import com.automation.framework.selection.ResultCache;
+import com.automation.framework.stub.StubAppiumServer;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.testng.IExecutionListener;
@@ -10,7 +19,7 @@ import org.testng.IExecutionListener;
  * Ensures reports are flushed after all tests complete.
  * 
  * @author Baskar
- * @version 2.0.0
+ * @version 2.2.0
  */
 public class ExtentReportListener implements IExecutionListener {
     private static final Logger logger = LoggerFactory.getLogger(ExtentReportListener.class);
@@ -19,12 +28,41 @@ public class ExtentReportListener implements IExecutionListener {
     public void onExecutionStart() {
         logger.info("Test execution started - Initializing Extent Reports");
         ExtentReportManager.initReports();
+        MetricsServer.start();
+        FlightRecording.start();
     }
     
     @Override
     public void onExecutionFinish() {
         logger.info("Test execution finished - Flushing Extent Reports");
+        // Sessions kept for the next scenario's reset are still open
+        DriverManager.quitAll();
+        reportRunTimeAccounting();
         ExtentReportManager.flushReports();
+        LatencyProfile.save();
+        LocatorRanking.save();
+        ResultCache.save();
+        StubAppiumServer.shutdownShared();
+        MetricsServer.stop();
+        FlightRecording.stop();
         logger.info("📊 Report generated at: {}", ExtentReportManager.getReportPath());
     }
+
+    /**
+     * Add a run-level node ranking where scenario time was wasted across the suite.
+     */
+    private void reportRunTimeAccounting() {
+        if (TimeAccounting.getScenarioCount() == 0) {
+            return;
+        }
+        ExtentReportManager.createTest("⏱️ Run time accounting");
+        ExtentReportManager.logTable("Time per category over " + TimeAccounting.getScenarioCount()
+                + " scenarios (* = wasted)", TimeAccounting.runTable());
+        String[][] sinks = TimeAccounting.runSinks(20);
+        ExtentReportManager.logTable("Wasted-time sinks, biggest first", sinks);
+        ExtentReportManager.logTable("Isolation between scenarios", ResetPolicy.runTable());
+        for (int i = 1; i < Math.min(sinks.length, 6); i++) {
+            logger.info("Wasted time #{}: {} {} - {} s over {} calls", i, sinks[i][0], sinks[i][1], sinks[i][2], sinks[i][3]);
+        }
+    }
 }
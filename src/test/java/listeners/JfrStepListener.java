@@ -0,0 +1,54 @@
+package listeners;
+
+import com.automation.framework.profiling.StepEvent;
+import io.cucumber.plugin.ConcurrentEventListener;
+import io.cucumber.plugin.event.EventPublisher;
+import io.cucumber.plugin.event.PickleStepTestStep;
+import io.cucumber.plugin.event.TestStepFinished;
+import io.cucumber.plugin.event.TestStepStarted;
+
+/**
+ * Cucumber plugin emitting a JFR {@link StepEvent} per Gherkin step.
+ * Step events are published on the thread running the scenario, so the open
+ * event is kept per thread.
+ * 
+ * <p>Usage: add {@code "listeners.JfrStepListener"} to the runner's plugins.
+ * 
+ * @author Baskar
+ * @version 1.0.0
+ */
+public class JfrStepListener implements ConcurrentEventListener {
+    private static final ThreadLocal<StepEvent> current = new ThreadLocal<>();
+
+    @Override
+    public void setEventPublisher(EventPublisher publisher) {
+        publisher.registerHandlerFor(TestStepStarted.class, this::onStepStarted);
+        publisher.registerHandlerFor(TestStepFinished.class, this::onStepFinished);
+    }
+
+    private void onStepStarted(TestStepStarted started) {
+        if (!(started.getTestStep() instanceof PickleStepTestStep)) {
+            return;
+        }
+        StepEvent event = new StepEvent();
+        if (event.isEnabled()) {
+            event.begin();
+            current.set(event);
+        }
+    }
+
+    private void onStepFinished(TestStepFinished finished) {
+        StepEvent event = current.get();
+        if (event == null || !(finished.getTestStep() instanceof PickleStepTestStep step)) {
+            return;
+        }
+        current.remove();
+        event.end();
+        if (event.shouldCommit()) {
+            event.keyword = step.getStep().getKeyword().trim();
+            event.text = step.getStep().getText();
+            event.status = finished.getResult().getStatus().name();
+            event.commit();
+        }
+    }
+}
@@ -0,0 +1,66 @@
+package listeners;
+
+import com.automation.framework.data.DataRow;
+import com.automation.framework.selection.ResultCache;
+import io.cucumber.plugin.ConcurrentEventListener;
+import io.cucumber.plugin.event.EventPublisher;
+import io.cucumber.plugin.event.Status;
+import io.cucumber.plugin.event.TestCase;
+import io.cucumber.plugin.event.TestCaseFinished;
+import io.cucumber.plugin.event.TestCaseStarted;
+import io.cucumber.plugin.event.TestStepFinished;
+
+import java.util.Set;
+import java.util.TreeSet;
+
+/**
+ * Cucumber plugin feeding scenario outcomes to the {@link ResultCache}, with the glue
+ * classes (step definitions and hooks) each scenario ran. Events are published on
+ * the thread running the scenario, so the classes are collected per thread.
+ *
+ * <p>Usage: add {@code "listeners.ResultCacheListener"} to the runner's plugins.
+ *
+ * @author Baskar
+ * @version 1.0.0
+ */
+public class ResultCacheListener implements ConcurrentEventListener {
+    private static final ThreadLocal<Set<String>> glueClasses = new ThreadLocal<>();
+
+    @Override
+    public void setEventPublisher(EventPublisher publisher) {
+        publisher.registerHandlerFor(TestCaseStarted.class, this::onTestCaseStarted);
+        publisher.registerHandlerFor(TestStepFinished.class, this::onStepFinished);
+        publisher.registerHandlerFor(TestCaseFinished.class, this::onTestCaseFinished);
+    }
+
+    private void onTestCaseStarted(TestCaseStarted started) {
+        glueClasses.set(new TreeSet<>());
+    }
+
+    private void onStepFinished(TestStepFinished finished) {
+        Set<String> classes = glueClasses.get();
+        String location = finished.getTestStep().getCodeLocation();
+        if (classes == null || location == null) {
+            return;
+        }
+        // e.g. stepdefinitions.WdioLoginSteps.enterUsername(java.lang.String)
+        int paren = location.indexOf('(');
+        String method = paren < 0 ? location : location.substring(0, paren);
+        int dot = method.lastIndexOf('.');
+        if (dot > 0) {
+            classes.add(method.substring(0, dot));
+        }
+    }
+
+    private void onTestCaseFinished(TestCaseFinished finished) {
+        Set<String> classes = glueClasses.get();
+        glueClasses.remove();
+        if (classes == null) {
+            return;
+        }
+        TestCase testCase = finished.getTestCase();
+        ResultCache.record(testCase.getUri(), testCase.getLocation().getLine(), testCase.getName(),
+                testCase.getTags(), DataRow.current(), classes,
+                finished.getResult().getStatus() == Status.PASSED);
+    }
+}
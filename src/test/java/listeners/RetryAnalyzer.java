@@ -1,6 +1,7 @@
 package listeners;
 
 import com.automation.framework.core.ConfigManager;
+import com.automation.framework.metrics.FrameworkMetrics;
 import com.automation.framework.reports.ExtentReportManager;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -13,7 +14,7 @@ import org.testng.ITestResult;
  * Reports retry attempts to both logs and Extent Reports.
  * 
  * @author Baskar
- * @version 2.1.0
+ * @version 2.2.0
  */
 public class RetryAnalyzer implements IRetryAnalyzer {
     private static final Logger logger = LoggerFactory.getLogger(RetryAnalyzer.class);
@@ -24,7 +25,7 @@ public class RetryAnalyzer implements IRetryAnalyzer {
     /**
      * Get max retry count from configuration or use default.
      */
-    private int getMaxRetryCount() {
+    public static int getMaxRetryCount() {
         return ConfigManager.getInt("retry.maxCount", DEFAULT_MAX_RETRY);
     }
     
@@ -48,6 +49,7 @@ public class RetryAnalyzer implements IRetryAnalyzer {
             
             // Log to Extent Report (visible in HTML report)
             ExtentReportManager.logWarning(retryMessage);
+            FrameworkMetrics.retried();
             
             return true;
         }
@@ -3,22 +3,39 @@ package listeners;
 import org.testng.IAnnotationTransformer;
 import org.testng.annotations.ITestAnnotation;
 
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
 import java.lang.reflect.Constructor;
 import java.lang.reflect.Method;
 
 /**
  * Annotation transformer to automatically apply RetryAnalyzer to all tests.
  * Eliminates the need to add retryAnalyzer attribute to each @Test annotation.
+ * Test methods marked {@link RetriesItself} are left alone.
  * 
  * @author Baskar
- * @version 2.0.0
+ * @version 2.1.0
  */
 public class RetryTransformer implements IAnnotationTransformer {
 
+    /**
+     * Marks a test method that retries its own failed parts, so re-running the whole
+     * method would repeat work that already passed.
+     */
+    @Retention(RetentionPolicy.RUNTIME)
+    @Target(ElementType.METHOD)
+    public @interface RetriesItself {
+    }
+
     @Override
     public void transform(ITestAnnotation annotation, Class testClass,
             Constructor testConstructor, Method testMethod) {
-        // Apply RetryAnalyzer to all test methods
+        if (testMethod != null && testMethod.isAnnotationPresent(RetriesItself.class)) {
+            return;
+        }
+        // Apply RetryAnalyzer to all other test methods
         annotation.setRetryAnalyzer(RetryAnalyzer.class);
     }
 }
@@ -0,0 +1,139 @@
+package runner;
+
+import com.automation.framework.core.ConfigManager;
+import com.automation.framework.data.DataRow;
+import com.automation.framework.data.RowStream;
+import com.automation.framework.metrics.FrameworkMetrics;
+import io.cucumber.testng.PickleWrapper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+import static com.automation.framework.core.FrameworkConstants.*;
+
+/**
+ * Lazy data provider feed that expands {@code @data:<file>} scenarios into one
+ * invocation per row of the file.
+ * Each invocation is {@code {pickle, feature, DataRow}} ({@code DataRow} is null for
+ * plain scenarios). Rows are pulled from a {@link RowStream} only as invocations are
+ * requested, and at most {@code window} row invocations may be queued but not yet
+ * started: TestNG submits parallel data provider invocations as fast as the iterator
+ * yields them, so without this limit a large file would be queued in full.
+ *
+ * @author Baskar
+ * @version 1.0.1
+ */
+class DataDrivenFeed implements Iterator<Object[]> {
+    private static final Logger logger = LoggerFactory.getLogger(DataDrivenFeed.class);
+    // Without a scenario budget, wait this long for a queued row to start
+    private static final long DEFAULT_WINDOW_WAIT_SECONDS = 900;
+
+    private final Object[][] scenarios;
+    private final Semaphore window;
+    private final long windowWaitSeconds;
+    private final Set<DataRow> queued = ConcurrentHashMap.newKeySet();
+    // Thread that drains the feed (TestNG's data provider loop)
+    private final Thread producer = Thread.currentThread();
+    private volatile boolean exhausted;
+    private int position;
+    private RowStream rows;
+    private Object[] current;
+    private Object[] next;
+
+    /**
+     * @param scenarios Pickle/feature pairs from {@code TestNGCucumberRunner.provideScenarios()}
+     * @param window    Maximum row invocations queued ahead of the running ones
+     */
+    DataDrivenFeed(Object[][] scenarios, int window) {
+        this.scenarios = scenarios;
+        this.window = new Semaphore(Math.max(1, window));
+        // One scenario budget without any queued row starting means invocations were
+        // dropped (e.g. skipped); proceed rather than hang
+        int budget = ConfigManager.getInt(CONFIG_KEY_SCENARIO_BUDGET, DEFAULT_SCENARIO_BUDGET);
+        this.windowWaitSeconds = budget > 0 ? budget : DEFAULT_WINDOW_WAIT_SECONDS;
+    }
+
+    /**
+     * Mark a row invocation as started, making room for the next one.
+     * Safe to call with null and on retries.
+     */
+    void started(DataRow row) {
+        if (row != null && queued.remove(row)) {
+            window.release();
+        }
+    }
+
+    @Override
+    public boolean hasNext() {
+        if (Thread.currentThread() != producer) {
+            // Workers ask only to decide on @AfterGroups; waiting here for a window
+            // permit would block the thread that is meant to start the next row
+            return !exhausted;
+        }
+        while (next == null) {
+            if (rows != null) {
+                if (rows.hasNext()) {
+                    DataRow row = rows.next();
+                    if (awaitWindow(row)) {
+                        queued.add(row);
+                    }
+                    next = new Object[]{current[0], current[1], row};
+                    break;
+                }
+                rows.close();
+                rows = null;
+            }
+            if (position >= scenarios.length) {
+                exhausted = true;
+                return false;
+            }
+            current = scenarios[position++];
+            String source = dataSource((PickleWrapper) current[0]);
+            if (source == null) {
+                next = new Object[]{current[0], current[1], null};
+            } else {
+                logger.info("Streaming rows for '{}' from {}", ((PickleWrapper) current[0]).getPickle().getName(), source);
+                rows = RowStream.open(source);
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public Object[] next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        Object[] invocation = next;
+        next = null;
+        FrameworkMetrics.scenariosQueued(1);
+        return invocation;
+    }
+
+    private boolean awaitWindow(DataRow row) {
+        try {
+            if (window.tryAcquire(windowWaitSeconds, TimeUnit.SECONDS)) {
+                return true;
+            }
+            logger.warn("No queued data row started within {}s; queueing {} anyway", windowWaitSeconds, row);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        return false;
+    }
+
+    private static String dataSource(PickleWrapper pickle) {
+        for (String tag : pickle.getPickle().getTags()) {
+            if (tag.startsWith(DATA_TAG_PREFIX)) {
+                return tag.substring(DATA_TAG_PREFIX.length());
+            }
+        }
+        return null;
+    }
+}
@@ -0,0 +1,290 @@
+package runner;
+
+import com.automation.framework.core.ConfigManager;
+import com.automation.framework.selection.ChangeSet;
+import com.automation.framework.selection.FeatureSource;
+import com.automation.framework.selection.ImpactGraph;
+import io.cucumber.cucumberexpressions.Expression;
+import io.cucumber.cucumberexpressions.ExpressionFactory;
+import io.cucumber.cucumberexpressions.ParameterTypeRegistry;
+import io.cucumber.java.After;
+import io.cucumber.java.AfterAll;
+import io.cucumber.java.AfterStep;
+import io.cucumber.java.Before;
+import io.cucumber.java.BeforeAll;
+import io.cucumber.java.BeforeStep;
+import io.cucumber.java.StepDefinitionAnnotation;
+import io.cucumber.tagexpressions.TagExpressionParser;
+import io.cucumber.testng.Pickle;
+import io.cucumber.testng.PickleWrapper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.File;
+import java.io.IOException;
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Method;
+import java.net.URI;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Enumeration;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+
+import static com.automation.framework.core.FrameworkConstants.*;
+
+/**
+ * Change-impact selection: keeps only the scenarios a change can affect.
+ * The changes come from {@code impact.changes}, a unified diff or a list of changed
+ * paths relative to the repository root ({@link ChangeSet}). A scenario is kept when
+ * <ul>
+ *   <li>a changed line of its feature file is one it is compiled from (header,
+ *       Background, its own steps and Examples row),</li>
+ *   <li>the file in its {@code @data:} tag changed, or</li>
+ *   <li>a step definition its steps match, a hook that applies to it, or anything
+ *       those reach in the {@link ImpactGraph} changed; a step that matches no step
+ *       definition (e.g. its pattern was edited) keeps the scenario too.</li>
+ * </ul>
+ * Every scenario runs when the change touches anything the graph cannot place:
+ * build files, configuration, resources other than data files, or Java files no
+ * step reaches (runner, listeners). Markdown files are ignored.
+ *
+ * @author Baskar
+ * @version 1.0.0
+ */
+final class ImpactFilter {
+    private static final Logger logger = LoggerFactory.getLogger(ImpactFilter.class);
+    private static final List<Class<? extends Annotation>> HOOKS =
+            List.of(Before.class, After.class, BeforeStep.class, AfterStep.class, BeforeAll.class, AfterAll.class);
+
+    private final ChangeSet changes;
+    private final Map<Expression, String> stepDefinitions = new LinkedHashMap<>();
+    // Hook member -> tag expression ("" for every scenario)
+    private final Map<String, String> hooks = new LinkedHashMap<>();
+    private final List<String> glueClasses = new ArrayList<>();
+    private ImpactGraph graph;
+    private Set<String> changedMembers;
+
+    private ImpactFilter(ChangeSet changes) {
+        this.changes = changes;
+    }
+
+    static boolean isEnabled() {
+        String path = ConfigManager.get(CONFIG_KEY_IMPACT_CHANGES);
+        return path != null && !path.isEmpty();
+    }
+
+    /**
+     * Scenarios affected by {@code impact.changes}; all of them if selection is off or
+     * the change cannot be narrowed down.
+     *
+     * @param scenarios Pickle/feature pairs from {@code TestNGCucumberRunner.provideScenarios()}
+     * @param glue      Glue packages of the runner
+     */
+    static Object[][] select(Object[][] scenarios, String[] glue) {
+        if (!isEnabled()) {
+            return scenarios;
+        }
+        String path = ConfigManager.get(CONFIG_KEY_IMPACT_CHANGES);
+        ChangeSet changes;
+        try {
+            changes = ChangeSet.read(Path.of(path));
+        } catch (IOException e) {
+            logger.warn("Could not read impact.changes {} ({}); running every scenario", path, e.getMessage());
+            return scenarios;
+        }
+        try {
+            return new ImpactFilter(changes).filter(scenarios, glue);
+        } catch (RuntimeException e) {
+            logger.warn("Impact selection failed ({}); running every scenario", e.toString());
+            return scenarios;
+        }
+    }
+
+    private Object[][] filter(Object[][] scenarios, String[] glue) {
+        loadGlue(glue);
+        graph = ImpactGraph.build(glueClasses, split(ConfigManager.get(CONFIG_KEY_IMPACT_PACKAGES,
+                DEFAULT_IMPACT_PACKAGES)), split(ConfigManager.get(CONFIG_KEY_IMPACT_SOURCE_ROOTS,
+                DEFAULT_IMPACT_SOURCE_ROOTS)));
+        ImpactGraph.JavaChanges javaChanges = graph.changedMembers(changes);
+        changedMembers = javaChanges.members();
+
+        String fullRun = fullRunReason(scenarios, javaChanges);
+        if (fullRun != null) {
+            logger.info("Impact selection: running all {} scenarios ({})", scenarios.length, fullRun);
+            return scenarios;
+        }
+        List<Object[]> selected = new ArrayList<>();
+        for (Object[] scenario : scenarios) {
+            Pickle pickle = ((PickleWrapper) scenario[0]).getPickle();
+            String reason = reason(pickle);
+            if (reason != null) {
+                logger.info("Impact selection: {} ({}:{}) - {}", pickle.getName(),
+                        FeatureSource.id(pickle.getUri()), pickle.getLine(), reason);
+                selected.add(scenario);
+            }
+        }
+        logger.info("Impact selection: {} of {} scenarios affected by {}", selected.size(), scenarios.length, changes);
+        return selected.toArray(new Object[0][]);
+    }
+
+    /**
+     * Why every scenario must run, or null if the change can be narrowed down.
+     */
+    private String fullRunReason(Object[][] scenarios, ImpactGraph.JavaChanges javaChanges) {
+        if (!javaChanges.unresolved().isEmpty()) {
+            return javaChanges.unresolved() + " outside the impact graph";
+        }
+        Set<String> dataFiles = new TreeSet<>();
+        for (Object[] scenario : scenarios) {
+            dataFiles.addAll(dataFiles(((PickleWrapper) scenario[0]).getPickle()));
+        }
+        for (String path : changes.paths()) {
+            if (!path.endsWith(".java") && !path.endsWith(".feature") && !path.endsWith(".md")
+                    && !dataFiles.contains(path)) {
+                return path + " changed";
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Why the scenario is affected, or null if it is not.
+     */
+    private String reason(Pickle pickle) {
+        URI uri = pickle.getUri();
+        String feature = FeatureSource.id(uri);
+        if (changes.paths().contains(feature)) {
+            Set<Integer> lines = changes.lines(feature);
+            if (lines == null || !Collections.disjoint(lines, FeatureSource.sourceLines(uri, pickle.getLine()))) {
+                return "feature source changed";
+            }
+        }
+        for (String data : dataFiles(pickle)) {
+            if (changes.paths().contains(data)) {
+                return data + " changed";
+            }
+        }
+        List<String> roots = new ArrayList<>();
+        for (String step : FeatureSource.steps(uri, pickle.getLine())) {
+            List<String> matches = stepDefinitions.entrySet().stream()
+                    .filter(definition -> definition.getKey().match(step) != null)
+                    .map(Map.Entry::getValue).toList();
+            if (matches.isEmpty()) {
+                return "no step definition matches \"" + step + "\"";
+            }
+            roots.addAll(matches);
+        }
+        hooks.forEach((hook, tags) -> {
+            if (tags.isEmpty() || TagExpressionParser.parse(tags).evaluate(pickle.getTags())) {
+                roots.add(hook);
+            }
+        });
+        for (String glueClass : glueClasses) {
+            // Glue instances are created for every scenario
+            roots.add(glueClass + "#<init>");
+            roots.add(glueClass + "#<clinit>");
+        }
+        for (String root : roots) {
+            for (String member : graph.reachableFrom(root)) {
+                if (changedMembers.contains(member)) {
+                    return member + " changed (via " + root + ")";
+                }
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Step definitions and hooks of the glue packages, by member name.
+     */
+    private void loadGlue(String[] glue) {
+        ExpressionFactory expressions = new ExpressionFactory(new ParameterTypeRegistry(Locale.ENGLISH));
+        for (String gluePackage : glue) {
+            for (Class<?> type : classesIn(gluePackage)) {
+                glueClasses.add(type.getName());
+                for (Method method : type.getDeclaredMethods()) {
+                    String member = type.getName() + "#" + method.getName();
+                    for (Annotation annotation : method.getAnnotations()) {
+                        for (Annotation single : unwrap(annotation)) {
+                            if (single.annotationType().isAnnotationPresent(StepDefinitionAnnotation.class)) {
+                                stepDefinitions.put(expressions.createExpression(value(single)), member);
+                            } else if (HOOKS.contains(single.annotationType())) {
+                                hooks.put(member, value(single));
+                            }
+                        }
+                    }
+                }
+            }
+        }
+        logger.debug("Impact selection glue: {} step definitions, {} hooks", stepDefinitions.size(), hooks.size());
+    }
+
+    /**
+     * The annotations inside a repeated-annotation container, or the annotation itself.
+     */
+    private static List<Annotation> unwrap(Annotation annotation) {
+        try {
+            Method value = annotation.annotationType().getMethod("value");
+            if (value.getReturnType().isArray() && Annotation.class.isAssignableFrom(value.getReturnType().getComponentType())) {
+                return Arrays.asList((Annotation[]) value.invoke(annotation));
+            }
+        } catch (ReflectiveOperationException e) {
+            // No value() element: not a container
+        }
+        return List.of(annotation);
+    }
+
+    private static String value(Annotation annotation) {
+        try {
+            return String.valueOf(annotation.annotationType().getMethod("value").invoke(annotation));
+        } catch (ReflectiveOperationException e) {
+            return "";
+        }
+    }
+
+    private static List<Class<?>> classesIn(String packageName) {
+        List<Class<?>> classes = new ArrayList<>();
+        ClassLoader loader = Thread.currentThread().getContextClassLoader();
+        try {
+            Enumeration<URL> directories = loader.getResources(packageName.replace('.', '/'));
+            while (directories.hasMoreElements()) {
+                URL url = directories.nextElement();
+                if (!"file".equals(url.getProtocol())) {
+                    continue;
+                }
+                File[] files = new File(url.toURI()).listFiles((dir, name) -> name.endsWith(".class"));
+                for (File file : files == null ? new File[0] : files) {
+                    String name = packageName + "." + file.getName().replaceFirst("\\.class$", "");
+                    classes.add(Class.forName(name, false, loader));
+                }
+            }
+        } catch (IOException | URISyntaxException | ClassNotFoundException e) {
+            logger.warn("Could not list glue package {}: {}", packageName, e.getMessage());
+        }
+        return classes;
+    }
+
+    private static List<String> dataFiles(Pickle pickle) {
+        List<String> files = new ArrayList<>();
+        for (String tag : pickle.getTags()) {
+            if (tag.startsWith(DATA_TAG_PREFIX)) {
+                files.add(tag.substring(DATA_TAG_PREFIX.length()).replaceFirst("#.*$", "").replace('\\', '/'));
+            }
+        }
+        return files;
+    }
+
+    private static Collection<String> split(String list) {
+        return Arrays.stream(list.split(",")).map(String::trim).filter(s -> !s.isEmpty()).toList();
+    }
+}
@@ -0,0 +1,78 @@
+package runner;
+
+import com.automation.framework.core.ConfigManager;
+import com.automation.framework.metrics.FrameworkMetrics;
+import com.automation.framework.metrics.LoadMetrics;
+import io.cucumber.testng.CucumberOptions;
+import io.cucumber.testng.FeatureWrapper;
+import io.cucumber.testng.PickleWrapper;
+import io.cucumber.testng.TestNGCucumberRunner;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.testng.ITestContext;
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+
+import java.nio.file.Path;
+
+import static com.automation.framework.core.FrameworkConstants.*;
+
+/**
+ * Synthetic load runner.
+ * Generates {@code load.scenarios} pickles against the existing step definitions and
+ * runs them in parallel (TestNG data provider threads) against the stub driver, then
+ * reports throughput and per-scenario CPU, allocation and lock contention via
+ * {@link LoadMetrics}. Inactive unless {@code load.enabled=true}; use the Maven
+ * {@code load} profile.
+ * 
+ * @author Baskar
+ * @version 1.0.0
+ */
+@CucumberOptions(tags = "@Load", features = LoadTestRunner.FEATURES_DIR, glue = "stepdefinitions", plugin = {
+        "summary",
+        "listeners.JfrStepListener"
+}, monochrome = true)
+public class LoadTestRunner {
+    private static final Logger logger = LoggerFactory.getLogger(LoadTestRunner.class);
+    static final String FEATURES_DIR = LOAD_OUTPUT_DIR + "/features";
+
+    private TestNGCucumberRunner testNGCucumberRunner;
+
+    @BeforeClass(alwaysRun = true)
+    public void setUpClass() {
+        if (!LoadMetrics.isEnabled()) {
+            logger.info("Load mode disabled (set -Dload.enabled=true or use -Pload); skipping LoadTestRunner");
+            return;
+        }
+        SyntheticFeatureGenerator.generate(Path.of(FEATURES_DIR),
+                ConfigManager.getInt(CONFIG_KEY_LOAD_SCENARIOS, DEFAULT_LOAD_SCENARIOS));
+        testNGCucumberRunner = new TestNGCucumberRunner(this.getClass());
+        LoadMetrics.startRun();
+    }
+
+    @Test(groups = "load", description = "Runs synthetic load scenario", dataProvider = "scenarios")
+    public void scenario(PickleWrapper pickleWrapper, FeatureWrapper featureWrapper) throws Throwable {
+        testNGCucumberRunner.runScenario(pickleWrapper.getPickle());
+    }
+
+    @DataProvider(name = "scenarios", parallel = true)
+    public Object[][] features() {
+        if (testNGCucumberRunner == null) {
+            return new Object[0][0];
+        }
+        Object[][] scenarios = testNGCucumberRunner.provideScenarios();
+        FrameworkMetrics.scenariosQueued(scenarios.length);
+        return scenarios;
+    }
+
+    @AfterClass(alwaysRun = true)
+    public void tearDownClass(ITestContext context) {
+        if (testNGCucumberRunner == null) {
+            return;
+        }
+        testNGCucumberRunner.finish();
+        LoadMetrics.finishRun(context.getSuite().getXmlSuite().getDataProviderThreadCount());
+    }
+}
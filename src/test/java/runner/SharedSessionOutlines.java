@@ -0,0 +1,70 @@
+package runner;
+
+import io.cucumber.testng.FeatureWrapper;
+import io.cucumber.testng.PickleWrapper;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static com.automation.framework.core.FrameworkConstants.*;
+
+/**
+ * Splits provided scenarios into plain ones and {@code @SharedSession} outlines.
+ * Pickles of a tagged Scenario Outline (one per Examples row) are grouped by the
+ * outline they come from, so the runner can execute a group's rows one after another
+ * on a single leased session.
+ *
+ * @author Baskar
+ * @version 1.0.0
+ */
+final class SharedSessionOutlines {
+
+    /**
+     * Rows of one outline, in feature-file order.
+     */
+    record Group(String name, List<PickleWrapper> rows) {
+        @Override
+        public String toString() {
+            return name + " (" + rows.size() + " rows, shared session)";
+        }
+    }
+
+    private final List<Object[]> plain = new ArrayList<>();
+    private final List<Object[]> groups = new ArrayList<>();
+
+    /**
+     * @param scenarios Pickle/feature pairs from {@code TestNGCucumberRunner.provideScenarios()}
+     */
+    SharedSessionOutlines(Object[][] scenarios) {
+        Map<String, List<PickleWrapper>> outlines = new LinkedHashMap<>();
+        Map<String, FeatureWrapper> features = new LinkedHashMap<>();
+        for (Object[] scenario : scenarios) {
+            PickleWrapper pickle = (PickleWrapper) scenario[0];
+            if (!pickle.getPickle().getTags().contains(SHARED_SESSION_TAG)) {
+                plain.add(scenario);
+                continue;
+            }
+            String key = pickle.getPickle().getUri() + ":" + pickle.getPickle().getScenarioLine();
+            outlines.computeIfAbsent(key, k -> new ArrayList<>()).add(pickle);
+            features.putIfAbsent(key, (FeatureWrapper) scenario[1]);
+        }
+        outlines.forEach((key, rows) -> groups.add(new Object[]{
+                new Group(rows.get(0).getPickle().getName(), List.copyOf(rows)), features.get(key)}));
+    }
+
+    /**
+     * Scenarios that run with a session of their own.
+     */
+    Object[][] plain() {
+        return plain.toArray(new Object[0][]);
+    }
+
+    /**
+     * {@code {Group, FeatureWrapper}} pairs, one per tagged outline.
+     */
+    Object[][] groups() {
+        return groups.toArray(new Object[0][]);
+    }
+}
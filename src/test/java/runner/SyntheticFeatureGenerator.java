@@ -0,0 +1,112 @@
+package runner;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.stream.Stream;
+
+/**
+ * Writes synthetic feature files for load runs.
+ * Every scenario reuses the existing WDIO login step definitions, so a load run
+ * exercises the real hooks, page objects, waits and reporting against the stub driver.
+ * Rows rotate through valid, empty and invalid credentials.
+ * 
+ * @author Baskar
+ * @version 1.0.0
+ */
+final class SyntheticFeatureGenerator {
+    private static final Logger logger = LoggerFactory.getLogger(SyntheticFeatureGenerator.class);
+    private static final int SCENARIOS_PER_FEATURE = 100;
+
+    private static final String HEADER = """
+            @Load
+            Feature: Synthetic load %d
+              Generated by SyntheticFeatureGenerator; do not edit.
+
+              Background:
+                Given I navigate to the Login screen
+
+              Scenario Outline: Valid login <row>
+                When I enter username "<username>"
+                And I enter password "<password>"
+                And I tap the Login button
+                Then I should see the success message "You are logged in!"
+
+                Examples:
+                  | row | username | password |
+            %s
+              Scenario Outline: Empty login <row>
+                When I enter username ""
+                And I enter password ""
+                And I tap the Login button
+                Then I should see validation error for empty fields
+
+                Examples:
+                  | row |
+            %s
+              Scenario Outline: Invalid login <row>
+                When I enter username "<username>"
+                And I enter password "<password>"
+                And I tap the Login button
+                Then I should see an error message
+
+                Examples:
+                  | row | username | password |
+            %s""";
+
+    private SyntheticFeatureGenerator() {
+        // Utility class
+    }
+
+    /**
+     * Replace the contents of a directory with features totalling the given scenario count.
+     * 
+     * @param dir       Output directory
+     * @param scenarios Number of scenarios (pickles) to generate
+     * @return Number of feature files written
+     */
+    static int generate(Path dir, int scenarios) {
+        try {
+            if (Files.exists(dir)) {
+                try (Stream<Path> old = Files.list(dir)) {
+                    for (Path file : (Iterable<Path>) old::iterator) {
+                        Files.delete(file);
+                    }
+                }
+            }
+            Files.createDirectories(dir);
+
+            int files = 0;
+            for (int first = 0; first < scenarios; first += SCENARIOS_PER_FEATURE) {
+                int last = Math.min(scenarios, first + SCENARIOS_PER_FEATURE);
+                Files.writeString(dir.resolve(String.format("load-%04d.feature", files)),
+                        feature(files, first, last), StandardCharsets.UTF_8);
+                files++;
+            }
+            logger.info("Generated {} synthetic scenarios in {} feature files under {}", scenarios, files, dir);
+            return files;
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not generate load features in " + dir, e);
+        }
+    }
+
+    private static String feature(int index, int first, int last) {
+        StringBuilder valid = new StringBuilder();
+        StringBuilder empty = new StringBuilder();
+        StringBuilder invalid = new StringBuilder();
+        for (int row = first; row < last; row++) {
+            switch (row % 3) {
+                case 0 -> valid.append(String.format("      | %d | user%d@example.com | Password%d |%n", row, row, row));
+                case 1 -> empty.append(String.format("      | %d |%n", row));
+                default -> invalid.append(String.format("      | %d | user%d | short |%n", row, row));
+            }
+        }
+        // An Examples table with only its header row yields no pickles, so tiny batches stay valid
+        return String.format(HEADER, index, valid, empty, invalid);
+    }
+}
@@ -1,48 +1,169 @@
 package runner;
 
+import com.automation.framework.core.DriverManager;
+import com.automation.framework.core.SessionLease;
+import com.automation.framework.data.DataRow;
+import com.automation.framework.metrics.FrameworkMetrics;
+import com.automation.framework.reports.ExtentReportManager;
+import com.automation.framework.selection.ResultCache;
 import io.cucumber.testng.CucumberOptions;
 import io.cucumber.testng.FeatureWrapper;
+import io.cucumber.testng.Pickle;
 import io.cucumber.testng.PickleWrapper;
 import io.cucumber.testng.TestNGCucumberRunner;
+import listeners.RetryAnalyzer;
+import listeners.RetryTransformer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.testng.ITestContext;
 import org.testng.annotations.AfterClass;
 import org.testng.annotations.BeforeClass;
 import org.testng.annotations.DataProvider;
 import org.testng.annotations.Test;
 
+import java.util.Iterator;
+
 /**
  * TestNG Cucumber Runner class.
  * Configures and executes Cucumber scenarios using TestNG.
+ * Scenarios tagged {@code @data:<file.csv|file.xlsx[#Sheet]>} run once per row of the
+ * file; rows are streamed into the data provider as threads free up.
+ * Rows of a Scenario Outline tagged {@code @SharedSession} run in sequence on one
+ * device session, with an app restart between rows; each row is still reported as
+ * its own Cucumber scenario; a failed row is retried on its own, never the whole outline.
+ * With {@code resultCache.file} set, scenarios that passed before under an unchanged
+ * fingerprint are reported as cached passes without running ({@link ResultCache});
+ * {@code -DresultCache.force=true} runs them all.
+ * With {@code impact.changes} pointing at a diff or a list of changed files, only the
+ * scenarios the change can affect are run ({@link ImpactFilter}).
  * 
  * @author Baskar
- * @version 4.0.0
+ * @version 4.5.0
  */
 @CucumberOptions(tags = "@Login and not @Skip", features = "src/test/resources/features", glue = "stepdefinitions", plugin = {
         "summary",
         "pretty",
+        "listeners.JfrStepListener",
+        "listeners.ResultCacheListener",
         "html:target/reports/cucumber-report/cucumber-pretty/",
         "json:target/reports/cucumber-report/CucumberTestReport.json"
 }, monochrome = true)
 public class TestNgRunner {
+    private static final Logger logger = LoggerFactory.getLogger(TestNgRunner.class);
 
     private TestNGCucumberRunner testNGCucumberRunner;
+    private DataDrivenFeed feed;
+    private SharedSessionOutlines outlines;
 
     @BeforeClass(alwaysRun = true)
     public void setUpClass() throws Exception {
         testNGCucumberRunner = new TestNGCucumberRunner(this.getClass());
+        Object[][] scenarios = ImpactFilter.select(testNGCucumberRunner.provideScenarios(),
+                getClass().getAnnotation(CucumberOptions.class).glue());
+        outlines = new SharedSessionOutlines(scenarios);
     }
 
     @Test(groups = "cucumber", description = "Runs Cucumber Feature", dataProvider = "scenarios")
-    public void scenario(PickleWrapper pickleWrapper, FeatureWrapper featureWrapper) throws Throwable {
-        testNGCucumberRunner.runScenario(pickleWrapper.getPickle());
+    public void scenario(PickleWrapper pickleWrapper, FeatureWrapper featureWrapper, DataRow row) throws Throwable {
+        feed.started(row);
+        DataRow.setCurrent(row);
+        try {
+            if (!cachedPass(pickleWrapper.getPickle(), row)) {
+                testNGCucumberRunner.runScenario(pickleWrapper.getPickle());
+            }
+        } finally {
+            DataRow.setCurrent(null);
+        }
     }
 
     @DataProvider(name = "scenarios", parallel = true)
-    public Object[][] features() {
-        return testNGCucumberRunner.provideScenarios();
+    public Iterator<Object[]> features(ITestContext context) {
+        // Keep two rows queued per data provider thread
+        int threads = context.getSuite().getXmlSuite().getDataProviderThreadCount();
+        feed = new DataDrivenFeed(outlines.plain(), threads * 2);
+        return feed;
+    }
+
+    @Test(groups = "cucumber", description = "Runs Scenario Outline rows on one session", dataProvider = "sharedSessionOutlines")
+    @RetryTransformer.RetriesItself
+    public void sharedSessionOutline(SharedSessionOutlines.Group outline, FeatureWrapper featureWrapper) throws Throwable {
+        // Hooks reuses the leased session for every row after the first; the
+        // remaining rows still run when one fails (its session is replaced)
+        Throwable failure = null;
+        SessionLease.begin();
+        try {
+            for (PickleWrapper row : outline.rows()) {
+                try {
+                    runRow(row.getPickle());
+                } catch (Throwable t) {
+                    if (failure == null) {
+                        failure = t;
+                    } else {
+                        failure.addSuppressed(t);
+                    }
+                }
+            }
+        } finally {
+            SessionLease.end();
+        }
+        if (failure != null) {
+            throw failure;
+        }
+    }
+
+    /**
+     * Run one outline row, retrying it alone (up to {@code retry.maxCount} times) so rows
+     * that passed are not run again.
+     */
+    private void runRow(Pickle row) throws Throwable {
+        if (cachedPass(row, null)) {
+            return;
+        }
+        int maxRetry = RetryAnalyzer.getMaxRetryCount();
+        for (int attempt = 0; ; attempt++) {
+            try {
+                testNGCucumberRunner.runScenario(row);
+                return;
+            } catch (Throwable t) {
+                if (attempt >= maxRetry) {
+                    throw t;
+                }
+                String retryMessage = String.format("⚠️ Row '%s' failed. Retrying... Attempt %d/%d",
+                        row.getName(), attempt + 1, maxRetry);
+                logger.warn(retryMessage);
+                ExtentReportManager.logWarning(retryMessage);
+                FrameworkMetrics.retried();
+            }
+        }
+    }
+
+    @DataProvider(name = "sharedSessionOutlines", parallel = true)
+    public Object[][] sharedSessionOutlines() {
+        Object[][] groups = outlines.groups();
+        for (Object[] group : groups) {
+            FrameworkMetrics.scenariosQueued(((SharedSessionOutlines.Group) group[0]).rows().size());
+        }
+        return groups;
+    }
+
+    /**
+     * Report the pickle as a cached pass if it passed before under the same fingerprint.
+     */
+    private boolean cachedPass(Pickle pickle, DataRow row) {
+        if (!ResultCache.isCachedPass(pickle.getUri(), pickle.getLine(), pickle.getName(), pickle.getTags(), row)) {
+            return false;
+        }
+        String name = row != null ? row.substitute(pickle.getName()) + " [row " + row.getIndex() + "]" : pickle.getName();
+        ExtentReportManager.createTest(name);
+        ExtentReportManager.logPass("Cached pass: unchanged since it last passed (not run)");
+        FrameworkMetrics.scenarioCached();
+        return true;
     }
 
     @AfterClass(alwaysRun = true)
     public void tearDownClass() throws Exception {
+        // Release sessions kept for a next scenario that will not come
+        DriverManager.quitAll();
         testNGCucumberRunner.finish();
     }
 }
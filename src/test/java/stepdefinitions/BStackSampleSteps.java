@@ -14,7 +14,7 @@ public class BStackSampleSteps {
     private static final Logger logger = LoggerFactory.getLogger(BStackSampleSteps.class);
 
     private BStackSampleScreen sampleScreen() {
-        return PageObjectManager.getInstance().getBStackSampleScreen();
+        return PageObjectManager.get(BStackSampleScreen.class);
     }
 
     private void reportStep(String stepName, String status) {
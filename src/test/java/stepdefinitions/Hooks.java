@@ -1,11 +1,21 @@
 package stepdefinitions;
 
 import com.automation.framework.core.ConfigManager;
-import com.automation.framework.core.DriverFactory;
 import com.automation.framework.core.DriverManager;
+import com.automation.framework.core.ResetPolicy;
+import com.automation.framework.core.ScenarioContext;
+import com.automation.framework.core.SessionAdmissionController;
+import com.automation.framework.data.DataRow;
+import com.automation.framework.logging.ScenarioBufferAppender;
+import com.automation.framework.metrics.FrameworkMetrics;
+import com.automation.framework.metrics.LoadMetrics;
+import com.automation.framework.metrics.TimeAccounting;
 import com.automation.framework.pages.PageObjectManager;
+import com.automation.framework.pages.screens.HomeScreen;
+import com.automation.framework.profiling.FlightRecording;
 import com.automation.framework.reports.ExtentReportManager;
 import com.aventstack.extentreports.Status;
+import io.appium.java_client.AppiumDriver;
 import io.cucumber.java.After;
 import io.cucumber.java.AfterStep;
 import io.cucumber.java.Before;
@@ -13,33 +23,71 @@ import io.cucumber.java.Scenario;
 import org.openqa.selenium.OutputType;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.slf4j.MDC;
+
+import java.time.Duration;
 
 /**
  * Cucumber hooks for test lifecycle management.
  * Integrates with Extent Reports for detailed reporting.
  * 
  * @author Baskar
- * @version 4.1.0
+ * @version 4.3.1
  */
 public class Hooks {
     private static final Logger logger = LoggerFactory.getLogger(Hooks.class);
+    private static final String MDC_SCENARIO = "scenario";
+    private static final String MDC_PLATFORM = "platform";
+    private static final String MDC_DEVICE = "device";
 
     @Before
     public void launchApplication(Scenario scenario) {
-        logger.debug("Starting scenario: {}", scenario.getName());
+        // Log context for every line of this scenario (JSON log carries MDC)
+        MDC.put(MDC_SCENARIO, scenarioName(scenario));
+        MDC.put(MDC_PLATFORM, ConfigManager.getPlatform());
+        ScenarioBufferAppender.startScenario();
+        logger.debug("Starting scenario: {}", scenarioName(scenario));
+        TimeAccounting.start();
+        LoadMetrics.beginScenario();
+        FrameworkMetrics.scenarioStarted();
+        FlightRecording.scenarioStarted(scenarioName(scenario), scenario.getSourceTagNames());
+
+        // Start the scenario clock; waits and finds draw from this budget
+        ScenarioContext context = ScenarioContext.start(scenarioName(scenario), scenario.getSourceTagNames());
 
         // Create test in Extent Report
-        ExtentReportManager.createTest(scenario.getName());
-        ExtentReportManager.logInfo("Scenario started: " + scenario.getName());
+        ExtentReportManager.createTest(scenarioName(scenario));
+        ExtentReportManager.logInfo("Scenario started: " + scenarioName(scenario));
 
         // Log tags if present
         if (!scenario.getSourceTagNames().isEmpty()) {
             ExtentReportManager.logInfo("Tags: " + scenario.getSourceTagNames());
         }
+        if (!context.getBudget().isZero()) {
+            ExtentReportManager.logInfo("Time budget: " + context.getBudget().toSeconds() + "s");
+        }
 
-        // Create driver using DriverFactory (handles platform detection)
-        DriverFactory.createDriver();
-        ExtentReportManager.logInfo("Application launched successfully");
+        // Isolate from the previous scenario as cheaply as tags and its outcome allow:
+        // reset the app on the kept session, or create a new one (DriverFactory)
+        ResetPolicy.Level reset = ResetPolicy.choose(scenario.getSourceTagNames());
+        long setupStart = TimeAccounting.begin();
+        try {
+            AppiumDriver driver = ResetPolicy.apply(reset,
+                    () -> PageObjectManager.get(HomeScreen.class).navigateToHome());
+            Object device = driver.getCapabilities().getCapability("appium:deviceName");
+            if (device == null) {
+                device = driver.getCapabilities().getCapability("deviceName");
+            }
+            MDC.put(MDC_DEVICE, device != null ? device.toString() : "unknown");
+        } finally {
+            TimeAccounting.end(TimeAccounting.Category.SETUP, "reset: " + reset.getKey(), setupStart);
+        }
+        ExtentReportManager.logInfo("Application launched successfully (isolation: " + reset.getKey() + ")");
+        Duration queued = SessionAdmissionController.takeLastWait();
+        if (queued.toMillis() >= 1000) {
+            ExtentReportManager.logInfo("Queued " + queued.toSeconds() + "s for a session slot (limit "
+                    + SessionAdmissionController.currentLimit() + ")");
+        }
 
         logger.debug("Application launched successfully");
     }
@@ -64,24 +112,67 @@ public class Hooks {
 
     @After
     public void executeAfterScenario(Scenario scenario) {
+        long teardownStart = TimeAccounting.begin();
         try {
             if (scenario.isFailed() && DriverManager.hasDriver()) {
                 byte[] screenshot = DriverManager.getDriver().getScreenshotAs(OutputType.BYTES);
-                scenario.attach(screenshot, "image/png", scenario.getName() + "_failure");
-                ExtentReportManager.attachScreenshotOnFailure(screenshot, scenario.getName());
-                ExtentReportManager.logFail("Scenario FAILED: " + scenario.getName());
+                scenario.attach(screenshot, "image/png", scenarioName(scenario) + "_failure");
+                // The failure line follows the screenshot from the same background task
+                ExtentReportManager.attachScreenshotOnFailure(screenshot, scenarioName(scenario),
+                        "Scenario FAILED: " + scenarioName(scenario));
             } else if (scenario.getStatus().toString().equals("PASSED")) {
-                ExtentReportManager.logPass("Scenario PASSED: " + scenario.getName());
+                ExtentReportManager.logPass("Scenario PASSED: " + scenarioName(scenario));
             } else {
                 ExtentReportManager.logStep(Status.SKIP, "Scenario status: " + scenario.getStatus());
             }
         } catch (Exception e) {
             logger.warn("Failed to capture screenshot: {}", e.getMessage());
         } finally {
-            // ALWAYS clean up resources to prevent leaks
-            PageObjectManager.reset(); // Reset page objects for next scenario
-            DriverManager.quitDriver(); // Quit driver
-            logger.debug("Scenario completed: {} - {}", scenario.getName(), scenario.getStatus());
+            // ALWAYS clean up resources to prevent leaks; the session is kept for the
+            // next scenario's reset unless this one failed or every scenario gets its own.
+            // Quitting it runs in the background, like encoding and attaching the
+            // failure screenshot captured above
+            ResetPolicy.finished(scenario.isFailed());
+            if (scenario.isFailed() || !ResetPolicy.keepsSession()) {
+                DriverManager.releaseDriver();
+            } else {
+                DriverManager.keepIdle();
+            }
+            TimeAccounting.end(TimeAccounting.Category.TEARDOWN, "After hook", teardownStart);
+            reportTimeAccounting();
+            ScenarioContext.end();
+            LoadMetrics.endScenario(!scenario.isFailed());
+            FrameworkMetrics.scenarioFinished(scenario.getStatus().name());
+            FlightRecording.scenarioFinished(scenario.getStatus().name());
+            logger.debug("Scenario completed: {} - {}", scenarioName(scenario), scenario.getStatus());
+            // Debug detail reaches the log file only for failed scenarios
+            ScenarioBufferAppender.endScenario(scenario.isFailed());
+            MDC.remove(MDC_SCENARIO);
+            MDC.remove(MDC_PLATFORM);
+            MDC.remove(MDC_DEVICE);
+        }
+    }
+
+    /**
+     * Render where the scenario's wall-clock time went into the Extent report.
+     */
+    private void reportTimeAccounting() {
+        TimeAccounting.Result time = TimeAccounting.finish();
+        if (time == null) {
+            return;
+        }
+        ExtentReportManager.logTable("⏱️ Time accounting (* = wasted)", time.table());
+        if (time.getWastedSeconds() > 0) {
+            ExtentReportManager.logTable("Top wasted-time sinks", time.wastedSinks(5));
         }
     }
+
+    /**
+     * Scenario name, suffixed with the data row for {@code @data:} scenarios so each row
+     * gets its own report node and log context.
+     */
+    private static String scenarioName(Scenario scenario) {
+        DataRow row = DataRow.current();
+        return row != null ? row.substitute(scenario.getName()) + " [row " + row.getIndex() + "]" : scenario.getName();
+    }
 }
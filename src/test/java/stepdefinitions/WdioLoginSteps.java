@@ -1,6 +1,8 @@
 package stepdefinitions;
 
+import com.automation.framework.data.DataRow;
 import com.automation.framework.pages.PageObjectManager;
+import com.automation.framework.pages.locators.WdioLocators;
 import com.automation.framework.pages.screens.HomeScreen;
 import com.automation.framework.pages.screens.LoginScreen;
 import com.automation.framework.reports.ExtentReportManager;
@@ -18,13 +20,13 @@ import io.cucumber.java.en.When;
  */
 public class WdioLoginSteps {
     
-    // Shared page objects via PageObjectManager (no duplicate instances)
+    // Shared page objects via PageObjectManager (one instance per screen class)
     private HomeScreen homeScreen() {
-        return PageObjectManager.getInstance().getHomeScreen();
+        return PageObjectManager.get(HomeScreen.class);
     }
     
     private LoginScreen loginScreen() {
-        return PageObjectManager.getInstance().getLoginScreen();
+        return PageObjectManager.get(LoginScreen.class);
     }
 
     @Given("I navigate to the Login screen")
@@ -35,13 +37,14 @@ public class WdioLoginSteps {
 
     @When("I enter username {string}")
     public void iEnterUsername(String username) {
+        username = DataRow.resolve(username);
         loginScreen().enterEmail(username);
         reportStep("Entered username: " + username, "PASS");
     }
 
     @And("I enter password {string}")
     public void iEnterPassword(String password) {
-        loginScreen().enterPassword(password);
+        loginScreen().enterPassword(DataRow.resolve(password));
         reportStep("Entered password", "PASS");
     }
 
@@ -79,6 +82,20 @@ public class WdioLoginSteps {
         }
     }
     
+    /**
+     * Data-driven outcome check: success, error or validation.
+     */
+    @Then("I should see the {string} login outcome")
+    public void iShouldSeeTheLoginOutcome(String outcome) {
+        switch (DataRow.resolve(outcome).trim().toLowerCase()) {
+            case "success" -> iShouldSeeTheSuccessMessage(WdioLocators.SUCCESS_MESSAGE);
+            case "error" -> iShouldSeeAnErrorMessage();
+            case "validation" -> iShouldSeeValidationErrorForEmptyFields();
+            default -> throw new IllegalArgumentException(
+                    "Unknown login outcome '" + outcome + "' (expected success, error or validation)");
+        }
+    }
+    
     /**
      * Report a test step result (logs to Extent Report).
      */
@@ -0,0 +1,14 @@
+@DataDriven @androidOnly
+Feature: WDIO Demo App Login (external data)
+  Rows come from the file in the @data tag; ${column} placeholders take each row's values.
+  Swap in a large CSV or .xlsx (optionally file.xlsx#Sheet) without changing the scenario.
+
+  Background:
+    Given I navigate to the Login screen
+
+  @data:src/test/resources/data/login-credentials.csv
+  Scenario: Login as "${username}" expecting ${outcome}
+    When I enter username "${username}"
+    And I enter password "${password}"
+    And I tap the Login button
+    Then I should see the "${outcome}" login outcome